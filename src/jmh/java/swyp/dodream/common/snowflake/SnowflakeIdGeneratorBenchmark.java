@@ -0,0 +1,46 @@
+package swyp.dodream.common.snowflake;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// SnowflakeIdGenerator 경합 처리량 측정
+// ./gradlew jmh
+// - nextId: 스레드 수(1/8/32)별 단건 발급
+// - generateIds: bulk insert 용 100 개 묶음 예약
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private SnowflakeIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new SnowflakeIdGenerator(1L);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long nextIdSingleThread() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long nextId8Threads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(32)
+    public long nextId32Threads() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long[] generateIds100With8Threads() {
+        return generator.generateIds(100);
+    }
+}
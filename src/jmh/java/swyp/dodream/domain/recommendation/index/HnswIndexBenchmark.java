@@ -0,0 +1,72 @@
+package swyp.dodream.domain.recommendation.index;
+
+import org.openjdk.jmh.annotations.*;
+import swyp.dodream.domain.recommendation.util.VectorQuantization;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 프로세스 내 HNSW 인덱스 top-10 검색 지연 측정
+// ./gradlew jmh
+// - size: 게시글 수, dimension: Clova 임베딩(1024)
+// - filtered: 모집 중 + 타입 조건 (절반 정도만 통과)
+// - quantization: 1차 탐색 압축 수준 (INT8/BINARY 는 상위 40개를 원본 벡터로 재정렬)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx2g"})
+public class HnswIndexBenchmark {
+
+    private static final int DIMENSION = 1024;
+    private static final int RERANK = 40;
+
+    @Param({"20000"})
+    private int size;
+
+    @Param({"NONE", "INT8", "BINARY"})
+    private VectorQuantization quantization;
+
+    private HnswIndex index;
+    private float[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        index = new HnswIndex(DIMENSION, 16, 100, quantization, null);
+        for (int i = 0; i < size; i++) {
+            HnswIndex.Meta meta = new HnswIndex.Meta(
+                    i % 4 == 0 ? "COMPLETED" : "RECRUITING", i % 2 == 0 ? "PROJECT" : "STUDY", (long) i, null);
+            index.upsert(i, randomVector(random), meta);
+        }
+        queries = new float[64][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = randomVector(random);
+        }
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> search() {
+        return index.search(nextQuery(), 10, 64, RERANK, null);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Hit> filtered() {
+        return index.search(nextQuery(), 10, 64, RERANK,
+                (id, meta) -> "RECRUITING".equals(meta.status()) && "PROJECT".equals(meta.projectType()));
+    }
+
+    private float[] nextQuery() {
+        next = (next + 1) % queries.length;
+        return queries[next];
+    }
+
+    private static float[] randomVector(Random random) {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,44 @@
+package swyp.dodream.domain.recommendation.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 임베딩 코사인 유사도 계산 비용 측정
+// ./gradlew jmh
+// - scalar: 기존 double 누적 루프
+// - vector: Vector API (jdk.incubator.vector, --add-modules 없으면 scalar 와 같음)
+// - dimension: Clova 임베딩(1024) 기준 + 작은/큰 차원
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VectorMathBenchmark {
+
+    @Param({"256", "1024", "1536"})
+    private int dimension;
+
+    private float[] a;
+    private float[] b;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        a = new float[dimension];
+        b = new float[dimension];
+        for (int i = 0; i < dimension; i++) {
+            a[i] = random.nextFloat() * 2 - 1;
+            b[i] = random.nextFloat() * 2 - 1;
+        }
+    }
+
+    @Benchmark
+    public double scalar() {
+        return VectorMath.scalarCosine(a, b);
+    }
+
+    @Benchmark
+    public double vector() {
+        return VectorMath.cosine(a, b);
+    }
+}
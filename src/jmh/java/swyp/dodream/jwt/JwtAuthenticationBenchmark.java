@@ -0,0 +1,69 @@
+package swyp.dodream.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import swyp.dodream.jwt.dto.UserPrincipal;
+import swyp.dodream.jwt.service.JwtAuthenticator;
+import swyp.dodream.jwt.util.JwtUtil;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 요청당 Access Token 인증 비용 측정
+// ./gradlew jmh
+// - legacy: 기존 필터 방식 (validateToken + userId/email/name 추출, 매번 parser 생성 + 서명 검증 4번)
+// - singleParse: 공유 parser 로 1번만 파싱 (캐시 미스와 같은 비용)
+// - cached: JwtAuthenticator 캐시 적중
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-benchmark-secret-key-0123456789";
+
+    private SecretKey secretKey;
+    private JwtUtil jwtUtil;
+    private JwtAuthenticator authenticator;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtUtil = new JwtUtil(SECRET, 3_600_000L, 604_800_000L);
+        authenticator = new JwtAuthenticator(jwtUtil, 10_000L);
+        token = jwtUtil.generateAccessToken(1L, "user@dodream.com", "두드림");
+        authenticator.authenticate(token);
+    }
+
+    @Benchmark
+    public UserPrincipal legacy() {
+        legacyClaims(token);
+        Long userId = Long.parseLong(legacyClaims(token).getSubject());
+        String email = legacyClaims(token).get("email", String.class);
+        String name = legacyClaims(token).get("name", String.class);
+        return new UserPrincipal(userId, email, name);
+    }
+
+    @Benchmark
+    public UserPrincipal singleParse() {
+        Claims claims = jwtUtil.parseClaims(token);
+        return new UserPrincipal(Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class), claims.get("name", String.class));
+    }
+
+    @Benchmark
+    public UserPrincipal cached() {
+        return authenticator.authenticate(token);
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
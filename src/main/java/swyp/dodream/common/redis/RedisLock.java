@@ -0,0 +1,69 @@
+package swyp.dodream.common.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// Redis 분산 락 (실행마다 소유자 토큰)
+//
+// - 획득: SET NX + TTL, 값은 이번 실행의 토큰
+// - 연장/해제: 토큰이 같을 때만 (TTL 이 지나 다른 노드가 가져간 락을 지우지 않음)
+// - Redis 오류는 그대로 던짐 → 락 없이 진행할지는 호출한 쪽에서 결정 (NO_LOCK 사용)
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    /**
+     * 락 없이 진행할 때 쓰는 토큰 (연장/해제 대상 없음)
+     */
+    public static final String NO_LOCK = "";
+
+    // 내가 가진 키일 때만 TTL 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    // 내가 가진 키일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 락 획득
+     * @return 소유자 토큰, 다른 노드가 가지고 있으면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.FALSE.equals(acquired) ? null : token;
+    }
+
+    /**
+     * 아직 가지고 있으면 TTL 연장
+     * @return 연장했으면 true, 이미 잃었으면 false
+     */
+    public boolean renew(String key, String token, Duration ttl) {
+        if (NO_LOCK.equals(token)) {
+            return true;
+        }
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    /**
+     * 아직 가지고 있으면 해제
+     */
+    public void unlock(String key, String token) {
+        if (NO_LOCK.equals(token)) {
+            return;
+        }
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
@@ -1,8 +1,12 @@
 package swyp.dodream.common.snowflake;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 // Snowflake ID 생성기
 // 
@@ -10,8 +14,10 @@ import java.time.Instant;
 // [1비트: 부호][41비트: 타임스탬프][10비트: 노드 ID][12비트: 시퀀스 번호]
 // 
 // - 타임스탬프: 순차성 보장
-// - 노드 ID: 분산 환경에서 고유성 보장
+// - 노드 ID: 분산 환경에서 고유성 보장 (SnowflakeWorkerIdLease 가 인스턴스마다 다른 값 임대)
 // - 시퀀스 번호: 동일 밀리초 내 고유성 보장
+//
+// 락 없이 AtomicLong CAS 로 발급 (여러 스레드가 동시에 호출해도 monitor 경합 없음)
 @Component
 public class SnowflakeIdGenerator {
     
@@ -21,69 +27,69 @@ public class SnowflakeIdGenerator {
     private static final long SEQUENCE_BITS = 12L;
     
     // 최대값 계산
-    private static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
+    static final long MAX_NODE_ID = (1L << NODE_ID_BITS) - 1;
     private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
     
     // 비트 시프트 값
     private static final long NODE_ID_SHIFT = SEQUENCE_BITS;
     private static final long TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
-    
-    // 노드 ID (환경변수 또는 설정에서 가져올 수 있음)
-    private final long nodeId;
-    
-    // 시퀀스 번호와 마지막 타임스탬프
-    private long sequence = 0L;
-    private long lastTimestamp = -1L;
-    
-    public SnowflakeIdGenerator() {
-        // 기본 노드 ID (실제 환경에서는 환경변수나 설정에서 가져와야 함)
-        this.nodeId = 1L;
-        
-        if (nodeId > MAX_NODE_ID || nodeId < 0) {
-            throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
-        }
+
+    // 시계 역행 허용 기본값 (ms)
+    private static final long DEFAULT_MAX_CLOCK_DRIFT_MS = 10L;
+
+    // 노드 ID (Redis 임대 또는 설정값, 임대를 잃으면 바뀔 수 있어 매번 읽음)
+    private final LongSupplier nodeId;
+
+    // 시계가 이만큼까지 뒤로 가면 마지막 타임스탬프의 시퀀스를 이어서 씀 (넘으면 예외)
+    private final long maxClockDriftMs;
+
+    // [41비트: 마지막으로 발급한 타임스탬프][12비트: 시퀀스] 를 하나의 long 으로 묶어서 CAS
+    // 시퀀스가 넘치면 타임스탬프 자리로 올림 → 다음 밀리초 번호를 미리 빌려 씀
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public SnowflakeIdGenerator(SnowflakeWorkerIdLease workerIdLease,
+                                @Value("${snowflake.max-clock-drift-ms:10}") long maxClockDriftMs) {
+        this.nodeId = workerIdLease::workerId;
+        this.maxClockDriftMs = maxClockDriftMs;
     }
     
     public SnowflakeIdGenerator(long nodeId) {
-        this.nodeId = nodeId;
-        
         if (nodeId > MAX_NODE_ID || nodeId < 0) {
             throw new IllegalArgumentException("Node ID must be between 0 and " + MAX_NODE_ID);
         }
+        this.nodeId = () -> nodeId;
+        this.maxClockDriftMs = DEFAULT_MAX_CLOCK_DRIFT_MS;
     }
     
     // 다음 Snowflake ID 생성
-    public synchronized long nextId() {
-        long timestamp = getCurrentTimestamp();
-        
-        // 시계가 뒤로 가는 경우 처리
-        if (timestamp < lastTimestamp) {
-            throw new RuntimeException("Clock moved backwards. Refusing to generate id for " + 
-                (lastTimestamp - timestamp) + " milliseconds");
+    public long nextId() {
+        return toId(reserve(1), nodeId.getAsLong());
+    }
+
+    /**
+     * count 개의 ID 를 한 번에 예약 (bulk insert 용)
+     * 4096 개 단위로 연속 구간을 CAS 한 번에 가져오므로 ID 는 오름차순
+     */
+    public long[] generateIds(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative");
         }
-        
-        // 같은 밀리초 내에서 시퀀스 증가
-        if (timestamp == lastTimestamp) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0L) {
-                // 시퀀스가 최대값에 도달하면 다음 밀리초까지 대기
-                timestamp = waitNextMillis(lastTimestamp);
+        long[] ids = new long[count];
+        int filled = 0;
+        while (filled < count) {
+            int chunk = (int) Math.min(count - filled, MAX_SEQUENCE + 1);
+            long first = reserve(chunk);
+            long node = nodeId.getAsLong();
+            for (int i = 0; i < chunk; i++) {
+                ids[filled++] = toId(first + i, node);
             }
-        } else {
-            // 새로운 밀리초이므로 시퀀스 초기화
-            sequence = 0L;
         }
-        
-        lastTimestamp = timestamp;
-        
-        // Snowflake ID 조합
-        return ((timestamp - EPOCH) << TIMESTAMP_SHIFT) |
-               (nodeId << NODE_ID_SHIFT) |
-               sequence;
+        return ids;
     }
 
     // chat에서 사용하는 메서드: String ID 생성 (기존 nextId() 재사용)
-    public synchronized String nextStringId() {
+    public String nextStringId() {
         return String.valueOf(nextId());  // Long → String 변환
     }
 
@@ -100,21 +106,49 @@ public class SnowflakeIdGenerator {
     }
     
     /**
-     * 현재 타임스탬프 가져오기
+     * 상태값(타임스탬프+시퀀스) count 개를 예약하고 첫 번째 값을 반환 (count <= 4096)
+     *
+     * - 현재 시각이 마지막 발급 시각보다 앞서면 새 밀리초의 시퀀스 0 부터
+     * - 같은 밀리초거나 시계가 조금 뒤로 갔으면 마지막 값 다음부터 (시퀀스가 넘치면 다음 밀리초를 빌림)
+     * - 빌린 시각이 실제 시각보다 max-clock-drift-ms 이상 앞서게 되면 시계가 따라올 때까지 잠시 대기
+     * - 시계가 max-clock-drift-ms 넘게 뒤로 간 경우는 중복 위험이 있으므로 예외
      */
-    private long getCurrentTimestamp() {
-        return Instant.now().toEpochMilli();
+    private long reserve(int count) {
+        while (true) {
+            long current = state.get();
+            long now = getCurrentTimestamp() - EPOCH;
+
+            long first = Math.max(current + 1, now << SEQUENCE_BITS);
+            long last = first + count - 1;
+
+            if ((last >>> SEQUENCE_BITS) - now > maxClockDriftMs) {
+                long behindMs = (current >>> SEQUENCE_BITS) - now;
+                if (behindMs > maxClockDriftMs) {
+                    throw new IllegalStateException("Clock moved backwards. Refusing to generate id for " +
+                            behindMs + " milliseconds");
+                }
+                // 빌릴 수 있는 시퀀스를 다 씀 - 시계가 따라올 때까지 대기
+                LockSupport.parkNanos(100_000L);
+                continue;
+            }
+
+            if (state.compareAndSet(current, last)) {
+                return first;
+            }
+        }
     }
-    
+
+    private static long toId(long packed, long nodeId) {
+        return ((packed >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT) |
+               (nodeId << NODE_ID_SHIFT) |
+               (packed & MAX_SEQUENCE);
+    }
+
     /**
-     * 다음 밀리초까지 대기
+     * 현재 타임스탬프 가져오기
      */
-    private long waitNextMillis(long lastTimestamp) {
-        long timestamp = getCurrentTimestamp();
-        while (timestamp <= lastTimestamp) {
-            timestamp = getCurrentTimestamp();
-        }
-        return timestamp;
+    private long getCurrentTimestamp() {
+        return System.currentTimeMillis();
     }
     
     /**
@@ -124,6 +158,13 @@ public class SnowflakeIdGenerator {
         return (snowflakeId >> TIMESTAMP_SHIFT) + EPOCH;
     }
     
+    /**
+     * 해당 시각(epoch millis)에 만들어진 ID 중 가장 작은 값 (시간 범위를 id 범위로 조회/삭제할 때 사용)
+     */
+    public long minIdAt(long epochMillis) {
+        return Math.max(epochMillis - EPOCH, 0L) << TIMESTAMP_SHIFT;
+    }
+
     /**
      * Snowflake ID에서 노드 ID 추출
      */
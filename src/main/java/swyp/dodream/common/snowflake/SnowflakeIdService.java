@@ -3,6 +3,10 @@ package swyp.dodream.common.snowflake;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
 // Snowflake ID 서비스
 // 애플리케이션에서 Snowflake ID를 생성하고 관리하는 서비스
 @Service
@@ -16,6 +20,11 @@ public class SnowflakeIdService {
         return snowflakeIdGenerator.nextId();
     }
 
+    // 여러 개를 한 번에 생성 (bulk insert 용, 오름차순)
+    public List<Long> generateIds(int count) {
+        return Arrays.stream(snowflakeIdGenerator.generateIds(count)).boxed().toList();
+    }
+
     // chat에서 사용하는: String ID
     public String nextStringId() {
         return snowflakeIdGenerator.nextStringId();
@@ -43,6 +52,11 @@ public class SnowflakeIdService {
         return snowflakeIdGenerator.extractTimestamp(id);
     }
     
+    // 해당 시각 이후에 만들어진 ID 의 최솟값 (id < minIdAt(t) 이면 t 이전에 만들어진 데이터)
+    public long minIdAt(Instant instant) {
+        return snowflakeIdGenerator.minIdAt(instant.toEpochMilli());
+    }
+    
     // Snowflake ID에서 노드 ID 추출
     public Long extractNodeId(Long id) {
         if (id == null) {
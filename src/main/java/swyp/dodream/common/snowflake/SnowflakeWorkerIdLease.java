@@ -0,0 +1,144 @@
+package swyp.dodream.common.snowflake;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Snowflake 워커(노드) ID 임대
+//
+// 인스턴스마다 서로 다른 워커 ID 를 쓰도록 Redis 에 "snowflake:worker:{id}" 키를 TTL 로 선점한다.
+// - snowflake.worker-id 가 설정돼 있으면 임대 없이 그 값을 그대로 사용
+// - 임대한 키는 TTL 의 1/3 주기로 갱신, 갱신에 실패하면(키를 잃음) 다시 임대
+// - 기동 시 Redis 를 쓸 수 없으면 임의의 워커 ID 로 시작하고, 갱신 주기에 다시 임대를 시도
+@Slf4j
+@Component
+public class SnowflakeWorkerIdLease {
+
+    private static final String KEY_PREFIX = "snowflake:worker:";
+
+    // 내가 가진 키일 때만 TTL 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    // 내가 가진 키일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long configuredWorkerId;
+    private final Duration ttl;
+    private final String owner;
+
+    private volatile long workerId;
+    private volatile boolean leased;
+
+    public SnowflakeWorkerIdLease(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${snowflake.worker-id:-1}") long configuredWorkerId,
+            @Value("${snowflake.worker-lease.ttl-seconds:60}") long ttlSeconds
+    ) {
+        if (configuredWorkerId > SnowflakeIdGenerator.MAX_NODE_ID) {
+            throw new IllegalArgumentException("snowflake.worker-id must be between 0 and " + SnowflakeIdGenerator.MAX_NODE_ID);
+        }
+        this.redisTemplate = redisTemplate;
+        this.configuredWorkerId = configuredWorkerId;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    @PostConstruct
+    void acquire() {
+        if (configuredWorkerId >= 0) {
+            workerId = configuredWorkerId;
+            log.info("[Snowflake] 설정된 워커 ID 사용: {}", workerId);
+            return;
+        }
+
+        // 임대 실패 시에도 바로 ID 를 만들 수 있도록 임의 값으로 시작
+        workerId = ThreadLocalRandom.current().nextLong(SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        if (!tryLease(workerId)) {
+            log.warn("[Snowflake] 워커 ID 임대 실패, 임의 워커 ID {} 로 시작 (다음 갱신 주기에 재시도)", workerId);
+        }
+    }
+
+    public long workerId() {
+        return workerId;
+    }
+
+    @Scheduled(fixedDelayString = "${snowflake.worker-lease.renew-interval-ms:20000}")
+    public void renew() {
+        if (configuredWorkerId >= 0) {
+            return;
+        }
+        if (leased) {
+            try {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + workerId),
+                        owner, String.valueOf(ttl.toMillis()));
+                if (renewed != null && renewed == 1L) {
+                    return;
+                }
+                log.error("[Snowflake] 워커 ID {} 임대를 잃음, 다시 임대합니다", workerId);
+                leased = false;
+            } catch (Exception e) {
+                // Redis 일시 장애 - 키가 만료되기 전까지는 계속 사용
+                log.warn("[Snowflake] 워커 ID 임대 갱신 실패: {}", e.getMessage());
+                return;
+            }
+        }
+        tryLease(workerId);
+    }
+
+    @PreDestroy
+    void release() {
+        if (!leased) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + workerId), owner);
+        } catch (Exception e) {
+            log.warn("[Snowflake] 워커 ID 반납 실패 (TTL 후 만료): {}", e.getMessage());
+        }
+    }
+
+    // 선호 ID 부터 시작해서 빈 워커 ID 를 순서대로 선점
+    private boolean tryLease(long preferred) {
+        try {
+            long slots = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+            for (long i = 0; i < slots; i++) {
+                long candidate = (preferred + i) % slots;
+                Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + candidate, owner, ttl);
+                if (Boolean.TRUE.equals(acquired)) {
+                    workerId = candidate;
+                    leased = true;
+                    log.info("[Snowflake] 워커 ID 임대: {}", candidate);
+                    return true;
+                }
+            }
+            log.error("[Snowflake] 사용 가능한 워커 ID 가 없습니다");
+        } catch (Exception e) {
+            log.warn("[Snowflake] 워커 ID 임대 중 Redis 오류: {}", e.getMessage());
+        }
+        return false;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -1,9 +1,14 @@
 package swyp.dodream.config;
 
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Qdrant 벡터 데이터베이스 설정 (REST API 사용)
  */
@@ -19,6 +24,15 @@ public class QdrantConfig {
     @Value("${qdrant.timeout:30}")
     private int timeoutSeconds;
 
+    @Value("${qdrant.pool.max-idle-connections:16}")
+    private int maxIdleConnections;
+
+    @Value("${qdrant.pool.keep-alive-minutes:5}")
+    private long keepAliveMinutes;
+
+    @Value("${qdrant.pool.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
     /**
      * Qdrant REST API 베이스 URL
      */
@@ -34,4 +48,24 @@ public class QdrantConfig {
     public int qdrantTimeout() {
         return timeoutSeconds;
     }
+
+    /**
+     * Qdrant 전용 공유 HTTP 클라이언트
+     * - 커넥션 풀을 재사용해 요청마다 TCP 연결을 새로 맺지 않음
+     * - 비동기 호출(enqueue) 동시 요청 수를 호스트당 maxRequestsPerHost 로 제한
+     */
+    @Bean
+    public OkHttpClient qdrantHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequestsPerHost);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveMinutes, TimeUnit.MINUTES))
+                .dispatcher(dispatcher)
+                .connectTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .readTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .writeTimeout(timeoutSeconds, TimeUnit.SECONDS)
+                .build();
+    }
 }
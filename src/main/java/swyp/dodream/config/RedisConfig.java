@@ -10,6 +10,7 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -35,6 +36,16 @@ public class RedisConfig {
         return template;
     }
 
+    // 임베딩 벡터 캐시용 템플릿 (값은 float32 little-endian 바이트 그대로 저장)
+    @Bean
+    public RedisTemplate<String, byte[]> embeddingRedisTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+
     // 알림용 json 전송하는 템플릿
     @Bean
     public RedisTemplate<String, Object> notificationRedisTemplate(RedisConnectionFactory connectionFactory) {
@@ -51,6 +62,12 @@ public class RedisConfig {
         return new ChannelTopic("notification");
     }
 
+    // 채팅 노드 간 fan-out 채널
+    @Bean
+    public ChannelTopic chatTopic() {
+        return new ChannelTopic("chat");
+    }
+
     @Bean
     public MessageListenerAdapter notificationListenerAdapter(
             swyp.dodream.domain.notification.infra.RedisNotificationSubscriber subscriber
@@ -63,11 +80,14 @@ public class RedisConfig {
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
             MessageListenerAdapter notificationListenerAdapter,
-            ChannelTopic notificationTopic
+            ChannelTopic notificationTopic,
+            swyp.dodream.domain.chat.service.RedisPubSubService chatSubscriber,
+            ChannelTopic chatTopic
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
         container.addMessageListener(notificationListenerAdapter, notificationTopic);
+        container.addMessageListener(chatSubscriber, chatTopic);
         return container;
     }
 }
@@ -12,6 +12,7 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import swyp.dodream.jwt.filter.JwtAuthenticationFilter;
+import swyp.dodream.jwt.service.JwtAuthenticator;
 import swyp.dodream.jwt.util.JwtUtil;
 import swyp.dodream.login.handler.OAuth2SuccessHandler;
 import swyp.dodream.login.service.AuthService;
@@ -27,6 +28,7 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2SuccessHandler oAuth2SuccessHandler;
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticator jwtAuthenticator;
     private final AuthService authService;
 
     // 인증 없이 접근 가능한 URL 목록
@@ -49,17 +51,19 @@ public class SecurityConfig {
     public SecurityConfig(CustomOAuth2UserService customOAuth2UserService,
                           OAuth2SuccessHandler oAuth2SuccessHandler,
                           JwtUtil jwtUtil,
+                          JwtAuthenticator jwtAuthenticator,
                           AuthService authService) {
         this.customOAuth2UserService = customOAuth2UserService;
         this.oAuth2SuccessHandler = oAuth2SuccessHandler;
         this.jwtUtil = jwtUtil;
+        this.jwtAuthenticator = jwtAuthenticator;
         this.authService = authService;
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         // JWT 인증 필터 생성 (자동 재발급 기능 포함)
-        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtUtil, authService);
+        JwtAuthenticationFilter jwtFilter = new JwtAuthenticationFilter(jwtUtil, jwtAuthenticator, authService);
 
         http
                 // CSRF 비활성화 (REST API용)
@@ -0,0 +1,241 @@
+package swyp.dodream.domain.ai.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 임베딩 캐시 (EmbeddingService 데코레이터)
+ *
+ * - 키: sha256(모델명 + 텍스트) → 같은 텍스트는 Clova 를 다시 호출하지 않음
+ * - 1차: 프로세스 내 Caffeine (W-TinyLFU, 최대 개수 제한)
+ * - 2차: Redis (float32 little-endian 바이트, TTL) → 재기동/다중 노드 간 공유
+ * - Redis 장애 시 캐시를 건너뛰고 원본 서비스를 그대로 호출
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "ai.provider", havingValue = "ncp", matchIfMissing = false)
+public class CachingEmbeddingService implements EmbeddingService {
+
+    private static final String KEY_PREFIX = "embedding:";
+
+    private final EmbeddingService delegate;
+    private final RedisTemplate<String, byte[]> embeddingRedisTemplate;
+    private final String model;
+    private final Duration redisTtl;
+    private final Cache<String, float[]> localCache;
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CachingEmbeddingService(
+            @Qualifier("clovaEmbeddingServiceImpl") EmbeddingService delegate,
+            RedisTemplate<String, byte[]> embeddingRedisTemplate,
+            @Value("${clova.embedding.model}") String model,
+            @Value("${embedding.cache.max-size:10000}") long maxSize,
+            @Value("${embedding.cache.redis-ttl-hours:168}") long redisTtlHours
+    ) {
+        this.delegate = delegate;
+        this.embeddingRedisTemplate = embeddingRedisTemplate;
+        this.model = model;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    @Override
+    public float[] embed(String text) {
+        String key = cacheKey(text);
+
+        // 1. 로컬 캐시
+        float[] cached = localCache.getIfPresent(key);
+        if (cached != null) {
+            localHits.increment();
+            return cached.clone();
+        }
+
+        // 2. Redis
+        cached = readRedis(key);
+        if (cached != null) {
+            redisHits.increment();
+            localCache.put(key, cached);
+            return cached.clone();
+        }
+
+        // 3. 원본 호출 후 양쪽에 저장
+        misses.increment();
+        float[] embedding = delegate.embed(text);
+        localCache.put(key, embedding.clone());
+        writeRedis(key, embedding);
+        return embedding;
+    }
+
+    /**
+     * 로컬 캐시 → Redis(MGET 한 번) → 남은 텍스트만 원본 embedAll 로 일괄 변환
+     */
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        float[][] embeddings = new float[texts.size()][];
+        List<String> keys = texts.stream().map(this::cacheKey).toList();
+
+        // 1. 로컬 캐시
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < texts.size(); i++) {
+            float[] cached = localCache.getIfPresent(keys.get(i));
+            if (cached != null) {
+                localHits.increment();
+                embeddings[i] = cached.clone();
+            } else {
+                pending.add(i);
+            }
+        }
+
+        // 2. Redis
+        List<Integer> missed = new ArrayList<>();
+        List<byte[]> values = readRedis(pending.stream().map(keys::get).toList());
+        for (int j = 0; j < pending.size(); j++) {
+            int i = pending.get(j);
+            byte[] bytes = values != null ? values.get(j) : null;
+            if (bytes != null) {
+                redisHits.increment();
+                float[] cached = fromBytes(bytes);
+                localCache.put(keys.get(i), cached);
+                embeddings[i] = cached.clone();
+            } else {
+                missed.add(i);
+            }
+        }
+
+        // 3. 원본 일괄 호출 후 양쪽에 저장
+        if (!missed.isEmpty()) {
+            misses.add(missed.size());
+            List<float[]> fetched = delegate.embedAll(missed.stream().map(texts::get).toList());
+            for (int j = 0; j < missed.size(); j++) {
+                int i = missed.get(j);
+                float[] embedding = fetched.get(j);
+                if (embedding != null) {
+                    localCache.put(keys.get(i), embedding.clone());
+                    writeRedis(keys.get(i), embedding);
+                }
+                embeddings[i] = embedding;
+            }
+        }
+        return Arrays.asList(embeddings);
+    }
+
+    @Override
+    public void invalidate(String text) {
+        if (text == null) {
+            return;
+        }
+        String key = cacheKey(text);
+        localCache.invalidate(key);
+        try {
+            embeddingRedisTemplate.delete(KEY_PREFIX + key);
+        } catch (Exception e) {
+            log.warn("[EmbeddingCache] Redis 캐시 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 적중률 (로컬 적중 + Redis 적중) / 전체 요청
+     */
+    public double hitRate() {
+        long hits = localHits.sum() + redisHits.sum();
+        long total = hits + misses.sum();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    /**
+     * 캐시 적중/미스 통계 주기적 기록
+     */
+    @Scheduled(fixedDelayString = "${embedding.cache.stats-interval-ms:600000}")
+    public void logStats() {
+        long local = localHits.sum();
+        long redis = redisHits.sum();
+        long miss = misses.sum();
+        if (local + redis + miss == 0) {
+            return;
+        }
+        log.info("[EmbeddingCache] localHit={}, redisHit={}, miss={}, hitRate={}, localSize={}",
+                local, redis, miss, String.format("%.3f", hitRate()), localCache.estimatedSize());
+    }
+
+    // ===== helpers =====
+
+    private String cacheKey(String text) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(model.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private float[] readRedis(String key) {
+        try {
+            byte[] bytes = embeddingRedisTemplate.opsForValue().get(KEY_PREFIX + key);
+            return bytes != null ? fromBytes(bytes) : null;
+        } catch (Exception e) {
+            log.warn("[EmbeddingCache] Redis 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private List<byte[]> readRedis(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return embeddingRedisTemplate.opsForValue().multiGet(keys.stream().map(key -> KEY_PREFIX + key).toList());
+        } catch (Exception e) {
+            log.warn("[EmbeddingCache] Redis 캐시 일괄 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, float[] embedding) {
+        try {
+            embeddingRedisTemplate.opsForValue().set(KEY_PREFIX + key, toBytes(embedding), redisTtl);
+        } catch (Exception e) {
+            log.warn("[EmbeddingCache] Redis 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private static byte[] toBytes(float[] vector) {
+        ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asFloatBuffer().put(vector);
+        return buffer.array();
+    }
+
+    private static float[] fromBytes(byte[] bytes) {
+        float[] vector = new float[bytes.length / Float.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+        return vector;
+    }
+}
@@ -1,5 +1,7 @@
 package swyp.dodream.domain.ai.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,9 +14,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 /**
  * NCP Clova Embedding API 구현
@@ -41,8 +49,62 @@ public class ClovaEmbeddingServiceImpl implements EmbeddingService {
     @Value("${clova.embedding.model}")
     private String model;
 
+    // 여러 요청에서 동시에 embedAll 을 호출해도 Clova 동시 호출 수는 이 값으로 제한
+    @Value("${clova.embedding.concurrency:8}")
+    private int concurrency;
+
     private final RestTemplate restTemplate;
 
+    private final ExecutorService embedExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("clova-embed-", 0).factory());
+    private Semaphore embedPermits;
+
+    @PostConstruct
+    void initPermits() {
+        embedPermits = new Semaphore(concurrency);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        embedExecutor.shutdownNow();
+    }
+
+    /**
+     * 가상 스레드에서 병렬 호출 (동시 호출 수 제한), 개별 실패는 null
+     */
+    @Override
+    public List<float[]> embedAll(List<String> texts) {
+        if (texts.size() <= 1) {
+            return EmbeddingService.super.embedAll(texts);
+        }
+
+        List<Future<float[]>> futures = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            futures.add(embedExecutor.submit(() -> {
+                embedPermits.acquire();
+                try {
+                    return embed(text);
+                } finally {
+                    embedPermits.release();
+                }
+            }));
+        }
+
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        for (Future<float[]> future : futures) {
+            try {
+                embeddings.add(future.get());
+            } catch (ExecutionException e) {
+                log.warn("Clova 일괄 임베딩 중 실패: {}", e.getCause().getMessage());
+                embeddings.add(null);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                embeddings.add(null);
+            }
+        }
+        return embeddings;
+    }
+
     @Override
     public float[] embed(String text) {
         log.info("Clova Embedding API 호출 시작");
@@ -1,5 +1,8 @@
 package swyp.dodream.domain.ai.service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 임베딩 서비스 인터페이스
  * 텍스트를 벡터로 변환하는 기능 제공
@@ -11,5 +14,31 @@ public interface EmbeddingService {
      * @return 벡터 배열 (float[])
      */
     float[] embed(String text);
+
+    /**
+     * 여러 텍스트를 한 번에 변환
+     * 기본 구현은 한 건씩 순서대로 호출 (구현체에서 병렬/캐시 일괄 조회로 재정의)
+     * @param texts 변환할 텍스트 목록
+     * @return 입력과 같은 순서의 벡터 목록 (변환에 실패한 텍스트는 null)
+     */
+    default List<float[]> embedAll(List<String> texts) {
+        List<float[]> embeddings = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            try {
+                embeddings.add(embed(text));
+            } catch (Exception e) {
+                embeddings.add(null);
+            }
+        }
+        return embeddings;
+    }
+
+    /**
+     * 텍스트에 대한 캐시된 벡터 제거 (원본 텍스트가 바뀐 경우 호출)
+     * 캐시를 사용하지 않는 구현은 아무 것도 하지 않음
+     * @param text 더 이상 사용하지 않는 텍스트
+     */
+    default void invalidate(String text) {
+    }
 }
 
@@ -12,6 +12,7 @@ import swyp.dodream.domain.post.domain.Post;
 import swyp.dodream.domain.user.domain.User;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -20,6 +21,10 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      * 특정 게시글에 특정 유저가 지원했는지 확인
      */
     boolean existsByPostAndApplicant(Post post, User applicant);
+
+    // 유저가 지원한 모집글 ID 전체 (추천 후보 제외용)
+    @Query("SELECT a.post.id FROM Application a WHERE a.applicant.id = :userId")
+    List<Long> findPostIdsByApplicantId(@Param("userId") Long userId);
     boolean existsByPostIdAndApplicantId(Long postId, Long applicantId);
 
     Optional<Application> findByIdAndApplicantId(Long id, Long applicantId);
@@ -95,4 +100,11 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     Optional<Application> findByPostIdAndApplicantIdAndStatus(Long postId, Long applicantId, ApplicationStatus status);
 
     Optional<Application> findByPostIdAndApplicantId(Long postId, Long applicantId);
+
+    /**
+     * 여러 게시글에 대한 특정 유저의 지원 내역 일괄 조회 (목록 응답 N+1 방지)
+     */
+    List<Application> findByPostIdInAndApplicantIdAndStatusIn(
+            Collection<Long> postIds, Long applicantId, Collection<ApplicationStatus> statuses
+    );
 }
@@ -9,6 +9,7 @@ import swyp.dodream.domain.bookmark.domain.Bookmark;
 import swyp.dodream.domain.post.common.ProjectType;
 import swyp.dodream.domain.post.domain.Post;
 import swyp.dodream.domain.user.domain.User;
+import java.util.Collection;
 import java.util.List;
 
 public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
@@ -43,4 +44,8 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
 
     @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId")
     List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT b.post.id FROM Bookmark b WHERE b.user.id = :userId AND b.post.id IN :postIds")
+    List<Long> findPostIdsByUserIdAndPostIdIn(@Param("userId") Long userId,
+                                              @Param("postIds") Collection<Long> postIds);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package swyp.dodream.domain.chat.config;
 
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.Message;
@@ -8,86 +9,106 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
+import swyp.dodream.domain.chat.service.ChatTopicMatcher;
 import swyp.dodream.jwt.dto.UserPrincipal;
-import swyp.dodream.jwt.util.JwtUtil;
+import swyp.dodream.jwt.service.JwtAuthenticator;
 
+import java.util.Map;
+
+// STOMP 세션 인증
+// - CONNECT: Authorization 헤더의 JWT 를 한 번 검증하고 사용자/만료 시각을 세션 속성에 저장
+//   (accessor.setUser 로 넣은 인증 정보는 이후 같은 세션의 프레임에 자동으로 붙음)
+// - SEND/SUBSCRIBE: 토큰을 다시 파싱하지 않고 세션 속성만 확인
+// - SUBSCRIBE: 채팅방 토픽의 참여자(리더/멤버)만 구독 가능
+// - 토큰이 만료된 세션은 StompSessionRegistry 가 주기적으로 닫음
+// 거부할 때 예외를 던지면 클라이언트에 ERROR 프레임이 전송됨
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class StompHandler implements ChannelInterceptor {
 
-    private final JwtUtil jwtUtil;
+    private static final String PRINCIPAL_ATTR = "stomp.principal";
+    private static final String EXPIRES_AT_ATTR = "stomp.expiresAt";
+
+    private final JwtAuthenticator jwtAuthenticator;
+    private final StompSessionRegistry sessionRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
 
-        if (accessor == null) {
-            log.warn("StompHeaderAccessor is null!");
-            return message;
+        if (accessor == null || accessor.getCommand() == null) {
+            return message; // heartbeat 등
         }
 
         StompCommand command = accessor.getCommand();
-        log.debug("STOMP Command: {}", command);
-
-        // CONNECT와 SEND 모두 처리
-        if (StompCommand.CONNECT.equals(command) || StompCommand.SEND.equals(command)) {
-
-            log.info("=== STOMP {} 처리 시작 ===", command);
-
-            String authToken = accessor.getFirstNativeHeader("Authorization");
-            log.info("Authorization 헤더: {}", authToken != null ? "존재함" : "없음");
-
-            if (authToken == null || !authToken.startsWith("Bearer ")) {
-                log.error("{}: Authorization 헤더 누락 또는 형식 오류", command);
-                return message; // SEND는 예외를 던지지 않고 그냥 통과시킴
-            }
-
-            String token = authToken.substring(7);
-            log.debug("토큰 길이: {}, 앞 20자: {}...", token.length(), token.substring(0, Math.min(20, token.length())));
-
-            // JWT 유효성 검증
-            boolean isValid = jwtUtil.validateToken(token);
-            log.info("JWT 유효성 검증 결과: {}", isValid);
-
-            if (!isValid) {
-                log.error("{}:유효하지 않은 JWT 토큰!", command);
-                return message; // SEND는 예외를 던지지 않고 그냥 통과시킴
+        switch (command) {
+            case CONNECT -> connect(accessor);
+            case SEND -> requirePrincipal(accessor);
+            case SUBSCRIBE -> authorizeSubscription(accessor);
+            default -> {
             }
+        }
 
-            try {
-                log.debug("JWT에서 사용자 정보 추출 시작...");
+        return message;
+    }
 
-                Long userId = jwtUtil.getUserIdFromToken(token);
-                log.debug("추출된 userId: {}", userId);
+    private void connect(StompHeaderAccessor accessor) {
+        String authToken = accessor.getFirstNativeHeader("Authorization");
+        if (authToken == null || !authToken.startsWith("Bearer ")) {
+            log.warn("STOMP CONNECT: Authorization 헤더 누락 또는 형식 오류");
+            throw new AccessDeniedException("인증 정보가 없습니다.");
+        }
 
-                String email = jwtUtil.getEmailFromToken(token);
-                log.debug("추출된 email: {}", email);
+        JwtAuthenticator.VerifiedToken verified;
+        try {
+            verified = jwtAuthenticator.verify(authToken.substring(7));
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("STOMP CONNECT: 유효하지 않은 JWT 토큰 - {}: {}", e.getClass().getSimpleName(), e.getMessage());
+            throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+        }
 
-                String name = jwtUtil.getNameFromToken(token);
-                log.debug("추출된 name: {}", name);
+        Map<String, Object> attributes = sessionAttributes(accessor);
+        attributes.put(PRINCIPAL_ATTR, verified.principal());
+        attributes.put(EXPIRES_AT_ATTR, verified.expiresAtMillis());
+        sessionRegistry.authenticated(accessor.getSessionId(), verified.expiresAtMillis());
 
-                UserPrincipal userPrincipal = new UserPrincipal(userId, email, name);
-                log.info("UserPrincipal 생성 완료: {}", userPrincipal);
+        accessor.setUser(new UsernamePasswordAuthenticationToken(verified.principal(), null, null));
+        log.debug("STOMP CONNECT 인증 완료 - UserId: {}, SessionId: {}",
+                verified.principal().getUserId(), accessor.getSessionId());
+    }
 
-                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                        userPrincipal,
-                        null,
-                        null
-                );
+    private UserPrincipal requirePrincipal(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = sessionAttributes(accessor);
+        if (!(attributes.get(PRINCIPAL_ATTR) instanceof UserPrincipal principal)
+                || !(attributes.get(EXPIRES_AT_ATTR) instanceof Long expiresAt)) {
+            throw new AccessDeniedException("인증되지 않은 세션입니다.");
+        }
+        // 만료 후 스케줄러가 세션을 닫기 전까지의 프레임도 거부
+        if (expiresAt <= System.currentTimeMillis()) {
+            throw new AccessDeniedException("토큰이 만료되었습니다. 다시 연결해주세요.");
+        }
+        return principal;
+    }
 
-                accessor.setUser(authentication);
-                log.info("STOMP {} 인증 완료 - UserId: {}", command, userId);
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        UserPrincipal principal = requirePrincipal(accessor);
+        ChatTopicMatcher.ChatTopic topic = ChatTopicMatcher.match(accessor.getDestination())
+                .orElseThrow(() -> new AccessDeniedException("유효하지 않은 채팅방 토픽입니다."));
 
-            } catch (Exception e) {
-                log.error("{}: JWT 토큰 파싱 실패 - {}: {}", command, e.getClass().getSimpleName(), e.getMessage(), e);
-                return message; // 예외 발생 시에도 그냥 통과
-            }
+        if (!topic.isParticipant(principal.getUserId())) {
+            throw new AccessDeniedException("이 채팅방을 구독할 권한이 없습니다.");
         }
+    }
 
-        return message;
+    private static Map<String, Object> sessionAttributes(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) {
+            throw new AccessDeniedException("세션 정보가 없습니다.");
+        }
+        return attributes;
     }
-}
\ No newline at end of file
+}
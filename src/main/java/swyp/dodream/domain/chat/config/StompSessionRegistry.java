@@ -0,0 +1,73 @@
+package swyp.dodream.domain.chat.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// STOMP(WebSocket) 세션 레지스트리
+// - CONNECT 때 검증한 토큰 만료 시각을 세션별로 기록
+// - 주기적으로 토큰이 만료된 세션을 닫음 (클라이언트는 새 토큰으로 재연결)
+// - SEND/SUBSCRIBE 는 토큰을 다시 검증하지 않고 CONNECT 때 세션에 저장한 사용자 정보만 사용
+@Slf4j
+@Component
+public class StompSessionRegistry {
+
+    // 세션 만료 시 닫는 상태 코드 (클라이언트가 재인증 후 재연결하도록)
+    private static final CloseStatus TOKEN_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("token expired");
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Map<String, Long> expiresAt = new ConcurrentHashMap<>();
+
+    // 연결/종료 시 레지스트리에 등록/해제하는 WebSocketHandler 데코레이터
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                expiresAt.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // CONNECT 인증 성공 시 토큰 만료 시각 기록
+    public void authenticated(String sessionId, long expiresAtMillis) {
+        if (sessions.containsKey(sessionId)) {
+            expiresAt.put(sessionId, expiresAtMillis);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.websocket.session-expiry-check-ms:30000}")
+    public void closeExpiredSessions() {
+        long now = System.currentTimeMillis();
+        expiresAt.forEach((sessionId, expiry) -> {
+            if (expiry > now) {
+                return;
+            }
+            expiresAt.remove(sessionId);
+            WebSocketSession session = sessions.remove(sessionId);
+            if (session == null) {
+                return;
+            }
+            try {
+                session.close(TOKEN_EXPIRED);
+                log.debug("토큰 만료로 STOMP 세션 종료: {}", sessionId);
+            } catch (Exception e) {
+                log.debug("STOMP 세션 종료 실패: {}, {}", sessionId, e.getMessage());
+            }
+        });
+    }
+}
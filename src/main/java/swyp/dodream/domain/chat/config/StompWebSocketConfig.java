@@ -1,12 +1,17 @@
 package swyp.dodream.domain.chat.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableWebSocketMessageBroker // 브로커 기능 활성화
@@ -15,6 +20,22 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompSessionRegistry sessionRegistry;
+
+    @Value("${chat.websocket.destination-cache-limit:65536}")
+    private int destinationCacheLimit;
+
+    @Value("${chat.websocket.outbound-pool-size:16}")
+    private int outboundPoolSize;
+
+    @Value("${chat.websocket.outbound-queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @Value("${chat.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @Value("${chat.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
 
     // STOMP 엔드포인트 설정
     @Override
@@ -33,12 +54,41 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setApplicationDestinationPrefixes("/publish");
 
         // /topic으로 시작하는 형태로 메시지를 수신(subscribe)해야 함을 설정
-        registry.enableSimpleBroker("/topic");
+        // - 노드 간 전달은 RedisPubSubService 가 담당하고, SimpleBroker 는 이 노드에 붙은 구독자에게만 전달
+        // - selector 헤더 평가(SpEL)는 사용하지 않으므로 꺼서 메시지마다의 구독 필터링 비용 제거
+        registry.enableSimpleBroker("/topic")
+                .setSelectorHeaderName(null);
+
+        // destination → 구독자 목록 캐시 크기 (채팅방 토픽 수만큼 필요, 기본 1024)
+        registry.setCacheLimit(destinationCacheLimit);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 서버→클라이언트 전송 스레드풀 (큐가 가득 차면 호출 스레드에서 전송 → 자연스러운 backpressure)
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("stomp-outbound-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        registration.taskExecutor(executor)
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 세션별 전송 버퍼: 전송 중에 들어온 메시지는 버퍼에 모아 한 번에 flush,
+        // 느린 클라이언트가 한도를 넘기면 세션을 끊어 다른 구독자 전송이 막히지 않도록 함
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                // 토큰 만료 세션을 서버에서 닫을 수 있도록 세션 등록
+                .addDecoratorFactory(sessionRegistry::decorate);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        // 클라이언트→서버 inbound STOMP 프레임을 가로채서 JWT 인증/구독 권한 검증 실행
+        // 클라이언트→서버 inbound STOMP 프레임을 가로채서 CONNECT 인증/구독 권한 검증 실행
         // interceptor 등록
         registration.interceptors(stompHandler);
     }
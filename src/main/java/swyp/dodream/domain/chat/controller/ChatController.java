@@ -10,8 +10,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import swyp.dodream.common.exception.ExceptionType;
 import swyp.dodream.domain.chat.domain.ChatFilterType;
-import swyp.dodream.domain.chat.dto.ChatMessageDto;
 import swyp.dodream.domain.chat.dto.request.ChatInitiateRequest;
+import swyp.dodream.domain.chat.dto.response.ChatHistoryResponse;
 import swyp.dodream.domain.chat.dto.response.ChatInitiateResponse;
 import swyp.dodream.domain.chat.dto.response.MessageReadResponse;
 import swyp.dodream.domain.chat.dto.response.MyChatListResponse;
@@ -108,17 +108,19 @@ public class ChatController {
     // 채팅 내역 조회
     @Operation(
             summary = "채팅방 히스토리 조회",
-            description = "과거 메시지를 timestamp 순으로 조회"
+            description = "최신 메시지부터 size 개씩 조회. 응답의 nextCursor 를 cursor 로 넘기면 그 이전 메시지를 조회 (메시지는 오래된 순으로 정렬)"
     )
     @GetMapping("/rooms/{roomId}/history")
-    public ResponseEntity<List<ChatMessageDto>> getChatHistory(
+    public ResponseEntity<ChatHistoryResponse> getChatHistory(
             @PathVariable String roomId,  // String
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "30") Integer size,
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
         validateAuthentication(userPrincipal);
         Long userId = userPrincipal.getUserId();
 
-        List<ChatMessageDto> history = chatService.getChatHistory(roomId, userId);
+        ChatHistoryResponse history = chatService.getChatHistory(roomId, userId, cursor, size);
         return ResponseEntity.ok(history);
     }
 
@@ -27,10 +27,10 @@ public class StompController {
             ChatMessageDto messageDto,
             Principal principal  // @AuthenticationPrincipal 대신 Principal 사용
     ) {
-        log.info("=== 메시지 핸들러 진입 ===");
-        log.info("MessageDto: {}", messageDto);
-        log.info("Principal 타입: {}", principal != null ? principal.getClass().getName() : "null");
-        log.info("Principal: {}", principal);
+        log.debug("=== 메시지 핸들러 진입 ===");
+        log.debug("MessageDto: {}", messageDto);
+        log.debug("Principal 타입: {}", principal != null ? principal.getClass().getName() : "null");
+        log.debug("Principal: {}", principal);
 
         // Principal에서 UserPrincipal 추출
         UserPrincipal userPrincipal = extractUserPrincipal(principal);
@@ -40,10 +40,10 @@ public class StompController {
             throw new SecurityException("인증 정보가 없습니다.");
         }
 
-        log.info("UserPrincipal 추출 성공: {}", userPrincipal);
+        log.debug("UserPrincipal 추출 성공: {}", userPrincipal);
 
         Long senderId = userPrincipal.getUserId();
-        log.info("추출된 SenderId: {}", senderId);
+        log.debug("추출된 SenderId: {}", senderId);
 
         if (senderId == null) {
             log.error("❌ userId가 null입니다!");
@@ -51,9 +51,9 @@ public class StompController {
         }
 
         try {
-            log.info("채팅 메시지 처리 시작 - SenderId: {}, Message: {}", senderId, messageDto.getBody());
+            log.debug("채팅 메시지 처리 시작 - SenderId: {}, Message: {}", senderId, messageDto.getBody());
             chatService.processMessage(messageDto, senderId);
-            log.info("채팅 메시지 처리 완료 - SenderId: {}", senderId);
+            log.debug("채팅 메시지 처리 완료 - SenderId: {}", senderId);
         } catch (Exception e) {
             log.error("❌ 채팅 메시지 처리 중 오류 발생 - SenderId: {}, Error: {}", senderId, e.getMessage(), e);
             throw new RuntimeException("메시지 처리 중 오류가 발생했습니다", e);
@@ -8,15 +8,15 @@ import swyp.dodream.common.entity.BaseEntity;
 import swyp.dodream.common.snowflake.SnowflakeIdService;
 import swyp.dodream.domain.chat.dto.ChatMessageDto;
 
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "chat_message")
+@Table(
+        name = "chat_message",
+        indexes = @Index(name = "idx_chat_message_room_id", columnList = "room_id, id")  // 채팅 내역 keyset 페이지네이션
+)
 public class ChatMessage extends BaseEntity {
 
     @Id
@@ -40,9 +40,6 @@ public class ChatMessage extends BaseEntity {
     @Column(name = "message_type", length = 20)
     private MessageType messageType = MessageType.TALK;
 
-    @OneToMany(mappedBy = "chatMessage", cascade = CascadeType.REMOVE, orphanRemoval = true)
-    private List<ReadStatus> readStatuses = new ArrayList<>();
-
     public enum MessageType {
         TALK,
         LEAVE
@@ -30,6 +30,10 @@ public class ChatParticipant {
     @Column(name = "left_at")
     private LocalDateTime leftAt;
 
+    // 마지막으로 읽은 메시지 id (이보다 큰 id 의 상대방 메시지 = 안 읽은 메시지)
+    @Column(name = "last_read_message_id")
+    private String lastReadMessageId;
+
     // 생성자
     public ChatParticipant(ChatRoom chatRoom, Long userId) {
         this.chatRoom = chatRoom;
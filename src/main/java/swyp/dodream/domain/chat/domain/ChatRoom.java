@@ -33,6 +33,17 @@ public class ChatRoom {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // ===== 채팅 목록용 마지막 메시지 =====
+    // 메시지 저장 시 ChatRoomRepository.advanceLastMessage 로만 갱신 (엔티티 저장으로 덮어쓰지 않도록 updatable = false)
+    @Column(name = "last_message_id", updatable = false)
+    private String lastMessageId;
+
+    @Column(name = "last_message_body", length = 500, updatable = false)
+    private String lastMessageBody;
+
+    @Column(name = "last_message_at", updatable = false)
+    private LocalDateTime lastMessageAt;
+
     public ChatRoom(Long postId, Long leaderUserId, Long memberUserId, SnowflakeIdService snowflakeIdService) {
         this.id = snowflakeIdService.nextStringId();  // String ID
         this.postId = postId;
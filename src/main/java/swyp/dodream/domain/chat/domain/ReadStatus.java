@@ -1,41 +0,0 @@
-package swyp.dodream.domain.chat.domain;
-
-import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Getter;
-import lombok.NoArgsConstructor;
-import swyp.dodream.common.entity.BaseEntity;
-import swyp.dodream.domain.user.domain.User;
-
-@Entity
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
-@Getter
-@Table(name = "read_status")
-public class ReadStatus extends BaseEntity {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id", nullable = false)
-    private ChatRoom chatRoom;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false) // '읽은 사람'
-    private User user;
-
-    @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_message_id", nullable = false)
-    private ChatMessage chatMessage;
-
-    @Column(nullable = false)
-    private Boolean isRead;
-
-    public void updateIsRead(boolean isRead){
-        this.isRead = isRead;
-    }
-}
\ No newline at end of file
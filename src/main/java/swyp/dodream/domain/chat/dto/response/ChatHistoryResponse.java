@@ -0,0 +1,15 @@
+package swyp.dodream.domain.chat.dto.response;
+
+import lombok.Builder;
+import swyp.dodream.domain.chat.dto.ChatMessageDto;
+
+import java.util.List;
+
+// 채팅 내역 페이지 (messages 는 오래된 → 최신 순, 더 이전 내역은 nextCursor 로 조회)
+@Builder
+public record ChatHistoryResponse(
+        List<ChatMessageDto> messages,
+        String nextCursor,
+        boolean hasNext
+) {
+}
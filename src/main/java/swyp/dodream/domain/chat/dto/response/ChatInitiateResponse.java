@@ -20,7 +20,9 @@ public class ChatInitiateResponse {
 
     private String myRole; // "LEADER" or "MEMBER"
 
-    private List<ChatMessageDto> history; // 기존 대화 내역
+    private List<ChatMessageDto> history; // 기존 대화 내역 (최신 1페이지)
+    private String historyNextCursor;     // 이전 내역 조회 커서 (GET /rooms/{roomId}/history?cursor=)
+    private boolean historyHasNext;       // 이전 내역 존재 여부
 
     private Integer leaderProfileImageCode;   // 리더 프로필 이미지 코드
     private Integer memberProfileImageCode;   // 멤버 프로필 이미지 코드
@@ -1,28 +1,35 @@
 package swyp.dodream.domain.chat.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.chat.domain.ChatMessage;
-import swyp.dodream.domain.chat.domain.ChatRoom;
 
-import java.util.List;
-import java.util.Optional;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
     /**
-     * 특정 채팅방의 모든 메시지를 시간순으로 조회합니다.
+     * 특정 채팅방의 최신 메시지부터 조회합니다. (첫 페이지)
+     * id 는 snowflake 문자열이고 자릿수가 늘어날 수 있으므로(17 → 18자리) 숫자로 변환해서 정렬합니다.
+     * idx_chat_message_room_numeric_id (room_id, CAST(id AS SIGNED)) 인덱스를 역순으로 읽습니다.
      */
-    List<ChatMessage> findByChatRoomOrderByCreatedAtAsc(ChatRoom chatRoom);
+    @Query("SELECT cm FROM ChatMessage cm " +
+            "WHERE cm.chatRoom.id = :roomId " +
+            "ORDER BY CAST(cm.id AS Long) DESC")
+    Slice<ChatMessage> findLatestByRoomId(@Param("roomId") String roomId, Pageable pageable);
 
     /**
-     * 특정 채팅방의 마지막 메시지를 조회합니다.
+     * 커서(메시지 id)보다 이전 메시지를 최신순으로 조회합니다. (이전 내역 더 보기)
+     * 문자열 비교는 자릿수가 다른 id 사이에서 순서가 틀리므로 숫자로 비교합니다.
      */
     @Query("SELECT cm FROM ChatMessage cm " +
             "WHERE cm.chatRoom.id = :roomId " +
-            "ORDER BY cm.createdAt DESC " +
-            "LIMIT 1")
-    Optional<ChatMessage> findLastMessageByRoomId(@Param("roomId") String roomId);
+            "AND CAST(cm.id AS Long) < :cursor " +
+            "ORDER BY CAST(cm.id AS Long) DESC")
+    Slice<ChatMessage> findByRoomIdBeforeCursor(@Param("roomId") String roomId,
+                                                @Param("cursor") Long cursor,
+                                                Pageable pageable);
 
 }
\ No newline at end of file
@@ -1,11 +1,52 @@
 package swyp.dodream.domain.chat.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import swyp.dodream.domain.chat.domain.ChatMessage;
 import swyp.dodream.domain.chat.domain.ChatParticipant;
 import swyp.dodream.domain.chat.domain.ChatParticipantId;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ChatParticipantRepository extends JpaRepository<ChatParticipant, ChatParticipantId> {
     List<ChatParticipant> findAllByUserId(Long userId);
+
+    /**
+     * 내 채팅 목록: 나가지 않은 채팅방을 마지막 메시지 최신순으로 (채팅방 함께 조회)
+     */
+    @Query("SELECT cp FROM ChatParticipant cp " +
+            "JOIN FETCH cp.chatRoom r " +
+            "WHERE cp.userId = :userId AND cp.leftAt IS NULL " +
+            "ORDER BY r.lastMessageAt DESC")
+    List<ChatParticipant> findActiveWithRoomByUserId(@Param("userId") Long userId);
+
+    /**
+     * 채팅방별 안 읽은 메시지 수 ([roomId, count])
+     * 읽음 기준(lastReadMessageId) 이후 상대방이 보낸 TALK 메시지를 (room_id, CAST(id AS SIGNED)) 인덱스 범위로 집계
+     * id 는 snowflake 문자열이라 자릿수가 다를 수 있으므로(17 → 18자리) 숫자로 비교
+     */
+    @Query("SELECT cp.chatRoomId, COUNT(cm) FROM ChatParticipant cp, ChatMessage cm " +
+            "WHERE cp.userId = :userId AND cp.chatRoomId IN :roomIds " +
+            "AND cm.chatRoom.id = cp.chatRoomId " +
+            "AND cm.senderUserId <> :userId " +
+            "AND cm.messageType = :messageType " +
+            "AND (cp.lastReadMessageId IS NULL OR CAST(cm.id AS Long) > CAST(cp.lastReadMessageId AS Long)) " +
+            "GROUP BY cp.chatRoomId")
+    List<Object[]> countUnreadGroupByRoom(@Param("userId") Long userId,
+                                          @Param("roomIds") Collection<String> roomIds,
+                                          @Param("messageType") ChatMessage.MessageType messageType);
+
+    /**
+     * 읽음 기준 이동 (뒤로 가지 않도록 현재 값보다 숫자로 클 때만 갱신)
+     */
+    @Modifying
+    @Query("UPDATE ChatParticipant cp SET cp.lastReadMessageId = :messageId " +
+            "WHERE cp.chatRoomId = :roomId AND cp.userId = :userId " +
+            "AND (cp.lastReadMessageId IS NULL OR CAST(cp.lastReadMessageId AS Long) < CAST(:messageId AS Long))")
+    int advanceReadCursor(@Param("roomId") String roomId,
+                          @Param("userId") Long userId,
+                          @Param("messageId") String messageId);
 }
\ No newline at end of file
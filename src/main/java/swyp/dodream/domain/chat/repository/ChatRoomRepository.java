@@ -1,11 +1,28 @@
 package swyp.dodream.domain.chat.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.chat.domain.ChatRoom;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
     Optional<ChatRoom> findByPostIdAndLeaderUserIdAndMemberUserId(
             Long postId, Long leaderId, Long memberId);
-}
\ No newline at end of file
+
+    /**
+     * 마지막 메시지 갱신 (현재 값보다 새 메시지일 때만)
+     * 동시에 보낸 메시지가 늦게 커밋돼도 더 오래된 메시지로 덮어쓰지 않도록 id 를 숫자로 비교하는 조건부 UPDATE
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ChatRoom r SET r.lastMessageId = :messageId, r.lastMessageBody = :body, r.lastMessageAt = :sentAt " +
+            "WHERE r.id = :roomId " +
+            "AND (r.lastMessageId IS NULL OR CAST(r.lastMessageId AS Long) < CAST(:messageId AS Long))")
+    int advanceLastMessage(@Param("roomId") String roomId,
+                           @Param("messageId") String messageId,
+                           @Param("body") String body,
+                           @Param("sentAt") LocalDateTime sentAt);
+}
@@ -3,13 +3,15 @@ package swyp.dodream.domain.chat.service;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.AntPathMatcher;
 import swyp.dodream.common.snowflake.SnowflakeIdService;
 import swyp.dodream.domain.chat.domain.*;
+import swyp.dodream.domain.chat.dto.response.ChatHistoryResponse;
 import swyp.dodream.domain.chat.dto.response.ChatInitiateResponse;
 import swyp.dodream.domain.chat.dto.ChatMessageDto;
 import swyp.dodream.domain.chat.dto.response.MyChatListResponse;
@@ -33,18 +35,17 @@ public class ChatService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final ReadStatusRepository readStatusRepository;
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
 
     private final ProfileRepository profileRepository;
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisPubSubService redisPubSubService;
     private final SnowflakeIdService snowflakeIdService;
 
-    private static final AntPathMatcher pathMatcher = new AntPathMatcher();
-    public static final String CHAT_TOPIC_PATTERN = "/topic/chat/post/{postId}/leader/{leaderId}/member/{memberId}";
+    private static final int DEFAULT_HISTORY_SIZE = 30;
+    private static final int MAX_HISTORY_SIZE = 100;
 
     // ==================== 1. 채팅 시작 ====================
     @Transactional(readOnly = true)
@@ -75,10 +76,8 @@ public class ChatService {
             ChatRoom room = existingRoom.get();
             checkParticipantStatus(room.getId(), memberId);
 
-            List<ChatMessageDto> history = chatMessageRepository.findByChatRoomOrderByCreatedAtAsc(room)
-                    .stream()
-                    .map(this::enrichMessageWithNickname)
-                    .collect(Collectors.toList());
+            // 최신 1페이지만 내려주고 이전 내역은 history API 로 조회
+            ChatHistoryResponse history = loadHistoryPage(room, null, DEFAULT_HISTORY_SIZE);
 
             String myRole = "MEMBER";
 
@@ -89,7 +88,9 @@ public class ChatService {
                     String.valueOf(leaderId),
                     String.valueOf(memberId),
                     myRole,
-                    history,
+                    history.messages(),
+                    history.nextCursor(),
+                    history.hasNext(),
                     leaderProfile.getProfileImageCode(),
                     memberProfile.getProfileImageCode()
             );
@@ -102,6 +103,8 @@ public class ChatService {
                     String.valueOf(memberId),
                     "MEMBER",
                     Collections.emptyList(),
+                    null,
+                    false,
                     leaderProfile.getProfileImageCode(),
                     memberProfile.getProfileImageCode()
             );
@@ -164,39 +167,16 @@ public class ChatService {
         chatMessage.setMessageType(ChatMessage.MessageType.TALK);
 
         ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
+        updateLastMessage(room, savedMessage);
 
-        Long recipientId = senderId.equals(room.getLeaderUserId()) ? room.getMemberUserId() : room.getLeaderUserId();
-        userRepository.findById(recipientId).ifPresent(recipient -> {
-            ReadStatus newStatus = ReadStatus.builder()
-                    .chatRoom(room)
-                    .user(recipient)
-                    .chatMessage(savedMessage)
-                    .isRead(false)
-                    .build();
-            readStatusRepository.save(newStatus);
-        });
+        // 수신자의 안 읽은 수는 읽음 기준(lastReadMessageId) 이후 메시지로 계산하므로 별도 기록 없음
 
         ChatMessageDto enrichedDto = enrichMessageWithNickname(savedMessage);
-        messagingTemplate.convertAndSend(topicId, enrichedDto);  // 수정
+        redisPubSubService.publish(topicId, enrichedDto);  // 모든 노드의 구독자에게 전송
         return savedMessage;
     }
 
-    // ==================== 3. 구독 검증 ====================
-    public void validateSubscription(Long userId, String topicDestination) {
-        if (!pathMatcher.match(CHAT_TOPIC_PATTERN, topicDestination)) {
-            throw new AccessDeniedException("유효하지 않은 채팅방 토픽입니다.");
-        }
-
-        Map<String, String> uriVariables = pathMatcher.extractUriTemplateVariables(CHAT_TOPIC_PATTERN, topicDestination);
-        Long leaderId = Long.parseLong(uriVariables.get("leaderId"));
-        Long memberId = Long.parseLong(uriVariables.get("memberId"));
-
-        if (!userId.equals(leaderId) && !userId.equals(memberId)) {
-            throw new AccessDeniedException("이 채팅방을 구독할 권한이 없습니다.");
-        }
-    }
-
-    // ==================== 4. 채팅방 생성/조회 ====================
+    // ==================== 3. 채팅방 생성/조회 ====================
     private ChatRoom findOrCreateRoom(Long postId, Long leaderId, Long memberId) {
         Optional<ChatRoom> existingRoom = chatRoomRepository
                 .findByPostIdAndLeaderUserIdAndMemberUserId(postId, leaderId, memberId);
@@ -221,7 +201,7 @@ public class ChatService {
         return savedRoom;
     }
 
-    // ==================== 5. 나가기 ====================
+    // ==================== 4. 나가기 ====================
     @Transactional
     public void leaveRoom(String roomId, Long userId) {
         ChatParticipant participant = chatParticipantRepository.findById(new ChatParticipantId(roomId, userId))
@@ -242,68 +222,83 @@ public class ChatService {
             leaveSystemMessage.setDeletedAt(false);
             leaveSystemMessage.setMessageType(ChatMessage.MessageType.LEAVE);
             ChatMessage savedMessage = chatMessageRepository.save(leaveSystemMessage);
+            updateLastMessage(room, savedMessage);
 
             // 2. 저장된 메시지를 DTO로 변환 (이미 messageType이 LEAVE로 설정됨)
             ChatMessageDto leaveMessage = enrichMessageWithNickname(savedMessage);
 
-            // 3. WebSocket으로 실시간 전송
+            // 3. WebSocket으로 실시간 전송 (redis 경유, 모든 노드)
             String topicId = buildTopicId(room.getPostId(), room.getLeaderUserId(), room.getMemberUserId());
-            messagingTemplate.convertAndSend(topicId, leaveMessage);
+            redisPubSubService.publish(topicId, leaveMessage);
 
             log.info("채팅방 나가기 완료. RoomId: {}, UserId: {}", roomId, userId);
         }
     }
 
-    // ==================== 6. 내 채팅방 목록 ====================
+    // ==================== 5. 내 채팅방 목록 ====================
+    // 채팅방 수와 무관하게 참여 채팅방(+마지막 메시지) / 프로필 / 안 읽은 수 쿼리 3회로 조회
     @Transactional(readOnly = true)
     public List<MyChatListResponse> getMyChatRooms(Long myUserId, ChatFilterType filter) {
-        return chatParticipantRepository.findAllByUserId(myUserId).stream()
-                .filter(cp -> cp.getLeftAt() == null)  // 나간 채팅방 제외
-                .map(cp -> {
-                    ChatRoom room = cp.getChatRoom();
+        List<ChatRoom> rooms = chatParticipantRepository.findActiveWithRoomByUserId(myUserId).stream()
+                .map(ChatParticipant::getChatRoom)
+                .toList();
+        if (rooms.isEmpty()) {
+            return List.of();
+        }
+
+        // 1. 참여자 프로필 일괄 조회
+        Set<Long> participantIds = new HashSet<>();
+        rooms.forEach(room -> {
+            participantIds.add(room.getLeaderUserId());
+            participantIds.add(room.getMemberUserId());
+        });
+        Map<Long, Profile> profileByUserId = profileRepository.findByUserIdIn(participantIds).stream()
+                .collect(Collectors.toMap(Profile::getUserId, p -> p, (a, b) -> a));
+
+        // 프로필이 없는 상대방은 회원 이름으로 대체
+        List<Long> missingProfileIds = participantIds.stream()
+                .filter(id -> !profileByUserId.containsKey(id))
+                .toList();
+        Map<Long, String> userNameById = missingProfileIds.isEmpty()
+                ? Map.of()
+                : userRepository.findAllById(missingProfileIds).stream()
+                        .collect(Collectors.toMap(User::getId, User::getName));
+
+        // 2. 안 읽은 메시지 수 일괄 집계
+        Map<String, Long> unreadByRoomId = countUnread(myUserId, rooms.stream().map(ChatRoom::getId).toList());
+
+        return rooms.stream()
+                .map(room -> {
                     Long otherUserId = myUserId.equals(room.getLeaderUserId())
                             ? room.getMemberUserId() : room.getLeaderUserId();
 
-                    // 프로필 조회 (이미지 코드 포함)
-                    Profile leaderProfile = profileRepository.findByUserId(room.getLeaderUserId())
-                            .orElseThrow(() -> new EntityNotFoundException("리더 프로필을 찾을 수 없습니다."));
-                    Profile memberProfile = profileRepository.findByUserId(room.getMemberUserId())
-                            .orElseThrow(() -> new EntityNotFoundException("멤버 프로필을 찾을 수 없습니다."));
-
-                    String roomName = profileRepository.findByUserId(otherUserId)
-                            .map(Profile::getNickname)
-                            .orElse(userRepository.findById(otherUserId)
-                                    .map(User::getName)
-                                    .orElse("알 수 없는 사용자"));
+                    Profile leaderProfile = profileByUserId.get(room.getLeaderUserId());
+                    Profile memberProfile = profileByUserId.get(room.getMemberUserId());
+                    if (leaderProfile == null) {
+                        throw new EntityNotFoundException("리더 프로필을 찾을 수 없습니다.");
+                    }
+                    if (memberProfile == null) {
+                        throw new EntityNotFoundException("멤버 프로필을 찾을 수 없습니다.");
+                    }
 
-                    Long unReadCount = readStatusRepository.countByChatRoomAndUserAndIsReadFalse(room,
-                            userRepository.getReferenceById(myUserId));
+                    Profile otherProfile = profileByUserId.get(otherUserId);
+                    String roomName = otherProfile != null
+                            ? otherProfile.getNickname()
+                            : userNameById.getOrDefault(otherUserId, "알 수 없는 사용자");
 
                     String myRole = myUserId.equals(room.getLeaderUserId()) ? "LEADER" : "MEMBER";
                     String topicId = buildTopicId(room.getPostId(), room.getLeaderUserId(), room.getMemberUserId());
 
-                    // 마지막 메시지 조회
-                    Optional<ChatMessage> lastMessageOpt = chatMessageRepository
-                            .findLastMessageByRoomId(room.getId());
-
-                    String lastMessage = lastMessageOpt
-                            .map(ChatMessage::getBody)
-                            .orElse(null);
-
-                    LocalDateTime lastMessageAt = lastMessageOpt
-                            .map(ChatMessage::getCreatedAt)
-                            .orElse(null);
-
                     return MyChatListResponse.builder()
                             .roomId(room.getId())
                             .roomName(roomName)
-                            .unReadCount(unReadCount)
+                            .unReadCount(unreadByRoomId.getOrDefault(room.getId(), 0L))
                             .topicId(topicId)
                             .leaderId(String.valueOf(room.getLeaderUserId()))
                             .memberId(String.valueOf(room.getMemberUserId()))
                             .myRole(myRole)
-                            .lastMessage(lastMessage)
-                            .lastMessageAt(lastMessageAt)
+                            .lastMessage(room.getLastMessageBody())
+                            .lastMessageAt(room.getLastMessageAt())
                             .postId(room.getPostId())
                             .leaderProfileImageCode(leaderProfile.getProfileImageCode())
                             .memberProfileImageCode(memberProfile.getProfileImageCode())
@@ -320,29 +315,34 @@ public class ChatService {
                 .collect(Collectors.toList());
     }
 
-        // ==================== 7. 읽음 처리 ====================
+        // ==================== 6. 읽음 처리 ====================
     @Transactional
     public int messageRead(String roomId, Long myUserId) {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
-        User me = userRepository.findById(myUserId)
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        if (!userRepository.existsById(myUserId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
 
         checkParticipantStatus(roomId, myUserId);
 
-        List<ReadStatus> unreadStatuses = readStatusRepository.findByChatRoomAndUserAndIsReadFalse(chatRoom, me);
-        unreadStatuses.forEach(r -> r.updateIsRead(true));
+        if (chatRoom.getLastMessageId() == null) {
+            return 0;
+        }
+
+        // 읽음 기준을 마지막 메시지로 이동 (UPDATE 1회)
+        int count = countUnread(myUserId, List.of(roomId)).getOrDefault(roomId, 0L).intValue();
+        chatParticipantRepository.advanceReadCursor(roomId, myUserId, chatRoom.getLastMessageId());
 
-        int count = unreadStatuses.size();
         log.info("메시지 읽음 처리. RoomId: {}, UserId: {}, Count: {}", roomId, myUserId, count);
 
         return count;
     }
 
 
-    // ==================== 8. 채팅 내역 조회 ====================
+    // ==================== 7. 채팅 내역 조회 ====================
     @Transactional(readOnly = true)
-    public List<ChatMessageDto> getChatHistory(String roomId, Long myUserId) {
+    public ChatHistoryResponse getChatHistory(String roomId, Long myUserId, String cursor, Integer size) {
         ChatRoom chatRoom = chatRoomRepository.findById(roomId)
                 .orElseThrow(() -> new EntityNotFoundException("채팅방을 찾을 수 없습니다."));
 
@@ -358,10 +358,7 @@ public class ChatService {
             }
         }
 
-        return chatMessageRepository.findByChatRoomOrderByCreatedAtAsc(chatRoom)
-                .stream()
-                .map(this::enrichMessageWithNickname)
-                .collect(Collectors.toList());
+        return loadHistoryPage(chatRoom, cursor, size != null ? size : DEFAULT_HISTORY_SIZE);
     }
 
     // ==================== Helper ====================
@@ -369,6 +366,22 @@ public class ChatService {
         return String.format("/topic/chat/post/%d/leader/%d/member/%d", postId, leaderId, memberId);
     }
 
+    // 채팅 목록용 마지막 메시지 갱신 (더 새 메시지일 때만, 목록 조회 시 chat_message 를 다시 읽지 않도록)
+    private void updateLastMessage(ChatRoom room, ChatMessage message) {
+        LocalDateTime sentAt = message.getCreatedAt() != null ? message.getCreatedAt() : LocalDateTime.now();
+        chatRoomRepository.advanceLastMessage(room.getId(), message.getId(), message.getBody(), sentAt);
+    }
+
+    // 채팅방별 안 읽은 메시지 수 (읽음 기준 이후 상대방 메시지)
+    private Map<String, Long> countUnread(Long userId, List<String> roomIds) {
+        Map<String, Long> unreadByRoomId = new HashMap<>();
+        for (Object[] row : chatParticipantRepository.countUnreadGroupByRoom(
+                userId, roomIds, ChatMessage.MessageType.TALK)) {
+            unreadByRoomId.put((String) row[0], (Long) row[1]);
+        }
+        return unreadByRoomId;
+    }
+
     private void checkParticipantStatus(String roomId, Long userId) {
         chatParticipantRepository.findById(new ChatParticipantId(roomId, userId))
                 .ifPresent(p -> {
@@ -378,6 +391,48 @@ public class ChatService {
                 });
     }
 
+    // 커서는 메시지 id (snowflake 숫자 문자열)
+    private static Long parseCursor(String cursor) {
+        try {
+            return Long.parseLong(cursor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor 입니다.");
+        }
+    }
+
+    /**
+     * 채팅 내역 한 페이지 조회 (cursor 가 없으면 최신 페이지, 있으면 그 이전 메시지)
+     * 조회는 최신순, 응답은 화면 표시 순서(오래된 → 최신)로 뒤집어서 반환
+     */
+    private ChatHistoryResponse loadHistoryPage(ChatRoom room, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, Math.min(Math.max(size, 1), MAX_HISTORY_SIZE));
+        Slice<ChatMessage> slice = cursor == null
+                ? chatMessageRepository.findLatestByRoomId(room.getId(), pageable)
+                : chatMessageRepository.findByRoomIdBeforeCursor(room.getId(), parseCursor(cursor), pageable);
+
+        List<ChatMessage> messages = slice.getContent();
+
+        // 참여자는 리더/멤버 2명뿐이므로 닉네임은 페이지당 한 번만 조회
+        Map<Long, String> nicknames = profileRepository
+                .findByUserIdIn(List.of(room.getLeaderUserId(), room.getMemberUserId())).stream()
+                .collect(Collectors.toMap(Profile::getUserId, Profile::getNickname, (a, b) -> a));
+
+        List<ChatMessageDto> history = new ArrayList<>(messages.size());
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            ChatMessageDto dto = messages.get(i).toDto();
+            dto.setSenderNickname(nicknames.get(messages.get(i).getSenderUserId()));
+            history.add(dto);
+        }
+
+        String nextCursor = messages.isEmpty() ? null : messages.get(messages.size() - 1).getId();
+
+        return ChatHistoryResponse.builder()
+                .messages(history)
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+
     private ChatMessageDto enrichMessageWithNickname(ChatMessage message) {
         ChatMessageDto dto = message.toDto();
 
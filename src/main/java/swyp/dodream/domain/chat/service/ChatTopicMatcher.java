@@ -0,0 +1,44 @@
+package swyp.dodream.domain.chat.service;
+
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 채팅방 토픽(/topic/chat/post/{postId}/leader/{leaderId}/member/{memberId}) 매칭
+// 패턴은 한 번만 컴파일해 두고 SUBSCRIBE 마다 재사용 (AntPathMatcher 처럼 호출마다 패턴을 해석하지 않음)
+// StompHandler 에서도 쓰기 때문에 ChatService 와 분리 (ChatService → 메시징 템플릿 → STOMP 설정 순환 참조 방지)
+public final class ChatTopicMatcher {
+
+    private static final Pattern CHAT_TOPIC =
+            Pattern.compile("^/topic/chat/post/(\\d{1,19})/leader/(\\d{1,19})/member/(\\d{1,19})$");
+
+    // 토픽에 들어 있는 채팅방 정보
+    public record ChatTopic(long postId, long leaderId, long memberId) {
+
+        public boolean isParticipant(Long userId) {
+            return userId != null && (userId == leaderId || userId == memberId);
+        }
+    }
+
+    private ChatTopicMatcher() {
+    }
+
+    // 채팅방 토픽이 아니면 empty
+    public static Optional<ChatTopic> match(String destination) {
+        if (destination == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = CHAT_TOPIC.matcher(destination);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new ChatTopic(
+                    Long.parseLong(matcher.group(1)),
+                    Long.parseLong(matcher.group(2)),
+                    Long.parseLong(matcher.group(3))));
+        } catch (NumberFormatException e) {
+            return Optional.empty(); // long 범위 초과
+        }
+    }
+}
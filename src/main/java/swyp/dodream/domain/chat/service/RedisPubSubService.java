@@ -1,45 +1,54 @@
-//package swyp.dodream.domain.chat.service;
-//
-//import swyp.dodream.domain.chat.dto.ChatMessageDto;
-//import com.fasterxml.jackson.core.JsonProcessingException;
-//import com.fasterxml.jackson.databind.ObjectMapper;
-//import org.springframework.beans.factory.annotation.Qualifier;
-//import org.springframework.data.redis.connection.Message;
-//import org.springframework.data.redis.connection.MessageListener;
-//import org.springframework.data.redis.core.StringRedisTemplate;
-//import org.springframework.messaging.simp.SimpMessageSendingOperations;
-//
-//// (1) redis pub/sub 채널에 publish 해주는 기능과
-//// (2) redis에서 들어온 메시지를 websocket topic으로 다시 브로드캐스트하는 중간 브로커 역할
-//public class RedisPubSubService implements MessageListener {
-//
-//    private final StringRedisTemplate stringRedisTemplate; // redis publish 할 때 쓰는 템플릿
-//    private final SimpMessageSendingOperations messageTemplate; // websocket 에게 메시지를 push 하는 스프링 템플릿
-//
-//    // @Qualifier("chatPubSub")로 지정된 redisTemplate bean을 주입받는다
-//    public RedisPubSubService(@Qualifier("chatPubSub") StringRedisTemplate stringRedisTemplate, SimpMessageSendingOperations messageTemplate) {
-//        this.stringRedisTemplate = stringRedisTemplate;
-//        this.messageTemplate = messageTemplate;
-//    }
-//
-//    // 특정 채널로 메시지를 redis pub/sub 채널에 publish 한다.
-//    // publish 하면 redis가 해당 채널을 listen 중인 서버들에게 퍼뜨린다.
-//    public void publish(String channel, String message){
-//        stringRedisTemplate.convertAndSend(channel, message);
-//    }
-//
-//    @Override
-//    // 이 메서드는 redis에서 메시지가 들어올 때 자동으로 호출된다.
-//    // message = 실제 redis에서 온 메시지
-//    // pattern = 구독중인 패턴 (channel 이름의 pattern)
-//    public void onMessage(Message message, byte[] pattern) {
-//        String payload = new String(message.getBody()); // redis에서 온 메시지 raw byte[] -> String(JSON)으로 변환.
-//        ObjectMapper objectMapper = new ObjectMapper(); // JSON 파싱용 objectMapper 생성
-//        try {
-//            ChatMessageDto chatMessageDto = objectMapper.readValue(payload, ChatMessageDto.class); // redis에서 받은 JSON 문자열을 ChatMessageDto로 역직렬화
-//            messageTemplate.convertAndSend("/topic/"+chatMessageDto.getRoomId(), chatMessageDto); // websocket으로 브로드캐스트. 구독 주소 = /topic/{roomId}
-//        } catch (JsonProcessingException e) {
-//            throw new RuntimeException(e);
-//        }
-//    }
-//}
+package swyp.dodream.domain.chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+import swyp.dodream.domain.chat.dto.ChatMessageDto;
+
+// 채팅 메시지 노드 간 fan-out
+// (1) 채팅 메시지를 redis pub/sub 채널에 한 번 publish 하고
+// (2) 각 노드는 redis 에서 받은 메시지를 자기 노드에 붙은 구독자(SimpleBroker)에게만 전달한다.
+// 메시지를 보낸 노드도 redis 를 통해 받아서 전달하므로 중복 전송은 없다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RedisPubSubService implements MessageListener {
+
+    private final RedisTemplate<String, String> redisTemplate;    // redis publish 할 때 쓰는 템플릿
+    private final SimpMessageSendingOperations messagingTemplate;  // 로컬 websocket 구독자에게 push
+    private final ChannelTopic chatTopic;
+    private final ObjectMapper objectMapper;
+
+    // redis 로 보내는 메시지 (STOMP destination + 본문)
+    public record ChatBroadcast(String destination, ChatMessageDto message) {
+    }
+
+    // 모든 노드의 구독자에게 전송
+    public void publish(String destination, ChatMessageDto message) {
+        try {
+            String payload = objectMapper.writeValueAsString(new ChatBroadcast(destination, message));
+            redisTemplate.convertAndSend(chatTopic.getTopic(), payload);
+        } catch (Exception e) {
+            // redis 장애 시 최소한 같은 노드의 구독자에게는 전달
+            log.warn("채팅 메시지 redis publish 실패, 로컬 전송으로 대체: destination={}, error={}", destination, e.getMessage());
+            messagingTemplate.convertAndSend(destination, message);
+        }
+    }
+
+    // redis 에서 메시지가 들어오면 호출 → 로컬 구독자에게 전달
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ChatBroadcast broadcast = objectMapper.readValue(message.getBody(), ChatBroadcast.class);
+            messagingTemplate.convertAndSend(broadcast.destination(), broadcast.message());
+        } catch (Exception e) {
+            log.error("채팅 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package swyp.dodream.domain.indexing.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import swyp.dodream.domain.indexing.domain.IndexSyncSink;
+import swyp.dodream.domain.indexing.domain.IndexingTarget;
+import swyp.dodream.domain.indexing.dto.IndexSyncStatusResponse;
+import swyp.dodream.domain.indexing.service.IndexSyncService;
+import swyp.dodream.domain.recommendation.index.EmbeddedVectorStore;
+import swyp.dodream.domain.recommendation.index.HnswIndex;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 검색/벡터 동기화 관리 API
+ */
+@Tag(name = "Indexing Admin", description = "검색/벡터 동기화 관리 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/indexing")
+public class IndexingAdminController {
+
+    private final IndexSyncService indexSyncService;
+    private final Optional<EmbeddedVectorStore> embeddedVectorStore;
+
+    @GetMapping("/sync")
+    @Operation(
+            summary = "동기화 상태",
+            description = "대상/저장소별 워터마크와 지연(초), outbox 대기/실패 건수를 반환합니다."
+    )
+    public ResponseEntity<IndexSyncStatusResponse> getStatus() {
+        return ResponseEntity.ok(indexSyncService.getStatus());
+    }
+
+    @PostMapping("/sync")
+    @Operation(summary = "증분 동기화 즉시 실행", description = "주기를 기다리지 않고 변경분 동기화를 한 번 실행합니다.")
+    public ResponseEntity<IndexSyncStatusResponse> sync() {
+        indexSyncService.sync();
+        return ResponseEntity.ok(indexSyncService.getStatus());
+    }
+
+    @PostMapping("/sync/rewind")
+    @Operation(
+            summary = "동기화 워터마크 되돌리기",
+            description = "지정한 시각(없으면 전체) 이후 변경분을 다음 주기부터 다시 반영합니다. payload 필드 추가 후 기존 데이터 보강에 사용합니다."
+    )
+    public ResponseEntity<IndexSyncStatusResponse> rewind(
+            @RequestParam IndexingTarget target,
+            @RequestParam IndexSyncSink sink,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from
+    ) {
+        indexSyncService.rewind(target, sink, from != null ? from : IndexSyncService.BEGINNING);
+        return ResponseEntity.ok(indexSyncService.getStatus());
+    }
+
+    @GetMapping("/vector-index")
+    @Operation(
+            summary = "프로세스 내 벡터 인덱스 상태",
+            description = "준비 여부, 양자화 수준, 게시글/프로필 벡터 수, 원본(off-heap)/압축 벡터 사용량을 반환합니다."
+    )
+    public ResponseEntity<EmbeddedVectorStore.Status> getVectorIndexStatus() {
+        return embeddedVectorStore.map(store -> ResponseEntity.ok(store.status()))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/vector-index/reload")
+    @Operation(
+            summary = "프로세스 내 벡터 인덱스 재적재",
+            description = "주기를 기다리지 않고 Qdrant 전체를 다시 읽어 이 노드의 인덱스를 교체합니다. 다른 노드는 다음 주기에 반영됩니다."
+    )
+    public ResponseEntity<EmbeddedVectorStore.Status> reloadVectorIndex() {
+        return embeddedVectorStore.map(store -> {
+            store.reload();
+            return ResponseEntity.ok(store.status());
+        }).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/vector-index/evaluate")
+    @Operation(
+            summary = "벡터 양자화 수준별 품질/지연 측정",
+            description = "저장된 게시글 벡터를 질의로 써서 NONE/INT8/BINARY 각각의 recall@k, 검색 지연(평균/p50/p99, µs), 탐색용 벡터 크기를 전수 비교와 함께 반환합니다. samples 는 최대 1000, k 는 최대 100 으로 제한됩니다. 측정하는 동안 이 노드의 색인 반영은 대기합니다."
+    )
+    public ResponseEntity<HnswIndex.EvaluationReport> evaluateVectorIndex(
+            @RequestParam(defaultValue = "10") int k,
+            @RequestParam(defaultValue = "100") int samples
+    ) {
+        return embeddedVectorStore.map(store -> ResponseEntity.ok(store.evaluate(samples, k)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
@@ -0,0 +1,69 @@
+package swyp.dodream.domain.indexing.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 증분 동기화 체크포인트 (대상 × 저장소 별)
+ *
+ * (watermarkAt, lastId) 까지의 변경(updated_at, id 순)은 해당 저장소에 반영 완료된 상태.
+ * 따라잡은 뒤에는 lastId 를 Long.MAX_VALUE 로 두어 watermarkAt 시각의 변경 전체를 완료로 표시한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "index_sync_checkpoint")
+public class IndexSyncCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String id;  // {target}:{sink}
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IndexingTarget target;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IndexSyncSink sink;
+
+    @Column(name = "watermark_at", nullable = false)
+    private LocalDateTime watermarkAt;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "synced_at")
+    private LocalDateTime syncedAt;     // 마지막 실행 시각
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public IndexSyncCheckpoint(IndexingTarget target, IndexSyncSink sink, LocalDateTime watermarkAt) {
+        this.id = idOf(target, sink);
+        this.target = target;
+        this.sink = sink;
+        this.watermarkAt = watermarkAt;
+        this.lastId = Long.MAX_VALUE;
+    }
+
+    public static String idOf(IndexingTarget target, IndexSyncSink sink) {
+        return target + ":" + sink;
+    }
+
+    public void advance(LocalDateTime watermarkAt, long lastId, LocalDateTime now) {
+        this.watermarkAt = watermarkAt;
+        this.lastId = lastId;
+        this.syncedAt = now;
+        this.lastError = null;
+    }
+
+    public void recordError(String error, LocalDateTime now) {
+        this.syncedAt = now;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
@@ -0,0 +1,15 @@
+package swyp.dodream.domain.indexing.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum IndexSyncSink {
+    ELASTICSEARCH("검색 문서 (게시글 문서 / 작성자 정보)"),
+    QDRANT("임베딩 벡터 (posts_embeddings / profiles_embeddings)");
+
+    private final String description;
+
+    IndexSyncSink(String description) {
+        this.description = description;
+    }
+}
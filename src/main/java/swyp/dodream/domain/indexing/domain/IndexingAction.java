@@ -0,0 +1,15 @@
+package swyp.dodream.domain.indexing.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum IndexingAction {
+    UPSERT("색인/벡터 생성 또는 갱신"),
+    DELETE("색인/벡터 삭제");
+
+    private final String description;
+
+    IndexingAction(String description) {
+        this.description = description;
+    }
+}
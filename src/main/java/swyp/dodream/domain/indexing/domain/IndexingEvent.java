@@ -0,0 +1,91 @@
+package swyp.dodream.domain.indexing.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import swyp.dodream.common.entity.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 색인/임베딩 outbox 이벤트
+ *
+ * 게시글/프로필 변경 트랜잭션 안에서 함께 저장되고,
+ * 커밋 이후 IndexingOutboxWorker 가 읽어 Elasticsearch/Qdrant 에 반영한다.
+ * 처리에 성공한 이벤트는 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "indexing_outbox",
+        indexes = {
+                @Index(name = "idx_indexing_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_indexing_outbox_status_claimed", columnList = "status, claimed_at"),
+                @Index(name = "idx_indexing_outbox_claim_token", columnList = "claim_token")
+        }
+)
+public class IndexingEvent extends BaseEntity {
+
+    @Id
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IndexingTarget target;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;   // POST: postId, PROFILE: userId (벡터 ID 기준)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IndexingAction action;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private IndexingStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;  // 이 이벤트를 가져간 워커 식별자 (다중 인스턴스 중복 처리 방지)
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public IndexingEvent(Long id, IndexingTarget target, Long aggregateId, IndexingAction action) {
+        this.id = id;
+        this.target = target;
+        this.aggregateId = aggregateId;
+        this.action = action;
+        this.status = IndexingStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    /**
+     * 처리 실패 기록
+     * - 최대 시도 횟수 이전: 지정한 시각 이후 재시도
+     * - 최대 시도 횟수 도달: FAILED 로 남겨 수동 확인
+     */
+    public void markFailed(String error, LocalDateTime retryAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.claimToken = null;
+        this.claimedAt = null;
+        if (this.attempts >= maxAttempts) {
+            this.status = IndexingStatus.FAILED;
+        } else {
+            this.status = IndexingStatus.PENDING;
+            this.nextAttemptAt = retryAt;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package swyp.dodream.domain.indexing.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum IndexingStatus {
+    PENDING("처리 대기"),
+    PROCESSING("워커가 처리 중"),
+    FAILED("최대 재시도 초과");
+
+    private final String description;
+
+    IndexingStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,15 @@
+package swyp.dodream.domain.indexing.domain;
+
+import lombok.Getter;
+
+@Getter
+public enum IndexingTarget {
+    POST("모집글 (Elasticsearch + Qdrant posts_embeddings)"),
+    PROFILE("프로필 (Qdrant profiles_embeddings)");
+
+    private final String description;
+
+    IndexingTarget(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,37 @@
+package swyp.dodream.domain.indexing.dto;
+
+import swyp.dodream.domain.indexing.domain.IndexSyncSink;
+import swyp.dodream.domain.indexing.domain.IndexingTarget;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 검색/벡터 동기화 상태
+ *
+ * @param sinks         대상 × 저장소별 증분 동기화 상태
+ * @param outboxPending 처리 대기 중인 outbox 이벤트 수
+ * @param outboxFailed  최대 재시도를 넘긴 outbox 이벤트 수
+ */
+public record IndexSyncStatusResponse(
+        List<SinkStatus> sinks,
+        long outboxPending,
+        long outboxFailed
+) {
+
+    /**
+     * @param watermarkAt 이 시각까지의 변경은 반영 완료
+     * @param lagSeconds  현재 시각 - watermarkAt (정상이면 settle + 실행 주기 정도)
+     * @param syncedAt    마지막 실행 시각
+     * @param lastError   마지막 실행 실패 사유 (성공하면 null)
+     */
+    public record SinkStatus(
+            IndexingTarget target,
+            IndexSyncSink sink,
+            LocalDateTime watermarkAt,
+            long lagSeconds,
+            LocalDateTime syncedAt,
+            String lastError
+    ) {
+    }
+}
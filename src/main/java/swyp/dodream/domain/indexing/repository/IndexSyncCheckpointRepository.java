@@ -0,0 +1,7 @@
+package swyp.dodream.domain.indexing.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import swyp.dodream.domain.indexing.domain.IndexSyncCheckpoint;
+
+public interface IndexSyncCheckpointRepository extends JpaRepository<IndexSyncCheckpoint, String> {
+}
@@ -0,0 +1,73 @@
+package swyp.dodream.domain.indexing.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 증분 동기화 원본 변경 조회 (updated_at, id 키셋)
+ *
+ * - 소프트 삭제된 게시글도 함께 조회해야 하므로 엔티티(@Where) 대신 JDBC 로 직접 조회
+ * - (updated_at, id) 복합 인덱스 범위 스캔 (V7 마이그레이션)
+ */
+@Repository
+@RequiredArgsConstructor
+public class IndexSyncSourceRepository {
+
+    /**
+     * 변경된 행
+     * @param id      게시글 ID 또는 userId (벡터 ID 기준)
+     * @param deleted 소프트 삭제 여부
+     */
+    public record ChangedRow(long id, LocalDateTime updatedAt, boolean deleted) {
+    }
+
+    private static final String CHANGED_POSTS_SQL = """
+            SELECT id, updated_at, deleted
+            FROM post
+            WHERE (updated_at > ? OR (updated_at = ? AND id > ?))
+              AND updated_at <= ?
+            ORDER BY updated_at, id
+            LIMIT ?
+            """;
+
+    private static final String CHANGED_PROFILES_SQL = """
+            SELECT user_id AS id, updated_at, false AS deleted
+            FROM profiles
+            WHERE (updated_at > ? OR (updated_at = ? AND user_id > ?))
+              AND updated_at <= ?
+            ORDER BY updated_at, user_id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<ChangedRow> ROW_MAPPER = (rs, rowNum) -> new ChangedRow(
+            rs.getLong("id"),
+            rs.getTimestamp("updated_at").toLocalDateTime(),
+            rs.getBoolean("deleted"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (afterAt, afterId) 이후 until 까지 변경된 게시글 (삭제 포함)
+     */
+    public List<ChangedRow> findChangedPosts(LocalDateTime afterAt, long afterId, LocalDateTime until, int limit) {
+        return query(CHANGED_POSTS_SQL, afterAt, afterId, until, limit);
+    }
+
+    /**
+     * (afterAt, afterId) 이후 until 까지 변경된 프로필
+     */
+    public List<ChangedRow> findChangedProfiles(LocalDateTime afterAt, long afterId, LocalDateTime until, int limit) {
+        return query(CHANGED_PROFILES_SQL, afterAt, afterId, until, limit);
+    }
+
+    private List<ChangedRow> query(String sql, LocalDateTime afterAt, long afterId, LocalDateTime until, int limit) {
+        Timestamp after = Timestamp.valueOf(afterAt);
+        return jdbcTemplate.query(sql, ROW_MAPPER, after, after, afterId, Timestamp.valueOf(until), limit);
+    }
+}
@@ -0,0 +1,58 @@
+package swyp.dodream.domain.indexing.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import swyp.dodream.domain.indexing.domain.IndexingEvent;
+import swyp.dodream.domain.indexing.domain.IndexingStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface IndexingEventRepository extends JpaRepository<IndexingEvent, Long> {
+
+    // 처리 시각이 된 대기 이벤트 ID (오래된 순)
+    @Query("""
+            SELECT e.id FROM IndexingEvent e
+            WHERE e.status = :status AND e.nextAttemptAt <= :now
+            ORDER BY e.id
+            """)
+    List<Long> findDueIds(@Param("status") IndexingStatus status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    // 대기 이벤트 선점 - 다른 워커가 먼저 가져간 이벤트는 status 조건에서 걸러짐
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE IndexingEvent e
+            SET e.status = :processing, e.claimToken = :token, e.claimedAt = :now
+            WHERE e.id IN :ids AND e.status = :pending
+            """)
+    int claim(@Param("ids") Collection<Long> ids,
+              @Param("token") String token,
+              @Param("now") LocalDateTime now,
+              @Param("pending") IndexingStatus pending,
+              @Param("processing") IndexingStatus processing);
+
+    List<IndexingEvent> findByClaimToken(String claimToken);
+
+    // 처리 도중 인스턴스가 죽어 PROCESSING 으로 남은 이벤트 되돌리기
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE IndexingEvent e
+            SET e.status = :pending, e.claimToken = null, e.claimedAt = null
+            WHERE e.status = :processing AND e.claimedAt < :staleBefore
+            """)
+    int releaseStaleClaims(@Param("staleBefore") LocalDateTime staleBefore,
+                           @Param("pending") IndexingStatus pending,
+                           @Param("processing") IndexingStatus processing);
+
+    long countByStatus(IndexingStatus status);
+
+    @Modifying
+    @Query("DELETE FROM IndexingEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,241 @@
+package swyp.dodream.domain.indexing.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import swyp.dodream.common.redis.RedisLock;
+import swyp.dodream.domain.indexing.domain.IndexSyncCheckpoint;
+import swyp.dodream.domain.indexing.domain.IndexSyncSink;
+import swyp.dodream.domain.indexing.domain.IndexingStatus;
+import swyp.dodream.domain.indexing.domain.IndexingTarget;
+import swyp.dodream.domain.indexing.dto.IndexSyncStatusResponse;
+import swyp.dodream.domain.indexing.repository.IndexSyncCheckpointRepository;
+import swyp.dodream.domain.indexing.repository.IndexSyncSourceRepository;
+import swyp.dodream.domain.indexing.repository.IndexSyncSourceRepository.ChangedRow;
+import swyp.dodream.domain.indexing.repository.IndexingEventRepository;
+import swyp.dodream.domain.recommendation.repository.PostPayloadIndexCreatedEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 검색/벡터 증분 동기화 (updated_at 워터마크)
+ *
+ * outbox 가 놓친 변경(벌크 UPDATE, 직접 수정한 데이터, 재시도 초과 등)을 주기적으로 따라잡아
+ * 재색인 없이도 Elasticsearch/Qdrant 가 DB 와 맞춰지도록 한다.
+ *
+ * - 대상(게시글/프로필) × 저장소(ES/Qdrant)별 체크포인트 (updated_at, id) 이후 변경을 batch 단위로 조회
+ * - 변경/삭제를 묶음으로 반영하고 batch 마다 체크포인트 전진 (저장소 하나가 실패해도 다른 저장소는 계속 진행)
+ * - 커밋이 늦게 끝나는 트랜잭션을 놓치지 않도록 settle 시간 이전 변경까지만 처리
+ * - 임베딩은 원문 해시가 같으면 생략하므로 outbox 가 이미 반영한 변경을 다시 처리해도 비용이 거의 없음
+ * - 같은 작업은 Redis 락(실행별 토큰)으로 한 노드에서만 실행
+ * - 게시글 벡터 컬렉션에 추천 필터용 payload 인덱스가 새로 생기면 Qdrant 워터마크를 처음으로 되돌려 기존 포인트 payload 보강
+ */
+@Slf4j
+@Service
+public class IndexSyncService {
+
+    private static final String LOCK_KEY = "indexing:sync:lock";
+
+    /**
+     * 전체 다시 반영할 때 쓰는 워터마크
+     */
+    public static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final IndexSyncSourceRepository sourceRepository;
+    private final IndexSyncCheckpointRepository checkpointRepository;
+    private final IndexingEventRepository indexingEventRepository;
+    private final IndexingProcessor indexingProcessor;
+    private final RedisLock redisLock;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration settle;
+    private final Duration lagWarn;
+    private final Duration lockTtl;
+
+    public IndexSyncService(IndexSyncSourceRepository sourceRepository,
+                            IndexSyncCheckpointRepository checkpointRepository,
+                            IndexingEventRepository indexingEventRepository,
+                            IndexingProcessor indexingProcessor,
+                            RedisLock redisLock,
+                            @Value("${indexing.sync.batch-size:500}") int batchSize,
+                            @Value("${indexing.sync.max-batches-per-run:20}") int maxBatchesPerRun,
+                            @Value("${indexing.sync.settle-seconds:30}") long settleSeconds,
+                            @Value("${indexing.sync.lag-warn-seconds:600}") long lagWarnSeconds,
+                            @Value("${indexing.sync.lock-ttl-minutes:10}") long lockTtlMinutes) {
+        this.sourceRepository = sourceRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.indexingEventRepository = indexingEventRepository;
+        this.indexingProcessor = indexingProcessor;
+        this.redisLock = redisLock;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.settle = Duration.ofSeconds(settleSeconds);
+        this.lagWarn = Duration.ofSeconds(lagWarnSeconds);
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    @Scheduled(fixedDelayString = "${indexing.sync.interval-ms:30000}",
+            initialDelayString = "${indexing.sync.interval-ms:30000}")
+    public void sync() {
+        String lockToken = tryLock();
+        if (lockToken == null) {
+            return;
+        }
+        try {
+            LocalDateTime until = LocalDateTime.now().minus(settle);
+            for (IndexingTarget target : IndexingTarget.values()) {
+                for (IndexSyncSink sink : IndexSyncSink.values()) {
+                    syncSink(target, sink, until);
+                }
+            }
+        } catch (Exception e) {
+            // DB 일시 장애 등 - 다음 주기에 다시 시도
+            log.warn("[IndexSync] 동기화 중단: {}", e.getMessage());
+        } finally {
+            unlock(lockToken);
+        }
+    }
+
+    /**
+     * 워터마크를 지정한 시각으로 되돌림 (다음 주기부터 그 이후 변경을 다시 반영, payload 필드 추가 후 backfill 용)
+     */
+    public void rewind(IndexingTarget target, IndexSyncSink sink, LocalDateTime from) {
+        IndexSyncCheckpoint checkpoint = checkpointRepository.findById(IndexSyncCheckpoint.idOf(target, sink))
+                .orElseGet(() -> new IndexSyncCheckpoint(target, sink, from));
+        checkpoint.advance(from, 0L, LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+        log.info("[IndexSync] {} → {} 워터마크 되돌림: {}", target, sink, from);
+    }
+
+    /**
+     * 추천 필터 필드가 없는 기존 포인트 보강 (원문 해시가 같으면 임베딩 없이 payload 만 갱신)
+     */
+    @EventListener
+    public void onPostPayloadIndexCreated(PostPayloadIndexCreatedEvent event) {
+        log.info("[IndexSync] {} payload 인덱스 생성, 게시글 payload 보강 시작", event.collection());
+        rewind(IndexingTarget.POST, IndexSyncSink.QDRANT, BEGINNING);
+    }
+
+    /**
+     * 저장소별 동기화 상태 (lag = 현재 시각 - 워터마크)
+     */
+    public IndexSyncStatusResponse getStatus() {
+        LocalDateTime now = LocalDateTime.now();
+        List<IndexSyncStatusResponse.SinkStatus> sinks = new ArrayList<>();
+        for (IndexSyncCheckpoint checkpoint : checkpointRepository.findAll()) {
+            sinks.add(new IndexSyncStatusResponse.SinkStatus(
+                    checkpoint.getTarget(),
+                    checkpoint.getSink(),
+                    checkpoint.getWatermarkAt(),
+                    Duration.between(checkpoint.getWatermarkAt(), now).toSeconds(),
+                    checkpoint.getSyncedAt(),
+                    checkpoint.getLastError()));
+        }
+        return new IndexSyncStatusResponse(
+                sinks,
+                indexingEventRepository.countByStatus(IndexingStatus.PENDING),
+                indexingEventRepository.countByStatus(IndexingStatus.FAILED));
+    }
+
+    // ===== helpers =====
+
+    private void syncSink(IndexingTarget target, IndexSyncSink sink, LocalDateTime until) {
+        // 처음에는 현재 시각부터 (기존 데이터는 재색인으로 맞춤)
+        IndexSyncCheckpoint checkpoint = checkpointRepository.findById(IndexSyncCheckpoint.idOf(target, sink))
+                .orElseGet(() -> new IndexSyncCheckpoint(target, sink, until));
+
+        LocalDateTime watermarkAt = checkpoint.getWatermarkAt();
+        long lastId = checkpoint.getLastId();
+        int synced = 0;
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                List<ChangedRow> rows = fetch(target, watermarkAt, lastId, until);
+                if (!rows.isEmpty()) {
+                    apply(target, sink, rows);
+                    ChangedRow last = rows.get(rows.size() - 1);
+                    watermarkAt = last.updatedAt();
+                    lastId = last.id();
+                    synced += rows.size();
+                }
+                if (rows.size() < batchSize) {
+                    // 따라잡음 - until 시각까지의 변경은 모두 반영
+                    if (until.isAfter(watermarkAt)) {
+                        watermarkAt = until;
+                        lastId = Long.MAX_VALUE;
+                    }
+                    break;
+                }
+            }
+            checkpoint.advance(watermarkAt, lastId, LocalDateTime.now());
+        } catch (Exception e) {
+            // 반영한 batch 까지는 전진, 나머지는 다음 주기에 재시도
+            checkpoint.advance(watermarkAt, lastId, LocalDateTime.now());
+            checkpoint.recordError(e.getMessage(), LocalDateTime.now());
+            log.warn("[IndexSync] {} → {} 동기화 실패: {}", target, sink, e.getMessage());
+        }
+        checkpointRepository.save(checkpoint);
+
+        if (synced > 0) {
+            log.info("[IndexSync] {} → {} 변경 {}건 반영 (워터마크 {})", target, sink, synced, watermarkAt);
+        }
+        Duration lag = Duration.between(watermarkAt, LocalDateTime.now());
+        if (lag.compareTo(lagWarn) > 0) {
+            log.warn("[IndexSync] {} → {} 지연 {}초", target, sink, lag.toSeconds());
+        }
+    }
+
+    private List<ChangedRow> fetch(IndexingTarget target, LocalDateTime afterAt, long afterId, LocalDateTime until) {
+        return switch (target) {
+            case POST -> sourceRepository.findChangedPosts(afterAt, afterId, until, batchSize);
+            case PROFILE -> sourceRepository.findChangedProfiles(afterAt, afterId, until, batchSize);
+        };
+    }
+
+    private void apply(IndexingTarget target, IndexSyncSink sink, List<ChangedRow> rows) {
+        Set<IndexSyncSink> sinks = EnumSet.of(sink);
+        List<Long> upserts = rows.stream().filter(row -> !row.deleted()).map(ChangedRow::id).toList();
+        List<Long> deletes = rows.stream().filter(ChangedRow::deleted).map(ChangedRow::id).toList();
+
+        Map<Long, String> failures = switch (target) {
+            case POST -> {
+                if (!deletes.isEmpty()) {
+                    indexingProcessor.deletePosts(deletes, sinks);
+                }
+                yield upserts.isEmpty() ? Map.of() : indexingProcessor.upsertPosts(upserts, sinks);
+            }
+            case PROFILE -> upserts.isEmpty() ? Map.of() : indexingProcessor.upsertProfiles(upserts, sinks);
+        };
+
+        // 개별 임베딩 실패는 워터마크를 막지 않음 (다음 변경이나 재색인 때 다시 반영)
+        if (!failures.isEmpty()) {
+            log.warn("[IndexSync] {} → {} 개별 반영 실패 {}건: {}", target, sink, failures.size(), failures.keySet());
+        }
+    }
+
+    // Redis 장애 시에는 락 없이 진행 (중복 실행해도 결과는 같음), 다른 노드가 실행 중이면 null
+    private String tryLock() {
+        try {
+            return redisLock.tryLock(LOCK_KEY, lockTtl);
+        } catch (Exception e) {
+            log.warn("[IndexSync] 락 획득 실패, 락 없이 진행: {}", e.getMessage());
+            return RedisLock.NO_LOCK;
+        }
+    }
+
+    // TTL 이 지나 다른 노드가 가져간 락은 지우지 않음
+    private void unlock(String token) {
+        try {
+            redisLock.unlock(LOCK_KEY, token);
+        } catch (Exception e) {
+            log.warn("[IndexSync] 락 해제 실패 (TTL 후 만료): {}", e.getMessage());
+        }
+    }
+}
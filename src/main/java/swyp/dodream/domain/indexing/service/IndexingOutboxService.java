@@ -0,0 +1,66 @@
+package swyp.dodream.domain.indexing.service;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+import swyp.dodream.domain.indexing.domain.IndexingAction;
+import swyp.dodream.domain.indexing.domain.IndexingEvent;
+import swyp.dodream.domain.indexing.domain.IndexingTarget;
+
+/**
+ * 색인/임베딩 요청을 outbox 에 기록
+ *
+ * 호출한 서비스의 트랜잭션에 함께 참여하므로 게시글/프로필 저장이 롤백되면 요청도 사라진다.
+ * 실제 임베딩 생성, Qdrant/Elasticsearch 반영은 커밋 이후 IndexingOutboxWorker 가 수행하므로
+ * API 응답 시간은 외부 검색/벡터 저장소와 무관하다.
+ * ID 를 직접 지정하는 엔티티이므로 save(merge) 대신 persist 로 INSERT 만 실행한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class IndexingOutboxService {
+
+    private final EntityManager entityManager;
+    private final SnowflakeIdService snowflakeIdService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 게시글 색인/임베딩 갱신 요청
+     */
+    @Transactional
+    public void requestPostUpsert(Long postId) {
+        record(IndexingTarget.POST, postId, IndexingAction.UPSERT);
+    }
+
+    /**
+     * 게시글 색인/임베딩 삭제 요청
+     */
+    @Transactional
+    public void requestPostDelete(Long postId) {
+        record(IndexingTarget.POST, postId, IndexingAction.DELETE);
+    }
+
+    /**
+     * 프로필 임베딩 갱신 요청 (벡터 ID 는 userId)
+     */
+    @Transactional
+    public void requestProfileUpsert(Long userId) {
+        record(IndexingTarget.PROFILE, userId, IndexingAction.UPSERT);
+    }
+
+    /**
+     * 프로필 임베딩 삭제 요청 (벡터 ID 는 userId)
+     */
+    @Transactional
+    public void requestProfileDelete(Long userId) {
+        record(IndexingTarget.PROFILE, userId, IndexingAction.DELETE);
+    }
+
+    private void record(IndexingTarget target, Long aggregateId, IndexingAction action) {
+        entityManager.persist(
+                new IndexingEvent(snowflakeIdService.generateId(), target, aggregateId, action));
+        eventPublisher.publishEvent(new IndexingRequestedEvent());
+    }
+}
@@ -0,0 +1,213 @@
+package swyp.dodream.domain.indexing.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.dodream.domain.indexing.domain.IndexingAction;
+import swyp.dodream.domain.indexing.domain.IndexingEvent;
+import swyp.dodream.domain.indexing.domain.IndexingStatus;
+import swyp.dodream.domain.indexing.domain.IndexingTarget;
+import swyp.dodream.domain.indexing.repository.IndexingEventRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 색인/임베딩 outbox 워커
+ *
+ * - 커밋 직후(IndexingRequestedEvent) 또는 poll 주기마다 대기 이벤트를 batch-size 만큼 선점해서 처리
+ * - 같은 대상에 대한 이벤트가 여러 건이면 마지막 이벤트만 처리 (나머지는 함께 완료 처리)
+ * - 실패 시 지수 backoff(+jitter) 후 재시도, max-attempts 도달 시 FAILED 로 남김
+ * - 인스턴스당 디스패처 스레드 1개가 순서대로 처리하고, 다중 인스턴스는 claim_token 으로 중복 처리 방지
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexingOutboxWorker {
+
+    private record Key(IndexingTarget target, IndexingAction action) {
+    }
+
+    private final IndexingEventRepository indexingEventRepository;
+    private final IndexingProcessor indexingProcessor;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${indexing.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${indexing.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${indexing.outbox.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${indexing.outbox.backoff-base-ms:1000}")
+    private long backoffBaseMs;
+
+    @Value("${indexing.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${indexing.outbox.stale-claim-seconds:300}")
+    private long staleClaimSeconds;
+
+    private TransactionTemplate tx;
+    private ScheduledExecutorService dispatcher;
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean(false);
+
+    @PostConstruct
+    void start() {
+        tx = new TransactionTemplate(transactionManager);
+        dispatcher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "indexing-outbox-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dispatcher.scheduleWithFixedDelay(this::drain, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 요청 트랜잭션 커밋 직후 바로 처리 시작 (poll 주기까지 기다리지 않음)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onIndexingRequested(IndexingRequestedEvent event) {
+        if (wakeUpPending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                wakeUpPending.set(false);
+                drain();
+            });
+        }
+    }
+
+    /**
+     * 대기 이벤트가 없을 때까지 batch 단위로 처리
+     */
+    void drain() {
+        try {
+            releaseStaleClaims();
+            while (true) {
+                List<IndexingEvent> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    return;
+                }
+                process(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            // DB 일시 장애 등 - 다음 주기에 다시 시도
+            log.warn("[IndexingOutbox] 이벤트 처리 중단: {}", e.getMessage());
+        }
+    }
+
+    private void releaseStaleClaims() {
+        Integer released = tx.execute(status -> indexingEventRepository.releaseStaleClaims(
+                LocalDateTime.now().minusSeconds(staleClaimSeconds),
+                IndexingStatus.PENDING, IndexingStatus.PROCESSING));
+        if (released != null && released > 0) {
+            log.warn("[IndexingOutbox] 처리가 끊긴 이벤트 {}건 재대기", released);
+        }
+    }
+
+    private List<IndexingEvent> claimBatch() {
+        String token = UUID.randomUUID().toString();
+        return tx.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> dueIds = indexingEventRepository.findDueIds(
+                    IndexingStatus.PENDING, now, PageRequest.of(0, batchSize));
+            if (dueIds.isEmpty()) {
+                return List.of();
+            }
+            indexingEventRepository.claim(dueIds, token, now, IndexingStatus.PENDING, IndexingStatus.PROCESSING);
+            return indexingEventRepository.findByClaimToken(token);
+        });
+    }
+
+    private void process(List<IndexingEvent> batch) {
+        // 대상별 마지막 이벤트만 처리
+        Map<String, IndexingEvent> latestByAggregate = batch.stream()
+                .collect(Collectors.toMap(
+                        e -> e.getTarget() + ":" + e.getAggregateId(),
+                        Function.identity(),
+                        (a, b) -> a.getId() > b.getId() ? a : b));
+
+        Set<Long> doneIds = batch.stream().map(IndexingEvent::getId).collect(Collectors.toSet());
+        Map<Long, String> failedIds = new HashMap<>();
+
+        Map<Key, List<IndexingEvent>> groups = latestByAggregate.values().stream()
+                .collect(Collectors.groupingBy(e -> new Key(e.getTarget(), e.getAction())));
+
+        groups.forEach((key, events) -> {
+            Map<Long, IndexingEvent> byAggregateId = events.stream()
+                    .collect(Collectors.toMap(IndexingEvent::getAggregateId, Function.identity()));
+            try {
+                dispatch(key, byAggregateId.keySet()).forEach((aggregateId, error) ->
+                        failedIds.put(byAggregateId.get(aggregateId).getId(), error));
+            } catch (Exception e) {
+                log.warn("[IndexingOutbox] {} {} {}건 처리 실패: {}", key.target(), key.action(), events.size(), e.getMessage());
+                events.forEach(event -> failedIds.put(event.getId(), e.getMessage()));
+            }
+        });
+
+        doneIds.removeAll(failedIds.keySet());
+        complete(doneIds, failedIds);
+    }
+
+    private Map<Long, String> dispatch(Key key, Set<Long> aggregateIds) {
+        return switch (key.target()) {
+            case POST -> key.action() == IndexingAction.UPSERT
+                    ? indexingProcessor.upsertPosts(aggregateIds)
+                    : indexingProcessor.deletePosts(aggregateIds);
+            case PROFILE -> key.action() == IndexingAction.UPSERT
+                    ? indexingProcessor.upsertProfiles(aggregateIds)
+                    : indexingProcessor.deleteProfiles(aggregateIds);
+        };
+    }
+
+    private void complete(Set<Long> doneIds, Map<Long, String> failedIds) {
+        tx.executeWithoutResult(status -> {
+            if (!doneIds.isEmpty()) {
+                indexingEventRepository.deleteByIdIn(doneIds);
+            }
+            if (!failedIds.isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                for (IndexingEvent event : indexingEventRepository.findAllById(failedIds.keySet())) {
+                    event.markFailed(failedIds.get(event.getId()), now.plus(backoff(event.getAttempts() + 1)), maxAttempts);
+                    if (event.getStatus() == IndexingStatus.FAILED) {
+                        log.error("[IndexingOutbox] 최대 재시도 초과: {} {} id={}, error={}",
+                                event.getTarget(), event.getAction(), event.getAggregateId(), event.getLastError());
+                    }
+                }
+            }
+        });
+    }
+
+    // base * 2^(attempt-1), 최대 backoff-max-ms, 0~20% jitter
+    private Duration backoff(int attempt) {
+        long delay = backoffBaseMs << Math.min(attempt - 1, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        delay += (long) (delay * 0.2 * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(delay);
+    }
+}
@@ -0,0 +1,283 @@
+package swyp.dodream.domain.indexing.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+import swyp.dodream.domain.ai.service.EmbeddingService;
+import swyp.dodream.domain.indexing.domain.IndexSyncSink;
+import swyp.dodream.domain.post.domain.Post;
+import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.profile.repository.ProfileRepository;
+import swyp.dodream.domain.recommendation.index.EmbeddedVectorStore;
+import swyp.dodream.domain.recommendation.repository.VectorPoint;
+import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.recommendation.util.TextExtractor;
+import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.service.PostIndexService;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * outbox 이벤트 / 증분 동기화 실제 처리기 (임베딩 생성 + Elasticsearch/Qdrant 반영)
+ *
+ * - 대상 엔티티는 ID 묶음으로 한 번에 조회 (읽기 전용 트랜잭션)
+ * - 저장소(sink)별로 나눠서 반영할 수 있음 (증분 동기화는 저장소별 체크포인트를 따로 관리)
+ * - 임베딩 원문 해시를 Qdrant payload(textHash)에 저장하고, 해시가 같으면 임베딩을 다시 만들지 않음
+ *   (게시글은 payloadHash 도 비교해서 상태/마감일 등만 바뀐 경우 payload 만 갱신)
+ * - 임베딩은 EmbeddingService.embedAll 로 묶음 요청 (캐시 일괄 조회 + Clova 동시 호출 수 제한을 그대로 사용)
+ * - Elasticsearch saveAll / Qdrant PUT /points 는 묶음당 한 번씩만 호출
+ * - Qdrant 반영 후 프로세스 내 벡터 인덱스(EmbeddedVectorStore)에도 같은 변경을 바로 반영
+ * - 반환값은 실패한 ID → 에러 메시지 (묶음 전체 실패는 예외로 전달)
+ */
+@Slf4j
+@Component
+public class IndexingProcessor {
+
+    private static final String TEXT_HASH = "textHash";
+    private static final String PAYLOAD_HASH = "payloadHash";
+    private static final Set<IndexSyncSink> ALL_SINKS = EnumSet.allOf(IndexSyncSink.class);
+
+    private final PostRepository postRepository;
+    private final ProfileRepository profileRepository;
+    private final PostIndexService postIndexService;
+    private final VectorRepository vectorRepository;
+    private final Optional<EmbeddedVectorStore> embeddedVectorStore;
+    private final Optional<EmbeddingService> embeddingService;
+    private final TransactionTemplate readOnlyTx;
+
+    private record PostSnapshot(Long id, String text, Map<String, Object> payload, PostDocument document) {
+    }
+
+    private record ProfileSnapshot(Long userId, String nickname, Integer profileImageCode, String text) {
+    }
+
+    public IndexingProcessor(PostRepository postRepository,
+                             ProfileRepository profileRepository,
+                             PostIndexService postIndexService,
+                             VectorRepository vectorRepository,
+                             Optional<EmbeddedVectorStore> embeddedVectorStore,
+                             Optional<EmbeddingService> embeddingService,
+                             PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.profileRepository = profileRepository;
+        this.postIndexService = postIndexService;
+        this.vectorRepository = vectorRepository;
+        this.embeddedVectorStore = embeddedVectorStore;
+        this.embeddingService = embeddingService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 게시글 색인 + 임베딩 갱신
+     * 이미 삭제된 게시글은 성공으로 간주 (삭제 이벤트가 따로 처리)
+     */
+    public Map<Long, String> upsertPosts(Collection<Long> postIds) {
+        return upsertPosts(postIds, ALL_SINKS);
+    }
+
+    /**
+     * 게시글을 지정한 저장소에만 반영
+     */
+    public Map<Long, String> upsertPosts(Collection<Long> postIds, Set<IndexSyncSink> sinks) {
+        List<PostSnapshot> snapshots = readOnlyTx.execute(status -> {
+            List<Post> posts = postRepository.findAllById(postIds);
+            List<PostDocument> documents = postIndexService.toDocuments(posts);
+            List<PostSnapshot> result = new ArrayList<>(posts.size());
+            for (int i = 0; i < posts.size(); i++) {
+                result.add(snapshot(posts.get(i), documents.get(i)));
+            }
+            return result;
+        });
+        if (snapshots == null || snapshots.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. Elasticsearch
+        if (sinks.contains(IndexSyncSink.ELASTICSEARCH)) {
+            postIndexService.saveDocuments(snapshots.stream().map(PostSnapshot::document).toList());
+        }
+
+        // 2. Qdrant (임베딩 사용 환경만)
+        if (!sinks.contains(IndexSyncSink.QDRANT) || embeddingService.isEmpty()) {
+            return Map.of();
+        }
+
+        // 원문이 그대로면 임베딩 생략, payload(상태/마감일 등)만 바뀌었으면 payload 만 갱신
+        Map<Long, Map<String, String>> stored = vectorRepository.findPayloadValues(
+                snapshots.stream().map(PostSnapshot::id).toList(), List.of(TEXT_HASH, PAYLOAD_HASH));
+        List<PostSnapshot> changed = new ArrayList<>();
+        Map<Long, Map<String, Object>> payloadOnly = new HashMap<>();
+        for (PostSnapshot snapshot : snapshots) {
+            Map<String, String> storedHashes = stored.getOrDefault(snapshot.id(), Map.of());
+            if (!snapshot.payload().get(TEXT_HASH).equals(storedHashes.get(TEXT_HASH))) {
+                changed.add(snapshot);
+            } else if (!snapshot.payload().get(PAYLOAD_HASH).equals(storedHashes.get(PAYLOAD_HASH))) {
+                payloadOnly.put(snapshot.id(), snapshot.payload());
+            }
+        }
+        vectorRepository.setPayloads(payloadOnly);
+        embeddedVectorStore.ifPresent(store -> store.updatePostPayloads(payloadOnly));
+
+        Map<Long, String> texts = new LinkedHashMap<>();
+        changed.forEach(s -> texts.put(s.id(), s.text()));
+
+        Map<Long, String> failures = new HashMap<>();
+        Map<Long, float[]> embeddings = embedAll(texts, failures);
+
+        List<VectorPoint> points = changed.stream()
+                .filter(s -> embeddings.containsKey(s.id()))
+                .map(s -> new VectorPoint(s.id(), embeddings.get(s.id()), s.payload()))
+                .toList();
+        vectorRepository.upsertVectors(points);
+        embeddedVectorStore.ifPresent(store -> store.upsertPosts(points));
+
+        log.debug("[Indexing] 게시글 반영: 대상 {}건, 벡터 {}건, payload 만 {}건, 실패 {}건",
+                snapshots.size(), points.size(), payloadOnly.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * 게시글 색인 + 벡터 삭제
+     */
+    public Map<Long, String> deletePosts(Collection<Long> postIds) {
+        return deletePosts(postIds, ALL_SINKS);
+    }
+
+    /**
+     * 게시글을 지정한 저장소에서만 삭제
+     */
+    public Map<Long, String> deletePosts(Collection<Long> postIds, Set<IndexSyncSink> sinks) {
+        if (sinks.contains(IndexSyncSink.ELASTICSEARCH)) {
+            postIndexService.deleteDocuments(postIds);
+        }
+        if (sinks.contains(IndexSyncSink.QDRANT) && embeddingService.isPresent()) {
+            vectorRepository.deleteVectors(postIds);
+            embeddedVectorStore.ifPresent(store -> store.deletePosts(postIds));
+        }
+        return Map.of();
+    }
+
+    /**
+     * 프로필 변경 반영: 작성 모집글 검색 문서의 작성자 정보 + 프로필 임베딩 (벡터 ID 는 userId)
+     */
+    public Map<Long, String> upsertProfiles(Collection<Long> userIds) {
+        return upsertProfiles(userIds, ALL_SINKS);
+    }
+
+    /**
+     * 프로필 변경을 지정한 저장소에만 반영
+     */
+    public Map<Long, String> upsertProfiles(Collection<Long> userIds, Set<IndexSyncSink> sinks) {
+        // 지연 로딩 컬렉션을 읽으므로 텍스트 추출까지 트랜잭션 안에서 처리
+        List<ProfileSnapshot> snapshots = readOnlyTx.execute(status ->
+                profileRepository.findByUserIdIn(userIds).stream()
+                        .map(profile -> new ProfileSnapshot(profile.getUserId(), profile.getNickname(),
+                                profile.getProfileImageCode(), TextExtractor.extractFromProfile(profile)))
+                        .toList());
+        if (snapshots == null || snapshots.isEmpty()) {
+            return Map.of();
+        }
+
+        // 1. 작성한 모집글 검색 문서의 작성자 정보 (닉네임/프로필 이미지)
+        if (sinks.contains(IndexSyncSink.ELASTICSEARCH)) {
+            for (ProfileSnapshot snapshot : snapshots) {
+                postIndexService.updateOwner(snapshot.userId(), snapshot.nickname(), snapshot.profileImageCode());
+            }
+        }
+
+        // 2. 프로필 벡터 (임베딩 사용 환경만)
+        if (!sinks.contains(IndexSyncSink.QDRANT) || embeddingService.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, String> texts = new LinkedHashMap<>();
+        for (ProfileSnapshot snapshot : snapshots) {
+            if (snapshot.text() != null && !snapshot.text().isBlank()) {
+                texts.put(snapshot.userId(), snapshot.text());
+            }
+        }
+        if (texts.isEmpty()) {
+            return Map.of();
+        }
+
+        // 원문이 그대로인 프로필은 임베딩 생략
+        Map<Long, String> hashes = new HashMap<>();
+        texts.forEach((userId, text) -> hashes.put(userId, hash(text)));
+        Map<Long, String> storedHashes = vectorRepository.findProfilePayloadValues(texts.keySet(), TEXT_HASH);
+        texts.keySet().removeIf(userId -> hashes.get(userId).equals(storedHashes.get(userId)));
+
+        Map<Long, String> failures = new HashMap<>();
+        Map<Long, float[]> embeddings = embedAll(texts, failures);
+
+        List<VectorPoint> points = embeddings.entrySet().stream()
+                .map(e -> new VectorPoint(e.getKey(), e.getValue(), Map.of(TEXT_HASH, hashes.get(e.getKey()))))
+                .toList();
+        vectorRepository.upsertProfileVectors(points);
+        embeddedVectorStore.ifPresent(store -> store.upsertProfiles(points));
+
+        log.debug("[Indexing] 프로필 벡터 반영: {}건, 실패 {}건", points.size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * 프로필 벡터 삭제
+     */
+    public Map<Long, String> deleteProfiles(Collection<Long> userIds) {
+        if (embeddingService.isPresent()) {
+            vectorRepository.deleteProfileVectors(userIds);
+            embeddedVectorStore.ifPresent(store -> store.deleteProfiles(userIds));
+        }
+        return Map.of();
+    }
+
+    // ===== helpers =====
+
+    private static PostSnapshot snapshot(Post post, PostDocument document) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("title", post.getTitle());
+        payload.put("content", post.getContent());
+        payload.put("projectType", post.getProjectType().name());
+        payload.put("activityMode", post.getActivityMode().name());
+        // 추천 검색 payload 필터용
+        payload.put("status", post.getStatus().name());
+        payload.put("ownerId", post.getOwner().getId());
+        if (post.getDeadlineAt() != null) {
+            payload.put("deadlineAt", post.getDeadlineAt().atZone(ZoneId.systemDefault()).toEpochSecond());
+        }
+
+        String text = TextExtractor.extractFromPost(post);
+        payload.put(PAYLOAD_HASH, hash(new TreeMap<>(payload).toString()));
+        payload.put(TEXT_HASH, hash(text));
+
+        return new PostSnapshot(post.getId(), text, payload, document);
+    }
+
+    private static String hash(String text) {
+        return DigestUtils.md5DigestAsHex(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 텍스트 묶음 임베딩 (캐시에 없는 것만 Clova 호출)
+     * 개별 실패는 failures 에 담고 성공한 것만 반환
+     */
+    private Map<Long, float[]> embedAll(Map<Long, String> texts, Map<Long, String> failures) {
+        List<Long> ids = new ArrayList<>(texts.keySet());
+        List<float[]> vectors = embeddingService.orElseThrow().embedAll(new ArrayList<>(texts.values()));
+
+        Map<Long, float[]> embeddings = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            float[] vector = vectors.get(i);
+            if (vector != null) {
+                embeddings.put(ids.get(i), vector);
+            } else {
+                failures.put(ids.get(i), "임베딩 생성 실패");
+            }
+        }
+        return embeddings;
+    }
+}
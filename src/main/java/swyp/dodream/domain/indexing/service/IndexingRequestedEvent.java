@@ -0,0 +1,8 @@
+package swyp.dodream.domain.indexing.service;
+
+/**
+ * outbox 에 이벤트가 기록되었음을 워커에 알리는 애플리케이션 이벤트
+ * (커밋 이후에만 전달되며, 유실되어도 워커의 주기 조회가 처리)
+ */
+public record IndexingRequestedEvent() {
+}
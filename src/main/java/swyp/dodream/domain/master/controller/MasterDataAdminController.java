@@ -0,0 +1,32 @@
+package swyp.dodream.domain.master.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import swyp.dodream.domain.master.service.MasterDataRegistry;
+
+/**
+ * 마스터 데이터 관리 API
+ */
+@Tag(name = "Master Data Admin", description = "마스터 데이터 관리 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/master-data")
+public class MasterDataAdminController {
+
+    private final MasterDataRegistry masterDataRegistry;
+
+    @PostMapping("/reload")
+    @Operation(
+            summary = "마스터 데이터 다시 읽기",
+            description = "직군/기술 스택/관심 키워드를 DB 에서 다시 읽어 이 서버에 즉시 반영합니다. 다른 서버는 갱신 주기 내에 반영됩니다."
+    )
+    public ResponseEntity<String> reload() {
+        masterDataRegistry.reload();
+        return ResponseEntity.ok("마스터 데이터를 다시 읽었습니다.");
+    }
+}
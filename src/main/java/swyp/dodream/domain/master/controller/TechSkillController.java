@@ -2,19 +2,19 @@ package swyp.dodream.domain.master.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import swyp.dodream.domain.master.dto.TechCategoryResponse;
 import swyp.dodream.domain.master.dto.TechSkillResponse;
 import swyp.dodream.domain.master.service.TechSkillService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/tech-skills")
 @RequiredArgsConstructor
@@ -31,12 +31,13 @@ public class TechSkillController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = TechCategoryResponse.class)))
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TechCategoryResponse.class))))
     })
     @GetMapping("/categories")
-    public ResponseEntity<List<TechCategoryResponse>> getAllCategories() {
-        List<TechCategoryResponse> result = techSkillService.getAllCategories();
-        return ResponseEntity.ok(result);
+    public ResponseEntity<String> getAllCategories() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(techSkillService.getAllCategories());
     }
 
     // ==============================
@@ -48,11 +49,11 @@ public class TechSkillController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = TechSkillResponse.class))),
+                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = TechSkillResponse.class)))),
             @ApiResponse(responseCode = "404", description = "카테고리를 찾을 수 없음")
     })
     @GetMapping
-    public ResponseEntity<List<TechSkillResponse>> getSkillsByCategory(
+    public ResponseEntity<String> getSkillsByCategory(
             @Parameter(
                     description = "기술 카테고리 ID (예: 1 = 프론트엔드, 2 = 백엔드 등). " +
                             "입력하지 않으면 전체 기술 스택을 반환합니다.",
@@ -60,7 +61,8 @@ public class TechSkillController {
             )
             @RequestParam(required = false) Long categoryId
     ) {
-        List<TechSkillResponse> result = techSkillService.getSkills(categoryId);
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(techSkillService.getSkills(categoryId));
     }
 }
\ No newline at end of file
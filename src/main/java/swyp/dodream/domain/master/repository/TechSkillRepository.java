@@ -14,4 +14,8 @@ public interface TechSkillRepository extends JpaRepository<TechSkill, Long> {
     List<TechSkill> findByNameInJpql(@Param("names") Collection<String> names);
 
     List<TechSkill> findByCategory(TechCategory category);
+
+    // 마스터 데이터 레지스트리 로딩용 (카테고리 이름까지 한 번에)
+    @Query("SELECT ts FROM TechSkill ts JOIN FETCH ts.category")
+    List<TechSkill> findAllWithCategory();
 }
\ No newline at end of file
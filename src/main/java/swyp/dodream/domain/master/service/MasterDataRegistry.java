@@ -0,0 +1,235 @@
+package swyp.dodream.domain.master.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.dodream.domain.master.domain.InterestKeyword;
+import swyp.dodream.domain.master.domain.Role;
+import swyp.dodream.domain.master.domain.TechCategory;
+import swyp.dodream.domain.master.domain.TechSkill;
+import swyp.dodream.domain.master.dto.TechCategoryResponse;
+import swyp.dodream.domain.master.dto.TechSkillResponse;
+import swyp.dodream.domain.master.repository.InterestKeywordRepository;
+import swyp.dodream.domain.master.repository.RoleRepository;
+import swyp.dodream.domain.master.repository.TechCategoryRepository;
+import swyp.dodream.domain.master.repository.TechSkillRepository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 마스터 데이터(직군, 기술 스택, 기술 카테고리, 관심 키워드) 메모리 레지스트리
+ *
+ * - 기동 시 한 번 읽어서 id → 항목, 이름 → 항목 불변 Map 으로 보관 (조회 시 DB 접근 없음)
+ * - 마스터 데이터 API 응답 JSON 도 미리 만들어 둠
+ * - 관리자 API 로 즉시 다시 읽거나, refresh-interval 주기로 다시 읽음 (다른 노드도 주기 내에 반영)
+ * - 연관관계에 넣을 엔티티는 getReference 프록시로 반환 (SELECT 없이 FK 만 사용)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MasterDataRegistry {
+
+    /**
+     * 마스터 항목 (id + 이름)
+     */
+    public record Item(Long id, String name) {
+    }
+
+    private record Table(Map<Long, Item> byId, Map<String, Item> byName) {
+
+        static <E> Table of(List<E> entities, Function<E, Long> idFn, Function<E, String> nameFn) {
+            Map<Long, Item> byId = new HashMap<>();
+            Map<String, Item> byName = new HashMap<>();
+            for (E entity : entities) {
+                Item item = new Item(idFn.apply(entity), nameFn.apply(entity));
+                byId.put(item.id(), item);
+                byName.put(item.name(), item);
+            }
+            return new Table(Map.copyOf(byId), Map.copyOf(byName));
+        }
+
+        List<Item> findByNames(Collection<String> names) {
+            return names.stream().map(byName::get).filter(Objects::nonNull).toList();
+        }
+
+        List<Item> findByIds(Collection<Long> ids) {
+            return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        }
+    }
+
+    private record Snapshot(Table roles,
+                            Table techSkills,
+                            Table techCategories,
+                            Table interestKeywords,
+                            String techCategoriesJson,
+                            String techSkillsJson,
+                            Map<Long, String> techSkillsJsonByCategory) {
+    }
+
+    private final RoleRepository roleRepository;
+    private final TechSkillRepository techSkillRepository;
+    private final TechCategoryRepository techCategoryRepository;
+    private final InterestKeywordRepository interestKeywordRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    private volatile Snapshot snapshot;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            reload();
+        } catch (Exception e) {
+            // 첫 조회 시 다시 시도
+            log.error("[MasterData] 기동 시 마스터 데이터 로딩 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${master-data.refresh-interval-ms:600000}",
+            initialDelayString = "${master-data.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("[MasterData] 주기 갱신 실패, 기존 데이터 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 에서 다시 읽어서 통째로 교체 (조회 중인 요청은 이전 스냅샷을 그대로 사용)
+     */
+    public synchronized void reload() {
+        // 호출한 쪽 트랜잭션/영속성 컨텍스트와 섞이지 않도록 별도 트랜잭션에서 읽음
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        tx.setReadOnly(true);
+        Snapshot loaded = tx.execute(status -> load());
+        snapshot = loaded;
+        log.info("[MasterData] 로딩 완료: 직군 {}, 기술 스택 {}, 기술 카테고리 {}, 관심 키워드 {}",
+                loaded.roles().byId().size(), loaded.techSkills().byId().size(),
+                loaded.techCategories().byId().size(), loaded.interestKeywords().byId().size());
+    }
+
+    // ===== 직군 =====
+
+    public List<Item> findRolesByNames(Collection<String> names) {
+        return snapshot().roles().findByNames(names);
+    }
+
+    public List<Item> findRolesByIds(Collection<Long> ids) {
+        return snapshot().roles().findByIds(ids);
+    }
+
+    public Optional<Item> findRole(Long id) {
+        return Optional.ofNullable(snapshot().roles().byId().get(id));
+    }
+
+    public Role roleReference(Long id) {
+        return entityManager.getReference(Role.class, id);
+    }
+
+    // ===== 기술 스택 =====
+
+    public List<Item> findTechSkillsByNames(Collection<String> names) {
+        return snapshot().techSkills().findByNames(names);
+    }
+
+    public List<Item> findTechSkillsByIds(Collection<Long> ids) {
+        return snapshot().techSkills().findByIds(ids);
+    }
+
+    public TechSkill techSkillReference(Long id) {
+        return entityManager.getReference(TechSkill.class, id);
+    }
+
+    // ===== 관심 키워드 =====
+
+    public List<Item> findInterestKeywordsByNames(Collection<String> names) {
+        return snapshot().interestKeywords().findByNames(names);
+    }
+
+    public List<Item> findInterestKeywordsByIds(Collection<Long> ids) {
+        return snapshot().interestKeywords().findByIds(ids);
+    }
+
+    public InterestKeyword interestKeywordReference(Long id) {
+        return entityManager.getReference(InterestKeyword.class, id);
+    }
+
+    // ===== API 응답 JSON =====
+
+    public String techCategoriesJson() {
+        return snapshot().techCategoriesJson();
+    }
+
+    /**
+     * @param categoryId null 이면 전체 기술 스택
+     * @return 없는 카테고리면 empty
+     */
+    public Optional<String> techSkillsJson(Long categoryId) {
+        Snapshot current = snapshot();
+        if (categoryId == null) {
+            return Optional.of(current.techSkillsJson());
+        }
+        return Optional.ofNullable(current.techSkillsJsonByCategory().get(categoryId));
+    }
+
+    // ===== helpers =====
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            reload();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        List<Role> roles = roleRepository.findAll();
+        List<TechCategory> categories = new ArrayList<>(techCategoryRepository.findAll());
+        List<TechSkill> skills = new ArrayList<>(techSkillRepository.findAllWithCategory());
+        List<InterestKeyword> keywords = interestKeywordRepository.findAll();
+
+        categories.sort(Comparator.comparing(TechCategory::getId));
+        skills.sort(Comparator.comparing(TechSkill::getId));
+
+        List<TechSkillResponse> skillResponses = skills.stream().map(TechSkillResponse::from).toList();
+        Map<Long, List<TechSkillResponse>> skillsByCategory = new HashMap<>();
+        categories.forEach(category -> skillsByCategory.put(category.getId(), new ArrayList<>()));
+        for (int i = 0; i < skills.size(); i++) {
+            skillsByCategory.get(skills.get(i).getCategory().getId()).add(skillResponses.get(i));
+        }
+
+        return new Snapshot(
+                Table.of(roles, Role::getId, Role::getName),
+                Table.of(skills, TechSkill::getId, TechSkill::getName),
+                Table.of(categories, TechCategory::getId, TechCategory::getName),
+                Table.of(keywords, InterestKeyword::getId, InterestKeyword::getName),
+                toJson(categories.stream().map(TechCategoryResponse::from).toList()),
+                toJson(skillResponses),
+                skillsByCategory.entrySet().stream()
+                        .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> toJson(e.getValue())))
+        );
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("마스터 데이터 JSON 변환 실패", e);
+        }
+    }
+}
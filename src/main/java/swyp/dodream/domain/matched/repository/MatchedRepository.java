@@ -11,6 +11,7 @@ import swyp.dodream.domain.post.domain.Post;
 import swyp.dodream.domain.user.domain.User;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -133,4 +134,20 @@ public interface MatchedRepository extends JpaRepository<Matched, Long> {
           AND m.isCanceled = false
         """)
     List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 여러 게시글에 대한 특정 유저의 매칭 내역 일괄 조회 (목록 응답 N+1 방지)
+     */
+    List<Matched> findByPostIdInAndUserId(Collection<Long> postIds, Long userId);
+
+    /**
+     * 주어진 지원 중 매칭이 취소된 지원 ID 목록
+     */
+    @Query("""
+        SELECT m.application.id
+        FROM Matched m
+        WHERE m.application.id IN :applicationIds
+          AND m.isCanceled = true
+        """)
+    List<Long> findCanceledApplicationIds(@Param("applicationIds") Collection<Long> applicationIds);
 }
@@ -6,45 +6,54 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
-import swyp.dodream.domain.notification.domain.Notification;
-import swyp.dodream.domain.notification.infra.SseEmitterPool;
-import swyp.dodream.domain.notification.repository.NotificationRepository;
+import swyp.dodream.domain.notification.dto.NotificationListResponse;
 import swyp.dodream.domain.notification.service.NotificationService;
 import swyp.dodream.jwt.dto.UserPrincipal;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/notifications")
 @RequiredArgsConstructor
 public class NotificationController {
 
-    private final SseEmitterPool sseEmitterPool;
-    private final NotificationRepository notificationRepository;
     private final NotificationService notificationService;
 
     @Operation(
             summary = "알림 SSE 구독",
-            description = "로그인한 사용자의 알림 스트림을 구독"
+            description = "로그인한 사용자의 알림 스트림을 구독 (재연결 시 Last-Event-ID 이후 알림 재전송)"
     )
     @PreAuthorize("isAuthenticated()")
     @GetMapping("/stream")
-    public SseEmitter stream(Authentication authentication) {
+    public SseEmitter stream(Authentication authentication,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         Long userId = principal.getUserId();
-        return sseEmitterPool.subscribe(userId);
+        return notificationService.subscribe(userId, lastEventId);
     }
 
     @Operation(
             summary = "알림 목록 조회",
-            description = "로그인한 사용자의 알림 목록을 최신순으로 조회"
+            description = "로그인한 사용자의 알림 목록을 최신순으로 조회 (cursor 에 이전 응답의 nextCursor 를 넣어 다음 페이지 조회)"
     )
     @PreAuthorize("isAuthenticated()")
     @GetMapping
-    public List<Notification> list(Authentication authentication) {
+    public NotificationListResponse list(Authentication authentication,
+                                         @RequestParam(required = false) Long cursor,
+                                         @RequestParam(defaultValue = "20") Integer size) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        Long userId = principal.getUserId();
+        return notificationService.getNotifications(userId, cursor, size);
+    }
+
+    @Operation(
+            summary = "안 읽은 알림 수 조회",
+            description = "로그인한 사용자의 안 읽은 알림 수"
+    )
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/unread-count")
+    public long unreadCount(Authentication authentication) {
         UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
         Long userId = principal.getUserId();
-        return notificationRepository.findAllByReceiverIdOrderByCreatedAtDesc(userId);
+        return notificationService.getUnreadCount(userId);
     }
 
     @Operation(
@@ -59,6 +68,18 @@ public class NotificationController {
         notificationService.markAsRead(id, userId);
     }
 
+    @Operation(
+            summary = "알림 모두 읽음 처리",
+            description = "로그인한 사용자의 안 읽은 알림을 모두 읽음 처리"
+    )
+    @PreAuthorize("isAuthenticated()")
+    @PostMapping("/read-all")
+    public void readAll(Authentication authentication) {
+        UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+        Long userId = principal.getUserId();
+        notificationService.markAllAsRead(userId);
+    }
+
     @Operation(
             summary = "[DEV_TEST] 특정 사용자에게 테스트 알림 발송",
             description = "개발/테스트 환경에서 사용"
@@ -9,7 +9,13 @@ import swyp.dodream.common.entity.BaseEntity;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "notifications")
+@Table(name = "notifications",
+        indexes = {
+                // 같은 (유저, 타입, 모집글) 알림 중복 확인 / 일괄 알림 anti-join
+                @Index(name = "idx_notifications_receiver_type_post", columnList = "receiver_id, type, target_post_id"),
+                // 알림함 최신순 keyset 페이지 (receiver_id = ? AND id < ? ORDER BY id DESC)
+                @Index(name = "idx_notifications_receiver_id", columnList = "receiver_id, id DESC")
+        })
 public class Notification extends BaseEntity {
 
     @Id
@@ -0,0 +1,14 @@
+package swyp.dodream.domain.notification.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record NotificationListResponse(
+        List<NotificationResponse> notifications,
+        Long nextCursor,      // 다음 페이지 요청 시 cursor (마지막 알림 id)
+        boolean hasNext,
+        long unreadCount
+) {
+}
@@ -3,14 +3,26 @@ package swyp.dodream.domain.notification.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import swyp.dodream.domain.notification.domain.Notification;
 import swyp.dodream.domain.notification.domain.NotificationType;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 public class NotificationPayload {
+    private Long notificationId;   // SSE event id (재연결 시 Last-Event-ID 로 누락분 재전송)
     private Long receiverId;
     private NotificationType type;
     private String message;
     private Long targetPostId;
+
+    public static NotificationPayload from(Notification notification) {
+        return new NotificationPayload(
+                notification.getId(),
+                notification.getReceiverId(),
+                notification.getType(),
+                notification.getMessage(),
+                notification.getTargetPostId()
+        );
+    }
 }
\ No newline at end of file
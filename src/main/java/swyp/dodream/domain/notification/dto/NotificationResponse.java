@@ -0,0 +1,28 @@
+package swyp.dodream.domain.notification.dto;
+
+import swyp.dodream.domain.notification.domain.Notification;
+import swyp.dodream.domain.notification.domain.NotificationType;
+
+import java.time.LocalDateTime;
+
+public record NotificationResponse(
+        Long id,
+        NotificationType type,
+        String message,
+        Long targetPostId,
+        String targetPostTitle,
+        boolean isRead,
+        LocalDateTime createdAt
+) {
+    public static NotificationResponse from(Notification notification) {
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getType(),
+                notification.getMessage(),
+                notification.getTargetPostId(),
+                notification.getTargetPostTitle(),
+                notification.isRead(),
+                notification.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package swyp.dodream.domain.notification.dto;
+
+/**
+ * 일괄 알림 대상 (받는 유저 + 모집글)
+ */
+public record NotificationTarget(Long receiverId, Long postId, String postTitle) {
+}
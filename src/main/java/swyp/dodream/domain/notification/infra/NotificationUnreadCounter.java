@@ -0,0 +1,151 @@
+package swyp.dodream.domain.notification.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * 안 읽은 알림 수 카운터 (Redis, 유저당 키 1개)
+ *
+ * - 조회는 O(1), 키가 없으면 DB 에서 한 번 세서 채움
+ * - 증감은 키가 있을 때만 반영 (없는 키를 1 부터 시작하면 실제 값과 어긋나므로 다음 조회 때 DB 에서 채움)
+ * - 트랜잭션 안에서 호출하면 커밋 후에 반영 (롤백되면 반영 안 함, 커밋 전 알림이 다른 요청의 카운트에 잡히지 않음)
+ * - TTL 로 주기적으로 DB 값과 다시 맞춤 (보관 기간 정리 등으로 생기는 오차 보정)
+ * - Redis 장애 시 DB 카운트로 대체
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    // 키가 있을 때만 더하고 0 미만으로 내려가지 않게 함
+    private static final DefaultRedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+            "local v = redis.call('incrby', KEYS[1], ARGV[1]) " +
+            "if v < 0 then redis.call('set', KEYS[1], 0, 'KEEPTTL') v = 0 end " +
+            "return v", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+
+    public NotificationUnreadCounter(RedisTemplate<String, String> redisTemplate,
+                                     @Value("${notification.unread-count.ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * 안 읽은 알림 수
+     * @param dbCount 캐시에 없을 때 DB 에서 세는 함수
+     */
+    public long get(Long userId, LongSupplier dbCount) {
+        String key = KEY_PREFIX + userId;
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 조회 실패, DB 로 대체: {}", e.getMessage());
+            return dbCount.getAsLong();
+        }
+
+        long count = dbCount.getAsLong();
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] Redis 저장 실패: {}", e.getMessage());
+        }
+        return count;
+    }
+
+    public void increment(Long userId) {
+        afterCommit(() -> add(userId, 1));
+    }
+
+    public void decrement(Long userId) {
+        afterCommit(() -> add(userId, -1));
+    }
+
+    /**
+     * 여러 유저 카운터를 pipeline 으로 한 번에 증가 (일괄 알림용)
+     */
+    public void incrementAll(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> addAll(deltas));
+    }
+
+    /**
+     * 모두 읽음 처리 후 0 으로
+     */
+    public void reset(Long userId) {
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + userId, "0", ttl);
+            } catch (Exception e) {
+                log.warn("[UnreadCounter] 초기화 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    // 트랜잭션 중이면 커밋 후 실행, 아니면 바로 실행
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void addAll(Map<Long, Long> deltas) {
+        byte[] script = ADD_IF_EXISTS_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                deltas.forEach((userId, delta) -> connection.scriptingCommands().eval(
+                        script, ReturnType.INTEGER, 1,
+                        (KEY_PREFIX + userId).getBytes(StandardCharsets.UTF_8),
+                        String.valueOf(delta).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[UnreadCounter] 일괄 증가 실패 {}명: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    private void add(Long userId, long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(KEY_PREFIX + userId), String.valueOf(delta));
+        } catch (Exception e) {
+            // 다음 조회 때 DB 로 다시 맞춰지도록 키 제거 시도
+            log.warn("[UnreadCounter] 카운터 갱신 실패: {}", e.getMessage());
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + userId);
+        } catch (Exception ignore) {
+        }
+    }
+}
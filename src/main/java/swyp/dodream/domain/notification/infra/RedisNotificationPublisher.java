@@ -1,11 +1,17 @@
 package swyp.dodream.domain.notification.infra;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 import swyp.dodream.domain.notification.dto.NotificationPayload;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 public class RedisNotificationPublisher {
@@ -16,4 +22,28 @@ public class RedisNotificationPublisher {
     public void publish(NotificationPayload payload) {
         notificationRedisTemplate.convertAndSend(notificationTopic.getTopic(), payload);
     }
-}
\ No newline at end of file
+
+    /**
+     * 여러 알림을 pipeline 으로 한 번에 publish (일괄 알림용, 왕복 1회)
+     */
+    @SuppressWarnings("unchecked")
+    public void publishAll(List<NotificationPayload> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        byte[] channel = notificationTopic.getTopic().getBytes(StandardCharsets.UTF_8);
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) notificationRedisTemplate.getValueSerializer();
+
+        notificationRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            publishEach(connection, channel, serializer, payloads);
+            return null;
+        });
+    }
+
+    private static void publishEach(RedisConnection connection, byte[] channel,
+                                    RedisSerializer<Object> serializer, List<NotificationPayload> payloads) {
+        for (NotificationPayload payload : payloads) {
+            connection.publish(channel, serializer.serialize(payload));
+        }
+    }
+}
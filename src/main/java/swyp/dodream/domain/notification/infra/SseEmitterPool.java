@@ -1,47 +1,186 @@
 package swyp.dodream.domain.notification.infra;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import swyp.dodream.domain.notification.dto.NotificationPayload;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
+/**
+ * SSE 연결 레지스트리
+ *
+ * - 유저당 여러 연결(탭/기기) 유지, 유저당 최대 연결 수를 넘으면 가장 오래된 연결 종료
+ * - 전송은 연결별 bounded 큐에 넣고 가상 스레드가 비움 → 느린 클라이언트가 Redis 리스너 스레드나 다른 유저 전송을 막지 않음
+ * - 큐가 가득 찬(계속 못 받는) 연결과 전송 실패한 연결은 제거
+ * - heartbeat 주석 이벤트로 프록시 idle timeout 방지 + 끊어진 연결 감지
+ */
 @Slf4j
 @Component
 public class SseEmitterPool {
 
     private static final long TIMEOUT = 1000L * 60 * 30; // 30분
-    private final Map<Long, SseEmitter> emitters = new ConcurrentHashMap<>();
 
-    public SseEmitter subscribe(Long userId) {
+    @Value("${notification.sse.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${notification.sse.max-connections-per-user:10}")
+    private int maxConnectionsPerUser;
+
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 구독 등록
+     * @param replay 등록 이후 보낼 누락 알림 (Last-Event-ID 이후 알림, 등록 후 조회해서 유실 구간이 없도록 함)
+     */
+    public SseEmitter subscribe(Long userId, Supplier<List<NotificationPayload>> replay) {
         SseEmitter emitter = new SseEmitter(TIMEOUT);
-        emitters.put(userId, emitter);
+        Connection connection = new Connection(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
 
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError(e -> emitters.remove(userId));
+        // remove() 가 빈 Set 을 정리하는 것과 겹치지 않도록 compute 안에서 추가
+        Set<Connection> userConnections = connections.compute(userId, (id, existing) -> {
+            Set<Connection> set = existing != null ? existing : ConcurrentHashMap.newKeySet();
+            set.add(connection);
+            return set;
+        });
+        evictOverflow(userConnections);
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
 
         // 연결 확인용 이벤트
-        try {
-            emitter.send(SseEmitter.event().name("connect").data("ok"));
-        } catch (IOException e) {
-            emitters.remove(userId);
+        enqueue(connection, SseEmitter.event().name("connect").data("ok"));
+
+        for (NotificationPayload missed : replay.get()) {
+            enqueue(connection, notificationEvent(missed));
         }
 
         return emitter;
     }
 
-    public void sendToUser(Long userId, Object data) {
-        SseEmitter emitter = emitters.get(userId);
-        if (emitter == null) return;
+    /**
+     * 유저의 모든 연결에 알림 전송 (이 노드에 붙은 연결만)
+     */
+    public void sendToUser(Long userId, NotificationPayload payload) {
+        Set<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) return;
 
+        for (Connection connection : userConnections) {
+            enqueue(connection, notificationEvent(payload));
+        }
+    }
+
+    /**
+     * heartbeat - 응답 없는 연결은 전송 실패로 제거됨
+     */
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection ->
+                        enqueue(connection, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        connections.values().forEach(userConnections ->
+                userConnections.forEach(connection -> connection.emitter().complete()));
+        sender.shutdownNow();
+    }
+
+    // ===== helpers =====
+
+    private static SseEmitter.SseEventBuilder notificationEvent(NotificationPayload payload) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name("notification").data(payload);
+        if (payload.getNotificationId() != null) {
+            event.id(String.valueOf(payload.getNotificationId()));
+        }
+        return event;
+    }
+
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (!connection.queue().offer(event)) {
+            // 큐가 가득 참 = 클라이언트가 못 받고 있음 → 연결 종료 (재연결 시 Last-Event-ID 로 복구)
+            log.warn("SSE 전송 큐 초과로 연결 종료: userId={}", connection.userId());
+            close(connection);
+            return;
+        }
+        scheduleDrain(connection);
+    }
+
+    private void scheduleDrain(Connection connection) {
+        if (connection.draining().compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                connection.draining().set(false); // 종료 중
+            }
+        }
+    }
+
+    private void drain(Connection connection) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = connection.queue().poll()) != null) {
+                connection.emitter().send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패, 연결 제거: userId={}, error={}", connection.userId(), e.getMessage());
+            close(connection);
+            return;
+        } finally {
+            connection.draining().set(false);
+        }
+        // 비우는 도중 들어온 이벤트 처리
+        if (!connection.queue().isEmpty()) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void evictOverflow(Set<Connection> userConnections) {
+        while (userConnections.size() > maxConnectionsPerUser) {
+            userConnections.stream()
+                    .min((a, b) -> Long.compare(a.connectedAt(), b.connectedAt()))
+                    .ifPresent(this::close);
+        }
+    }
+
+    private void close(Connection connection) {
+        remove(connection);
+        connection.queue().clear();
         try {
-            emitter.send(SseEmitter.event().name("notification").data(data));
-        } catch (IOException e) {
-            log.warn("유저에게 알림 보내기 실패 {}, removing emitter", userId, e);
-            emitters.remove(userId);
+            connection.emitter().complete();
+        } catch (Exception ignore) {
+        }
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId(), (id, userConnections) -> {
+            userConnections.remove(connection);
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    private record Connection(String id,
+                              Long userId,
+                              SseEmitter emitter,
+                              BlockingQueue<SseEmitter.SseEventBuilder> queue,
+                              AtomicBoolean draining,
+                              long connectedAt) {
+
+        Connection(Long userId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> queue) {
+            this(UUID.randomUUID().toString(), userId, emitter, queue, new AtomicBoolean(false), System.nanoTime());
         }
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,84 @@
 package swyp.dodream.domain.notification.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.notification.domain.Notification;
 import swyp.dodream.domain.notification.domain.NotificationType;
+import swyp.dodream.domain.notification.dto.NotificationTarget;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
 
-    List<Notification> findAllByReceiverIdOrderByCreatedAtDesc(Long receiverId);
+    // 알림함 keyset 페이지 (id 는 snowflake 라 최신순 = id 내림차순, (receiver_id, id) 인덱스 사용)
+    Slice<Notification> findByReceiverIdOrderByIdDesc(Long receiverId, Pageable pageable);
+
+    Slice<Notification> findByReceiverIdAndIdLessThanOrderByIdDesc(Long receiverId, Long cursor, Pageable pageable);
+
+    // 안 읽은 알림 수 (Redis 카운터가 없을 때만 사용)
+    long countByReceiverIdAndIsReadFalse(Long receiverId);
+
+    /**
+     * 안 읽은 알림만 읽음 처리 (본인 알림일 때만)
+     * @return 1 이면 안 읽음 → 읽음으로 바뀜, 0 이면 없는 알림 / 남의 알림 / 이미 읽은 알림
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+            "WHERE n.id = :id AND n.receiverId = :receiverId AND n.isRead = false")
+    int markAsRead(@Param("id") Long id, @Param("receiverId") Long receiverId, @Param("now") LocalDateTime now);
+
+    /**
+     * 유저의 안 읽은 알림 전체를 UPDATE 한 번으로 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now " +
+            "WHERE n.receiverId = :receiverId AND n.isRead = false")
+    int markAllAsRead(@Param("receiverId") Long receiverId, @Param("now") LocalDateTime now);
+
+    // SSE 재연결 시 Last-Event-ID 이후 알림 재전송용 (id 는 snowflake 라 생성 순서와 같음)
+    List<Notification> findByReceiverIdAndIdGreaterThanOrderByIdAsc(Long receiverId, Long id, Pageable pageable);
 
     boolean existsByReceiverIdAndTypeAndTargetPostId(Long receiverId, NotificationType type, Long targetPostId);
-}
\ No newline at end of file
+
+    /**
+     * 마감 기간 내 모집글의 북마크 유저 중 아직 같은 알림을 받지 않은 (유저, 모집글)
+     * (postId, receiverId) 순 keyset 페이지 - 커서 이후만 조회
+     */
+    @Query("SELECT new swyp.dodream.domain.notification.dto.NotificationTarget(b.user.id, p.id, p.title) " +
+            "FROM Bookmark b JOIN b.post p " +
+            "WHERE p.deadlineAt BETWEEN :start AND :end " +
+            "AND (p.id > :lastPostId OR (p.id = :lastPostId AND b.user.id > :lastReceiverId)) " +
+            "AND NOT EXISTS (SELECT 1 FROM Notification n " +
+            "                WHERE n.receiverId = b.user.id AND n.type = :type AND n.targetPostId = p.id) " +
+            "ORDER BY p.id, b.user.id")
+    List<NotificationTarget> findBookmarkTargets(@Param("start") LocalDateTime start,
+                                                 @Param("end") LocalDateTime end,
+                                                 @Param("type") NotificationType type,
+                                                 @Param("lastPostId") Long lastPostId,
+                                                 @Param("lastReceiverId") Long lastReceiverId,
+                                                 Pageable pageable);
+
+    /**
+     * 마감 기간 내 모집글의 (취소되지 않은) 팀원 중 아직 같은 알림을 받지 않은 (유저, 모집글)
+     */
+    @Query("SELECT DISTINCT new swyp.dodream.domain.notification.dto.NotificationTarget(m.user.id, p.id, p.title) " +
+            "FROM Matched m JOIN m.post p " +
+            "WHERE p.deadlineAt BETWEEN :start AND :end " +
+            "AND m.isCanceled = false " +
+            "AND (p.id > :lastPostId OR (p.id = :lastPostId AND m.user.id > :lastReceiverId)) " +
+            "AND NOT EXISTS (SELECT 1 FROM Notification n " +
+            "                WHERE n.receiverId = m.user.id AND n.type = :type AND n.targetPostId = p.id) " +
+            "ORDER BY p.id, m.user.id")
+    List<NotificationTarget> findMatchedMemberTargets(@Param("start") LocalDateTime start,
+                                                      @Param("end") LocalDateTime end,
+                                                      @Param("type") NotificationType type,
+                                                      @Param("lastPostId") Long lastPostId,
+                                                      @Param("lastReceiverId") Long lastReceiverId,
+                                                      Pageable pageable);
+}
@@ -2,51 +2,45 @@ package swyp.dodream.domain.notification.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import swyp.dodream.domain.bookmark.domain.Bookmark;
-import swyp.dodream.domain.bookmark.repository.BookmarkRepository;
-import swyp.dodream.domain.notification.service.NotificationService;
-import swyp.dodream.domain.post.domain.Post;
-import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.notification.service.NotificationFanoutService;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.time.ZoneId;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class BookmarkDeadlineScheduler {
 
-    private final PostRepository postRepository;
-    private final BookmarkRepository bookmarkRepository;
-    private final NotificationService notificationService;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final NotificationFanoutService notificationFanoutService;
 
     /**
      * 매일 자정에 오늘 마감 모집글 북마크 유저에게 알림 전송
      */
     @Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul") // 매일 00:00
-    @Transactional
     public void sendBookmarkDeadlineNotifications() {
-        LocalDate today = LocalDate.now();
-
-        List<Post> posts = postRepository.findByDeadlineAtBetween(
-                today.atStartOfDay(),
-                today.atTime(23, 59, 59)
-        );
+        LocalDate today = LocalDate.now(ZONE);
+        int sent = notificationFanoutService.sendBookmarkDeadline(today, false);
+        log.info("[BookmarkDeadlineScheduler] 오늘({}) 마감 모집글 알림 전송 완료: {}건", today, sent);
+    }
 
-        for (Post post : posts) {
-            List<Bookmark> bookmarks = bookmarkRepository.findByPost(post);
-            for (Bookmark bookmark : bookmarks) {
-                notificationService.sendBookmarkDeadlineNotification(
-                        bookmark.getUser().getId(),
-                        post.getId(),
-                        post.getTitle()
-                );
+    /**
+     * 기동 시 중단된 오늘 작업이 있으면 이어서 처리 (기동 완료를 늦추지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        Thread.ofVirtual().name("bookmark-deadline-resume").start(() -> {
+            try {
+                notificationFanoutService.sendBookmarkDeadline(LocalDate.now(ZONE), true);
+            } catch (Exception e) {
+                log.warn("[BookmarkDeadlineScheduler] 중단된 작업 이어서 처리 실패: {}", e.getMessage());
             }
-        }
-
-        log.info("[BookmarkDeadlineScheduler] 오늘({}) 마감 모집글 알림 전송 완료", today);
+        });
     }
-}
\ No newline at end of file
+}
@@ -2,58 +2,49 @@ package swyp.dodream.domain.notification.scheduler;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import swyp.dodream.domain.matched.domain.Matched;
-import swyp.dodream.domain.matched.repository.MatchedRepository;
-import swyp.dodream.domain.notification.service.NotificationService;
-import swyp.dodream.domain.post.domain.Post;
-import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.notification.service.NotificationFanoutService;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeedbackActivationScheduler {
 
-    private final PostRepository postRepository;
-    private final MatchedRepository matchedRepository;
-    private final NotificationService notificationService;
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final NotificationFanoutService notificationFanoutService;
 
     /**
      * 매일 00:10에 '한 달 전에 마감된' 모집글의 팀원들에게
      * "피드백 작성 가능" 알림을 보내기
      */
-    @Scheduled(cron = "0 10 0 * * *") // 다른 스케줄러와 겹치지 않게 하기 위해 00시 10분으로 설정
-    @Transactional
+    @Scheduled(cron = "0 10 0 * * *", zone = "Asia/Seoul") // 다른 스케줄러와 겹치지 않게 하기 위해 00시 10분으로 설정
     public void sendFeedbackActivationNotifications() {
         // 한 달 전 날짜
-        LocalDate oneMonthAgo = LocalDate.now().minusMonths(1);
-
-        // 1달 전 그 날에 마감된 글 찾기: 1달 전 00:00 ~ 23:59:59
-        LocalDateTime start = oneMonthAgo.atStartOfDay();
-        LocalDateTime end = oneMonthAgo.atTime(23, 59, 59);
+        LocalDate oneMonthAgo = LocalDate.now(ZONE).minusMonths(1);
 
-        List<Post> posts = postRepository.findByDeadlineAtBetween(start, end);
+        int sent = notificationFanoutService.sendReviewActivated(oneMonthAgo, false);
 
-        for (Post post : posts) {
-            // 이 글에 매칭된 팀원 전부 가져오기
-            List<Matched> members = matchedRepository.findAllByPostId(post.getId());
-            for (Matched member : members) {
-                if (member.isCanceled()) continue;
+        log.info("[FeedbackActivationScheduler] {} 마감 글의 팀원들에게 피드백 활성화 알림 전송 완료: {}건", oneMonthAgo, sent);
+    }
 
-                notificationService.sendReviewActivated(
-                        member.getUser().getId(),
-                        post.getId(),
-                        post.getTitle()
-                );
+    /**
+     * 기동 시 중단된 오늘 작업이 있으면 이어서 처리 (기동 완료를 늦추지 않도록 별도 스레드)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        Thread.ofVirtual().name("feedback-activation-resume").start(() -> {
+            try {
+                notificationFanoutService.sendReviewActivated(LocalDate.now(ZONE).minusMonths(1), true);
+            } catch (Exception e) {
+                log.warn("[FeedbackActivationScheduler] 중단된 작업 이어서 처리 실패: {}", e.getMessage());
             }
-        }
-
-        log.info("[FeedbackActivationScheduler] {} 마감 글의 팀원들에게 피드백 활성화 알림 전송 완료. 글 수: {}", oneMonthAgo, posts.size());
+        });
     }
 }
@@ -0,0 +1,57 @@
+package swyp.dodream.domain.notification.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 보관 기간이 지난 알림 정리
+ *
+ * - id 가 snowflake(생성 시각 포함)라 "기준 시각 이전" 을 id < 경계값 으로 바꿔서 PK 범위로 삭제
+ * - 한 번에 batch-size 건씩 나눠 지워서 락/undo 가 길어지지 않게 함 (건마다 autocommit)
+ * - 안 읽은 알림 수 캐시는 TTL 후 DB 기준으로 다시 맞춰짐
+ */
+@Slf4j
+@Component
+public class NotificationRetentionScheduler {
+
+    private static final String DELETE_SQL = "DELETE FROM notifications WHERE id < ? LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdService snowflakeIdService;
+    private final Duration retention;
+    private final int batchSize;
+
+    public NotificationRetentionScheduler(JdbcTemplate jdbcTemplate,
+                                          SnowflakeIdService snowflakeIdService,
+                                          @Value("${notification.retention-days:90}") long retentionDays,
+                                          @Value("${notification.retention.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflakeIdService = snowflakeIdService;
+        this.retention = Duration.ofDays(retentionDays);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 매일 새벽 3시 (트래픽 적은 시간)
+     */
+    @Scheduled(cron = "0 0 3 * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        long boundaryId = snowflakeIdService.minIdAt(Instant.now().minus(retention));
+
+        long deleted = 0;
+        int affected;
+        do {
+            affected = jdbcTemplate.update(DELETE_SQL, boundaryId, batchSize);
+            deleted += affected;
+        } while (affected == batchSize);
+
+        log.info("[NotificationRetention] {}일 지난 알림 {}건 삭제", retention.toDays(), deleted);
+    }
+}
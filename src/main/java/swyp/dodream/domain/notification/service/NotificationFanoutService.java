@@ -0,0 +1,263 @@
+package swyp.dodream.domain.notification.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.dodream.common.redis.RedisLock;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+import swyp.dodream.domain.notification.domain.NotificationType;
+import swyp.dodream.domain.notification.dto.NotificationPayload;
+import swyp.dodream.domain.notification.dto.NotificationTarget;
+import swyp.dodream.domain.notification.infra.NotificationUnreadCounter;
+import swyp.dodream.domain.notification.infra.RedisNotificationPublisher;
+import swyp.dodream.domain.notification.repository.NotificationRepository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일괄 알림 발송 (스케줄러용)
+ *
+ * - 대상 (유저, 모집글) 을 조인 쿼리 한 번으로 chunk 만큼 조회, 이미 받은 알림은 anti-join 으로 제외
+ * - chunk 단위로 JDBC batch INSERT (chunk 마다 별도 트랜잭션) → 안 읽은 수 증가 / Redis pipeline publish → 체크포인트 저장
+ * - 중간에 죽으면 재기동 시(resume) 체크포인트 이후부터 이어서 처리 (이미 저장된 알림은 anti-join 으로 다시 걸러짐)
+ * - 같은 작업은 Redis 락(실행별 토큰)으로 한 노드에서만 실행
+ */
+@Slf4j
+@Service
+public class NotificationFanoutService {
+
+    private static final String KEY_PREFIX = "notification:fanout:";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
+    private static final String DONE = "done";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notifications (id, receiver_id, type, message, target_post_id, target_post_title, is_read, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, false, ?, ?)
+            """;
+
+    @FunctionalInterface
+    private interface TargetQuery {
+        List<NotificationTarget> fetch(Long lastPostId, Long lastReceiverId, int limit);
+    }
+
+    private record Cursor(long postId, long receiverId) {
+
+        static final Cursor START = new Cursor(0L, 0L);
+
+        static Cursor parse(String value) {
+            String[] parts = value.split(":");
+            return new Cursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        }
+
+        String format() {
+            return postId + ":" + receiverId;
+        }
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final SnowflakeIdService snowflakeIdService;
+    private final RedisNotificationPublisher redisPublisher;
+    private final NotificationUnreadCounter unreadCounter;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisLock redisLock;
+    private final TransactionTemplate tx;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+    private final Duration lockTtl;
+
+    public NotificationFanoutService(NotificationRepository notificationRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     SnowflakeIdService snowflakeIdService,
+                                     RedisNotificationPublisher redisPublisher,
+                                     NotificationUnreadCounter unreadCounter,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     RedisLock redisLock,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${notification.fanout.chunk-size:500}") int chunkSize,
+                                     @Value("${notification.fanout.lock-ttl-minutes:30}") long lockTtlMinutes) {
+        this.notificationRepository = notificationRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.snowflakeIdService = snowflakeIdService;
+        this.redisPublisher = redisPublisher;
+        this.unreadCounter = unreadCounter;
+        this.redisTemplate = redisTemplate;
+        this.redisLock = redisLock;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.lockTtl = Duration.ofMinutes(lockTtlMinutes);
+    }
+
+    /**
+     * 해당 날짜에 마감되는 모집글을 북마크한 유저에게 마감 알림
+     * @param resumeOnly true 면 중단된 작업(체크포인트가 남아 있고 완료되지 않음)만 이어서 처리
+     * @return 새로 보낸 알림 수
+     */
+    public int sendBookmarkDeadline(LocalDate deadlineDate, boolean resumeOnly) {
+        LocalDateTime start = deadlineDate.atStartOfDay();
+        LocalDateTime end = deadlineDate.atTime(23, 59, 59);
+        NotificationType type = NotificationType.BOOKMARK_DEADLINE;
+
+        return run("bookmark-deadline:" + deadlineDate, resumeOnly, type,
+                (lastPostId, lastReceiverId, limit) -> notificationRepository.findBookmarkTargets(
+                        start, end, type, lastPostId, lastReceiverId, PageRequest.of(0, limit)),
+                title -> "북마크 해둔 '" + title + "' 모집글이 오늘 마감됩니다. 잊지말고 확인해보세요!");
+    }
+
+    /**
+     * 해당 날짜에 마감된 모집글의 팀원에게 피드백 작성 가능 알림
+     * @param resumeOnly true 면 중단된 작업(체크포인트가 남아 있고 완료되지 않음)만 이어서 처리
+     * @return 새로 보낸 알림 수
+     */
+    public int sendReviewActivated(LocalDate deadlineDate, boolean resumeOnly) {
+        LocalDateTime start = deadlineDate.atStartOfDay();
+        LocalDateTime end = deadlineDate.atTime(23, 59, 59);
+        NotificationType type = NotificationType.REVIEW_ACTIVATED;
+
+        return run("review-activated:" + deadlineDate, resumeOnly, type,
+                (lastPostId, lastReceiverId, limit) -> notificationRepository.findMatchedMemberTargets(
+                        start, end, type, lastPostId, lastReceiverId, PageRequest.of(0, limit)),
+                title -> "'" + title + "' 모집글에 대한 팀원 피드백을 오늘부터 작성할 수 있어요.");
+    }
+
+    // ===== helpers =====
+
+    private int run(String job, boolean resumeOnly, NotificationType type,
+                    TargetQuery query, Function<String, String> messageFn) {
+        String checkpointKey = KEY_PREFIX + job;
+        String checkpoint = loadCheckpoint(checkpointKey);
+        if (resumeOnly && (checkpoint == null || DONE.equals(checkpoint))) {
+            return 0;
+        }
+
+        String lockKey = checkpointKey + ":lock";
+        String lockToken = tryLock(lockKey);
+        if (lockToken == null) {
+            log.info("[NotificationFanout] {} 다른 노드에서 실행 중, 건너뜀", job);
+            return 0;
+        }
+        try {
+            return process(job, checkpointKey, checkpoint, type, query, messageFn);
+        } finally {
+            unlock(lockKey, lockToken);
+        }
+    }
+
+    private int process(String job, String checkpointKey, String checkpoint, NotificationType type,
+                        TargetQuery query, Function<String, String> messageFn) {
+        Cursor cursor = Cursor.START;
+        if (checkpoint != null && !DONE.equals(checkpoint)) {
+            cursor = Cursor.parse(checkpoint);
+            log.info("[NotificationFanout] {} 체크포인트 {} 부터 이어서 처리", job, checkpoint);
+        }
+        // 첫 chunk 전에 죽어도 재기동 시 이어서 처리하도록 시작 지점부터 기록
+        saveCheckpoint(checkpointKey, cursor.format());
+
+        int sent = 0;
+        while (true) {
+            Cursor after = cursor;
+            List<NotificationTarget> targets = readOnlyTx.execute(status ->
+                    query.fetch(after.postId(), after.receiverId(), chunkSize));
+            if (targets == null || targets.isEmpty()) {
+                break;
+            }
+
+            List<NotificationPayload> payloads = insert(targets, type, messageFn);
+            unreadCounter.incrementAll(payloads.stream()
+                    .collect(Collectors.groupingBy(NotificationPayload::getReceiverId, Collectors.counting())));
+            publish(job, payloads);
+
+            NotificationTarget last = targets.get(targets.size() - 1);
+            cursor = new Cursor(last.postId(), last.receiverId());
+            saveCheckpoint(checkpointKey, cursor.format());
+            sent += payloads.size();
+
+            if (targets.size() < chunkSize) {
+                break;
+            }
+        }
+
+        saveCheckpoint(checkpointKey, DONE);
+        log.info("[NotificationFanout] {} 완료: {}건 발송", job, sent);
+        return sent;
+    }
+
+    private List<NotificationPayload> insert(List<NotificationTarget> targets,
+                                             NotificationType type,
+                                             Function<String, String> messageFn) {
+        List<Long> ids = snowflakeIdService.generateIds(targets.size());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<NotificationPayload> payloads = new ArrayList<>(targets.size());
+        List<Object[]> rows = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            NotificationTarget target = targets.get(i);
+            String message = messageFn.apply(target.postTitle());
+            payloads.add(new NotificationPayload(ids.get(i), target.receiverId(), type, message, target.postId()));
+            rows.add(new Object[]{ids.get(i), target.receiverId(), type.name(), message,
+                    target.postId(), target.postTitle(), now, now});
+        }
+
+        tx.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, rows));
+        return payloads;
+    }
+
+    // 실시간 전송 실패는 알림 저장에 영향 없음 (목록/재연결 시 조회 가능)
+    private void publish(String job, List<NotificationPayload> payloads) {
+        try {
+            redisPublisher.publishAll(payloads);
+        } catch (Exception e) {
+            log.warn("[NotificationFanout] {} 실시간 전송 실패 {}건: {}", job, payloads.size(), e.getMessage());
+        }
+    }
+
+    // Redis 장애 시에는 락 없이 진행 (중복은 anti-join 이 대부분 걸러줌), 다른 노드가 실행 중이면 null
+    private String tryLock(String key) {
+        try {
+            return redisLock.tryLock(key, lockTtl);
+        } catch (Exception e) {
+            log.warn("[NotificationFanout] 락 획득 실패, 락 없이 진행: {}", e.getMessage());
+            return RedisLock.NO_LOCK;
+        }
+    }
+
+    // TTL 이 지나 다른 노드가 가져간 락은 지우지 않음
+    private void unlock(String key, String token) {
+        try {
+            redisLock.unlock(key, token);
+        } catch (Exception e) {
+            log.warn("[NotificationFanout] 락 해제 실패 (TTL 후 만료): {}", e.getMessage());
+        }
+    }
+
+    private String loadCheckpoint(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (Exception e) {
+            log.warn("[NotificationFanout] 체크포인트 조회 실패, 처음부터 처리: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveCheckpoint(String key, String value) {
+        try {
+            redisTemplate.opsForValue().set(key, value, CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("[NotificationFanout] 체크포인트 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -1,22 +1,66 @@
 package swyp.dodream.domain.notification.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import swyp.dodream.common.snowflake.SnowflakeIdService;
 import swyp.dodream.domain.notification.domain.Notification;
 import swyp.dodream.domain.notification.domain.NotificationType;
+import swyp.dodream.domain.notification.dto.NotificationListResponse;
 import swyp.dodream.domain.notification.dto.NotificationPayload;
+import swyp.dodream.domain.notification.dto.NotificationResponse;
+import swyp.dodream.domain.notification.infra.NotificationUnreadCounter;
 import swyp.dodream.domain.notification.infra.RedisNotificationPublisher;
+import swyp.dodream.domain.notification.infra.SseEmitterPool;
 import swyp.dodream.domain.notification.repository.NotificationRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final SnowflakeIdService snowflakeIdService;
     private final RedisNotificationPublisher redisPublisher;   // 이제 실제로 주입해서 씀
+    private final SseEmitterPool sseEmitterPool;
+    private final NotificationUnreadCounter unreadCounter;
+
+    @Value("${notification.sse.replay-limit:100}")
+    private int replayLimit;
+
+    /**
+     * SSE 구독
+     * Last-Event-ID(마지막으로 받은 알림 id) 가 있으면 그 이후 알림을 재전송
+     */
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        Long lastId = parseLastEventId(lastEventId);
+        return sseEmitterPool.subscribe(userId, () -> lastId == null
+                ? List.of()
+                : notificationRepository.findByReceiverIdAndIdGreaterThanOrderByIdAsc(
+                                userId, lastId, PageRequest.of(0, replayLimit))
+                        .stream()
+                        .map(NotificationPayload::from)
+                        .toList());
+    }
+
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null; // 잘못된 값은 무시하고 새로 구독
+        }
+    }
 
     /**
      * 리더가 유저에게 제안을 보낼 때 알림 전송
@@ -45,12 +89,41 @@ public class NotificationService {
                 postTitle
         );
 
-        notificationRepository.save(notification);
+        saveAndPublish(notification);
+    }
 
-        // 실시간 SSE 전파를 위한 Redis Pub
-        redisPublisher.publish(
-                new NotificationPayload(receiverId, NotificationType.PROPOSAL_SENT, msg, postId)
-        );
+    /**
+     * 알림 목록 (최신순, id 커서 기반)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    @Transactional(readOnly = true)
+    public NotificationListResponse getNotifications(Long userId, Long cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        PageRequest pageable = PageRequest.of(0, pageSize);
+
+        Slice<Notification> slice = cursor == null
+                ? notificationRepository.findByReceiverIdOrderByIdDesc(userId, pageable)
+                : notificationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable);
+
+        List<NotificationResponse> notifications = slice.getContent().stream()
+                .map(NotificationResponse::from)
+                .toList();
+        Long nextCursor = slice.hasNext() ? notifications.get(notifications.size() - 1).id() : null;
+
+        return NotificationListResponse.builder()
+                .notifications(notifications)
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .unreadCount(getUnreadCount(userId))
+                .build();
+    }
+
+    /**
+     * 안 읽은 알림 수
+     */
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return unreadCounter.get(userId, () -> notificationRepository.countByReceiverIdAndIsReadFalse(userId));
     }
 
     /**
@@ -58,14 +131,30 @@ public class NotificationService {
      */
     @Transactional
     public void markAsRead(Long notificationId, Long userId) {
+        int updated = notificationRepository.markAsRead(notificationId, userId, LocalDateTime.now());
+        if (updated == 1) {
+            unreadCounter.decrement(userId);
+            return;
+        }
+
+        // 바뀐 게 없으면 이유 확인 (이미 읽은 본인 알림은 그대로 성공)
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 알림입니다."));
 
         if (!notification.getReceiverId().equals(userId)) {
             throw new IllegalStateException("본인 알림만 읽음 처리할 수 있습니다.");
         }
+    }
 
-        notification.markAsRead();
+    /**
+     * 모든 알림 읽음 처리
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsRead(userId, LocalDateTime.now());
+        unreadCounter.reset(userId);
+        return updated;
     }
 
     /**
@@ -92,12 +181,7 @@ public class NotificationService {
                 postTitle
         );
 
-        notificationRepository.save(notification);
-
-        // 실시간 알림 전송
-        redisPublisher.publish(
-                new NotificationPayload(leaderId, NotificationType.PROPOSAL_APPLIED, msg, postId)
-        );
+        saveAndPublish(notification);
     }
 
     /**
@@ -124,11 +208,7 @@ public class NotificationService {
                 postId,
                 postTitle
         );
-        notificationRepository.save(notification);
-
-        redisPublisher.publish(
-                new NotificationPayload(applicantId, NotificationType.APPLICATION_ACCEPTED, msg, postId)
-        );
+        saveAndPublish(notification);
     }
 
     /**
@@ -155,11 +235,7 @@ public class NotificationService {
                 postId,
                 postTitle
         );
-        notificationRepository.save(notification);
-
-        redisPublisher.publish(
-                new NotificationPayload(leaderId, NotificationType.APPLICATION_ACCEPTED, msg, postId)
-        );
+        saveAndPublish(notification);
     }
 
     /**
@@ -180,69 +256,13 @@ public class NotificationService {
                 postTitle
         );
 
-        notificationRepository.save(notification);
-
-        // SSE 푸시
-        redisPublisher.publish(
-                new NotificationPayload(receiverId, NotificationType.FEEDBACK_WRITTEN, msg, postId)
-        );
-    }
-
-    @Transactional
-    public void sendBookmarkDeadlineNotification(Long receiverId, Long postId, String postTitle) {
-        boolean exists = notificationRepository.existsByReceiverIdAndTypeAndTargetPostId(
-                receiverId,
-                NotificationType.BOOKMARK_DEADLINE,
-                postId
-        );
-        if (exists) return;
-
-        Long id = snowflakeIdService.generateId();
-        String msg = "북마크 해둔 '" + postTitle + "' 모집글이 오늘 마감됩니다. 잊지말고 확인해보세요!";
-
-        Notification notification = new Notification(
-                id,
-                receiverId,
-                NotificationType.BOOKMARK_DEADLINE,
-                msg,
-                postId,
-                postTitle
-        );
-
-        notificationRepository.save(notification);
-
-        redisPublisher.publish(
-                new NotificationPayload(receiverId, NotificationType.BOOKMARK_DEADLINE, msg, postId)
-        );
+        saveAndPublish(notification);
     }
 
-    @Transactional
-    public void sendReviewActivated(Long receiverId, Long postId, String postTitle) {
-        boolean exists = notificationRepository.existsByReceiverIdAndTypeAndTargetPostId(
-                receiverId,
-                NotificationType.REVIEW_ACTIVATED,
-                postId
-        );
-        if (exists) return;
-
-        Long id = snowflakeIdService.generateId();
-        String msg = "'" + postTitle + "' 모집글에 대한 팀원 피드백을 오늘부터 작성할 수 있어요.";
-
-        Notification notification = new Notification(
-                id,
-                receiverId,
-                NotificationType.REVIEW_ACTIVATED,
-                msg,
-                postId,
-                postTitle
-        );
-
+    // 저장 + 안 읽은 수 증가 + 실시간 SSE 전파를 위한 Redis Pub
+    private void saveAndPublish(Notification notification) {
         notificationRepository.save(notification);
-
-        redisPublisher.publish(
-                new NotificationPayload(receiverId, NotificationType.REVIEW_ACTIVATED, msg, postId)
-        );
+        unreadCounter.increment(notification.getReceiverId());
+        redisPublisher.publish(NotificationPayload.from(notification));
     }
-
-
-}
\ No newline at end of file
+}
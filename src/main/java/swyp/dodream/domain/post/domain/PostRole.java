@@ -32,4 +32,8 @@ public class PostRole {
         this.role = role;
         this.headcount = headcount;
     }
+
+    public void updateHeadcount(int headcount) {
+        this.headcount = headcount;
+    }
 }
@@ -51,6 +51,24 @@ public class PostResponse {
             Long matchedId,
             Boolean isBookmarked
     ) {
+        long viewCount = (post.getPostView() != null)
+                ? post.getPostView().getViews()
+                : 0L;
+
+        return from(post, isOwner, ownerNickname, ownerProfileImageUrl,
+                applicationId, matchedId, isBookmarked, viewCount);
+    }
+
+    public static PostResponse from(
+            Post post,
+            boolean isOwner,
+            String ownerNickname,
+            String ownerProfileImageUrl,
+            Long applicationId,
+            Long matchedId,
+            Boolean isBookmarked,
+            long viewCount
+    ) {
 
         List<String> interestNames = post.getFields().stream()
                 .map(pf -> pf.getInterestKeyword().getName())
@@ -68,10 +86,6 @@ public class PostResponse {
                 )
                 .collect(Collectors.toList());
 
-        long viewCount = (post.getPostView() != null)
-                ? post.getPostView().getViews()
-                : 0L;
-
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
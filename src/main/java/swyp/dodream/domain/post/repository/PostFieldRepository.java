@@ -1,10 +1,24 @@
 package swyp.dodream.domain.post.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import swyp.dodream.domain.post.domain.Post;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.post.domain.PostField;
 import swyp.dodream.domain.post.domain.PostFieldId;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PostFieldRepository extends JpaRepository<PostField, PostFieldId> {
-    void deleteAllByPost(Post post);
+
+    // 현재 연결된 관심 분야 ID (수정 시 차집합 계산용)
+    @Query("SELECT pf.interestKeyword.id FROM PostField pf WHERE pf.post.id = :postId")
+    List<Long> findInterestKeywordIdsByPostId(@Param("postId") Long postId);
+
+    // 빠진 분야만 DELETE 한 번으로 제거
+    @Modifying
+    @Query("DELETE FROM PostField pf WHERE pf.post.id = :postId AND pf.interestKeyword.id IN :interestKeywordIds")
+    int deleteByPostIdAndInterestKeywordIdIn(@Param("postId") Long postId,
+                                             @Param("interestKeywordIds") Collection<Long> interestKeywordIds);
 }
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.post.common.PostStatus;
@@ -11,6 +12,7 @@ import swyp.dodream.domain.post.common.ProjectType;
 import swyp.dodream.domain.post.domain.Post;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -68,6 +70,54 @@ public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificat
     @Query("SELECT p.owner.id FROM Post p WHERE p.id = :postId AND p.deleted = false")
     Optional<Long> findOwnerUserIdByPostId(@Param("postId") Long postId);
 
+    // 추천 후보 일괄 조회 (작성자/조회수 fetch join, 스택/직군/분야는 batch fetch)
+    @Query("""
+        SELECT p FROM Post p
+        JOIN FETCH p.owner
+        LEFT JOIN FETCH p.postView
+        WHERE p.id IN :ids
+    """)
+    List<Post> findAllWithOwnerByIdIn(@Param("ids") Collection<Long> ids);
+
     // 마감일 기반 알림 스케줄러에서 사용
     List<Post> findByDeadlineAtBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+
+    // 증분 동기화용 updated_at 갱신 (소프트 삭제된 게시글도 대상이므로 @Where 가 적용되지 않는 native 쿼리)
+    @Modifying
+    @Query(value = "UPDATE post SET updated_at = :now WHERE id = :postId", nativeQuery = true)
+    int touchUpdatedAt(@Param("postId") Long postId, @Param("now") LocalDateTime now);
+
+    // 검색 재색인: id 키셋 페이지 (OFFSET 없이 PK 범위 조회)
+    List<Post> findByIdGreaterThanOrderByIdAsc(Long lastId, Pageable pageable);
+
+    // 검색 재색인: 적재 중 수정된 게시글 따라잡기
+    List<Post> findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+            LocalDateTime updatedAt, Long lastId, Pageable pageable);
+
+    // 검색 재색인: 적재 중 삭제된 게시글 (소프트 삭제 행을 읽어야 하므로 @Where 가 적용되지 않는 native 쿼리)
+    @Query(value = "SELECT id FROM post " +
+            "WHERE deleted = true AND updated_at >= :since AND id > :lastId " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<Long> findDeletedIdsUpdatedSince(@Param("since") LocalDateTime since,
+                                          @Param("lastId") Long lastId,
+                                          @Param("limit") int limit);
+
+    /**
+     * 마감일이 지난 모집중 게시글 일괄 마감 처리
+     *
+     * @return 마감 처리된 게시글 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+        UPDATE Post p
+        SET p.status = :completed, p.updatedAt = :now
+        WHERE p.status = :recruiting
+          AND p.deadlineAt < :now
+          AND p.deleted = false
+    """)
+    int closeExpiredPosts(
+            @Param("recruiting") PostStatus recruiting,
+            @Param("completed") PostStatus completed,
+            @Param("now") LocalDateTime now
+    );
+}
@@ -1,10 +1,22 @@
 package swyp.dodream.domain.post.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import swyp.dodream.domain.post.domain.Post;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.post.domain.PostRole;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PostRoleRepository extends JpaRepository<PostRole, Long> {
-    void deleteAllByPost(Post post);
-}
 
+    // 현재 모집 직군 (수정 시 차집합 계산용)
+    @Query("SELECT pr FROM PostRole pr WHERE pr.post.id = :postId")
+    List<PostRole> findByPostId(@Param("postId") Long postId);
+
+    // 빠진 직군만 DELETE 한 번으로 제거
+    @Modifying
+    @Query("DELETE FROM PostRole pr WHERE pr.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+}
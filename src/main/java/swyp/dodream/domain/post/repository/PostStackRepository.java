@@ -1,10 +1,23 @@
 package swyp.dodream.domain.post.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import swyp.dodream.domain.post.domain.Post;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import swyp.dodream.domain.post.domain.PostStack;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface PostStackRepository extends JpaRepository<PostStack, Long> {
-    void deleteAllByPost(Post post);
-}
 
+    // 현재 연결된 기술 스택 ID (수정 시 차집합 계산용)
+    @Query("SELECT ps.techSkill.id FROM PostStack ps WHERE ps.post.id = :postId")
+    List<Long> findTechSkillIdsByPostId(@Param("postId") Long postId);
+
+    // 빠진 스택만 DELETE 한 번으로 제거
+    @Modifying
+    @Query("DELETE FROM PostStack ps WHERE ps.post.id = :postId AND ps.techSkill.id IN :techSkillIds")
+    int deleteByPostIdAndTechSkillIdIn(@Param("postId") Long postId,
+                                       @Param("techSkillIds") Collection<Long> techSkillIds);
+}
@@ -0,0 +1,43 @@
+package swyp.dodream.domain.post.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.dodream.domain.post.common.PostStatus;
+import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.search.service.PostIndexService;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDeadlineScheduler {
+
+    private final PostRepository postRepository;
+    private final PostIndexService postIndexService;
+
+    /**
+     * 마감일이 지난 모집글 일괄 마감 처리
+     * - 상세 조회가 읽기 전용 트랜잭션으로 바뀌면서 조회 시점 마감 반영을 여기서 대신 처리
+     */
+    @Scheduled(cron = "0 */10 * * * *", zone = "Asia/Seoul") // 10분마다
+    @Transactional
+    public void closeExpiredPosts() {
+        LocalDateTime now = LocalDateTime.now();
+        int closed = postRepository.closeExpiredPosts(
+                PostStatus.RECRUITING,
+                PostStatus.COMPLETED,
+                now
+        );
+
+        if (closed > 0) {
+            log.info("[PostDeadlineScheduler] 마감일 지난 모집글 {}건 마감 처리", closed);
+        }
+
+        // 검색 문서 상태도 같은 기준으로 마감 (실패해도 다음 주기에 다시 처리됨)
+        postIndexService.closeExpiredPosts(now);
+    }
+}
@@ -0,0 +1,141 @@
+package swyp.dodream.domain.post.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import swyp.dodream.domain.application.domain.Application;
+import swyp.dodream.domain.application.repository.ApplicationRepository;
+import swyp.dodream.domain.bookmark.repository.BookmarkRepository;
+import swyp.dodream.domain.master.domain.ApplicationStatus;
+import swyp.dodream.domain.matched.domain.Matched;
+import swyp.dodream.domain.matched.repository.MatchedRepository;
+import swyp.dodream.domain.post.domain.Post;
+import swyp.dodream.domain.post.dto.response.PostResponse;
+import swyp.dodream.domain.profile.domain.Profile;
+import swyp.dodream.domain.profile.repository.ProfileRepository;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 → PostResponse 변환기
+ *
+ * 게시글마다 프로필/지원/매칭/북마크를 따로 조회하면 행당 5~7개 쿼리가 발생하므로
+ * 페이지 단위로 postId, ownerId 를 모아 각 테이블을 IN 쿼리 한 번씩만 조회한 뒤
+ * 메모리 맵에서 PostResponse 를 조립한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostResponseAssembler {
+
+    private static final List<ApplicationStatus> ACTIVE_APPLICATION_STATUSES =
+            List.of(ApplicationStatus.APPLIED, ApplicationStatus.ACCEPTED);
+
+    // 매칭 여러 건이면 취소되지 않은 것 → 최근 매칭 순으로 선택
+    private static final Comparator<Matched> MATCHED_PRIORITY =
+            Comparator.comparing(Matched::isCanceled)
+                    .thenComparing(Matched::getMatchedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ProfileRepository profileRepository;
+    private final ApplicationRepository applicationRepository;
+    private final MatchedRepository matchedRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final PostViewCounter postViewCounter;
+
+    /**
+     * 단건 변환 (상세/생성/수정 응답)
+     */
+    public PostResponse assemble(Post post, Long currentUserId) {
+        return assemble(List.of(post), currentUserId).get(0);
+    }
+
+    /**
+     * 목록 변환 (입력 순서 유지)
+     */
+    public List<PostResponse> assemble(List<Post> posts, Long currentUserId) {
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .toList();
+
+        Set<Long> ownerIds = posts.stream()
+                .map(post -> post.getOwner().getId())
+                .collect(Collectors.toSet());
+
+        // 1. 작성자 프로필
+        Map<Long, Profile> profileByUserId = profileRepository.findByUserIdIn(ownerIds).stream()
+                .collect(Collectors.toMap(Profile::getUserId, Function.identity(), (a, b) -> a));
+
+        Map<Long, Long> applicationIdByPostId = new HashMap<>();
+        Map<Long, Long> matchedIdByPostId = new HashMap<>();
+        Set<Long> bookmarkedPostIds = new HashSet<>();
+
+        if (currentUserId != null) {
+            // 2. 활성 지원 (APPLIED 우선, 없으면 ACCEPTED) - 매칭 취소된 지원은 제외
+            List<Application> applications = applicationRepository
+                    .findByPostIdInAndApplicantIdAndStatusIn(postIds, currentUserId, ACTIVE_APPLICATION_STATUSES);
+
+            Set<Long> canceledApplicationIds = applications.isEmpty()
+                    ? Set.of()
+                    : new HashSet<>(matchedRepository.findCanceledApplicationIds(
+                            applications.stream().map(Application::getId).toList()));
+
+            Map<Long, Application> applicationByPostId = new HashMap<>();
+            for (Application application : applications) {
+                applicationByPostId.merge(application.getPost().getId(), application,
+                        (current, candidate) -> candidate.getStatus() == ApplicationStatus.APPLIED ? candidate : current);
+            }
+            applicationByPostId.forEach((postId, application) -> {
+                if (!canceledApplicationIds.contains(application.getId())) {
+                    applicationIdByPostId.put(postId, application.getId());
+                }
+            });
+
+            // 3. 매칭
+            matchedRepository.findByPostIdInAndUserId(postIds, currentUserId).stream()
+                    .collect(Collectors.groupingBy(m -> m.getPost().getId()))
+                    .forEach((postId, matches) -> matches.stream()
+                            .min(MATCHED_PRIORITY)
+                            .ifPresent(m -> matchedIdByPostId.put(postId, m.getId())));
+
+            // 4. 북마크
+            bookmarkedPostIds.addAll(bookmarkRepository.findPostIdsByUserIdAndPostIdIn(currentUserId, postIds));
+        }
+
+        return posts.stream()
+                .map(post -> {
+                    boolean isOwner = currentUserId != null && post.getOwner().getId().equals(currentUserId);
+
+                    Profile profile = profileByUserId.get(post.getOwner().getId());
+                    String ownerNickname = profile != null ? profile.getNickname() : null;
+                    Integer profileImageCode = profile != null ? profile.getProfileImageCode() : null;
+                    String ownerProfileImageUrl = profileImageCode != null
+                            ? profileImageCode.toString()
+                            : null;
+
+                    // DB 조회수 + 아직 반영되지 않은 누적분
+                    long viewCount = (post.getPostView() != null ? post.getPostView().getViews() : 0L)
+                            + postViewCounter.pendingCount(post.getId());
+
+                    return PostResponse.from(
+                            post,
+                            isOwner,
+                            ownerNickname,
+                            ownerProfileImageUrl,
+                            isOwner ? null : applicationIdByPostId.get(post.getId()),
+                            matchedIdByPostId.get(post.getId()),
+                            currentUserId != null && bookmarkedPostIds.contains(post.getId()),
+                            viewCount
+                    );
+                })
+                .toList();
+    }
+}
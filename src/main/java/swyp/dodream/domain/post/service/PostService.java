@@ -2,7 +2,9 @@ package swyp.dodream.domain.post.service;
 
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -14,11 +16,7 @@ import swyp.dodream.common.exception.CustomException;
 import swyp.dodream.common.exception.ExceptionType;
 import swyp.dodream.common.snowflake.SnowflakeIdService;
 import swyp.dodream.domain.application.dto.request.ApplicationRequest;
-import swyp.dodream.domain.bookmark.repository.BookmarkRepository;
-import swyp.dodream.domain.master.domain.ApplicationStatus;
-import swyp.dodream.domain.master.domain.InterestKeyword;
 import swyp.dodream.domain.master.domain.Role;
-import swyp.dodream.domain.master.domain.TechSkill;
 import swyp.dodream.domain.matched.domain.Matched;
 import swyp.dodream.domain.application.repository.ApplicationRepository;
 import swyp.dodream.domain.matched.repository.MatchedRepository;
@@ -35,23 +33,16 @@ import swyp.dodream.domain.post.dto.response.MyPostListResponse;
 import swyp.dodream.domain.post.dto.response.MyPostResponse;
 import swyp.dodream.domain.post.dto.response.PostResponse;
 import swyp.dodream.domain.post.repository.*;
-import swyp.dodream.domain.profile.domain.Profile;
-import swyp.dodream.domain.profile.repository.ProfileRepository;
-import swyp.dodream.domain.search.document.PostDocument;
-import swyp.dodream.domain.search.repository.PostDocumentRepository;
 import swyp.dodream.domain.suggestion.repository.SuggestionRepository;
 import swyp.dodream.domain.user.domain.User;
 import swyp.dodream.domain.user.repository.UserRepository;
 import swyp.dodream.domain.ai.service.EmbeddingService;
-import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.indexing.service.IndexingOutboxService;
 import swyp.dodream.domain.recommendation.util.TextExtractor;
-import swyp.dodream.domain.master.repository.RoleRepository;
-import swyp.dodream.domain.master.repository.TechSkillRepository;
-import swyp.dodream.domain.master.repository.InterestKeywordRepository;
+import swyp.dodream.domain.master.service.MasterDataRegistry;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
@@ -65,19 +56,17 @@ public class PostService {
     private final PostFieldRepository postFieldRepository;
     private final ApplicationRepository applicationRepository;
     private final MatchedRepository matchedRepository;
-    private final RoleRepository roleRepository;
-    private final TechSkillRepository techSkillRepository;
-    private final InterestKeywordRepository interestKeywordRepository;
+    private final MasterDataRegistry masterDataRegistry;
     private final EntityManager entityManager;
-    private final PostDocumentRepository postDocumentRepository;
     private final SuggestionRepository suggestionRepository;
     private final NotificationService notificationService;
-    private final ProfileRepository profileRepository;
-    private final BookmarkRepository bookmarkRepository;
+    private final PostViewCounter postViewCounter;
+    private final PostResponseAssembler postResponseAssembler;
 
-    // 벡터 임베딩 관련 (옵션) - NCP 배포 시에만 활성화
+    private final IndexingOutboxService indexingOutboxService;
+
+    // 임베딩 캐시 무효화용 (옵션) - NCP 배포 시에만 활성화
     private final Optional<EmbeddingService> embeddingService;
-    private final Optional<VectorRepository> vectorRepository;
 
     // 모집글 생성
     @Transactional
@@ -131,48 +120,21 @@ public class PostService {
         matchedRepository.save(ownerMatched);
         entityManager.flush();
 
-        // 게시글 임베딩 생성 (Qdrant에 저장)
-        createPostEmbeddingAsync(post);
-
-        postDocumentRepository.save(
-                PostDocument.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .description(post.getContent())
-                        .build()
-        );
+        // 검색 색인 + 임베딩은 커밋 이후 outbox 워커가 처리
+        indexingOutboxService.requestPostUpsert(post.getId());
 
-        return buildPostResponse(post, userId);
+        return postResponseAssembler.assemble(post, userId);
     }
 
     /**
-     * 게시글 임베딩 생성 및 벡터 DB 저장 (비동기)
-     * 실패해도 게시글 생성에는 영향 없음
+     * 게시글 텍스트가 바뀐 경우 이전 텍스트의 임베딩 캐시 제거
      */
-    private void createPostEmbeddingAsync(Post post) {
-        if (embeddingService.isEmpty() || vectorRepository.isEmpty()) {
-            // 벡터 DB 미사용 환경
+    private void evictPostEmbedding(Post post, String previousText) {
+        if (embeddingService.isEmpty() || previousText == null) {
             return;
         }
-
-        try {
-            // 게시글 → 텍스트 → 임베딩 생성
-            String postText = TextExtractor.extractFromPost(post);
-            float[] embedding = embeddingService.get().embed(postText);
-
-            // payload 생성 (메타데이터)
-            Map<String, Object> payload = new HashMap<>();
-            payload.put("title", post.getTitle());
-            payload.put("content", post.getContent());
-            payload.put("projectType", post.getProjectType().name());
-            payload.put("activityMode", post.getActivityMode().name());
-
-            // Qdrant에 저장 (payload 포함)
-            vectorRepository.get().upsertVector(post.getId(), embedding, payload);
-
-        } catch (Exception e) {
-            // 임베딩 실패 시 로깅만 (게시글 생성은 정상 완료)
-            // TODO: 로깅
+        if (!previousText.equals(TextExtractor.extractFromPost(post))) {
+            embeddingService.get().invalidate(previousText);
         }
     }
 
@@ -209,29 +171,21 @@ public class PostService {
 
 
     // 모집글 상세 조회
-    @Transactional
+    // 조회수는 PostViewCounter 에 누적 후 주기적으로 반영하므로 읽기 전용 트랜잭션으로 처리
+    @Transactional(readOnly = true)
     public PostResponse getPostDetail(Long postId, Long userId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(ExceptionType.POST_NOT_FOUND::throwException);
 
-        // 조회수 조회 또는 생성
-        PostView postView = postViewRepository.findById(postId)
-                .orElseGet(() -> {
-                    PostView newView = new PostView();
-                    newView.setPost(entityManager.getReference(Post.class, post.getId())); // ★ 세션 충돌/식별자 중복 방지
-                    return postViewRepository.save(newView);
-                });
-
-        // 조회수 증가 및 저장
-        post.increaseViewCount();
-        postViewRepository.save(postView);
+        // 조회수 증가 (write-behind)
+        postViewCounter.increment(postId);
 
-        // 자동 마감 처리
+        // 자동 마감 처리 (응답에만 반영, DB 반영은 PostDeadlineScheduler 가 일괄 처리)
         if (post.getDeadlineAt() != null && post.getDeadlineAt().isBefore(LocalDateTime.now())) {
             post.closeRecruitment();
         }
 
-        return buildPostResponse(post, userId);
+        return postResponseAssembler.assemble(post, userId);
     }
 
     // 모집글 수정
@@ -244,6 +198,9 @@ public class PostService {
             throw new IllegalStateException("작성자만 모집글을 수정할 수 있습니다.");
         }
 
+        // 수정 전 임베딩 원본 텍스트 (변경 시 임베딩 캐시 무효화용)
+        String previousText = embeddingService.isPresent() ? TextExtractor.extractFromPost(post) : null;
+
         // 부분 수정 처리
         if (request.getTitle() != null && !request.getTitle().isBlank())
             post.updateTitle(request.getTitle());
@@ -268,35 +225,25 @@ public class PostService {
 
         // 스택, 직군, 분야는 전달된 경우에만 갱신
         if (request.getStackIds() != null) {
-            postStackRepository.deleteAllByPost(post);
-            connectStacks(request, post);
+            syncStacks(request, post);
         }
 
         if (request.getRoles() != null) {
-            postRoleRepository.deleteAllByPost(post);
-            connectRoles(request, post);
+            syncRoles(request, post);
         }
 
         // STUDY가 아닐 때만 관심 분야 적용
         if (request.getProjectType() == null || request.getProjectType() == ProjectType.PROJECT) {
             if (request.getInterestIds() != null) {
-                postFieldRepository.deleteAllByPost(post);
-                connectFields(request, post);
+                syncFields(request, post);
             }
         }
 
-        // 게시글 업데이트 시 임베딩 재생성
-        createPostEmbeddingAsync(post);
-
-        postDocumentRepository.save(
-                PostDocument.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .description(post.getContent())
-                        .build()
-        );
+        // 게시글 업데이트 시 색인/임베딩 재생성 요청 (텍스트가 바뀌었으면 이전 캐시 제거)
+        evictPostEmbedding(post, previousText);
+        indexingOutboxService.requestPostUpsert(post.getId());
 
-        return buildPostResponse(post, userId);
+        return postResponseAssembler.assemble(post, userId);
     }
 
     // 모집글 삭제
@@ -310,26 +257,14 @@ public class PostService {
             throw new IllegalStateException("작성자만 모집글을 삭제할 수 있습니다.");
         }
 
-        // Qdrant에서 벡터 삭제
-        if (vectorRepository.isPresent()) {
-            try {
-                vectorRepository.get().deleteVector(postId);
-            } catch (Exception e) {
-                // 벡터 삭제 실패는 무시 (이미 DB 삭제됨)
-            }
-        }
-
         // 마지막으로 모집글 삭제
         postRepository.delete(post);
         postRepository.flush();
+        // 소프트 삭제(@SQLDelete)는 updated_at 을 바꾸지 않으므로 증분 동기화가 감지하도록 직접 갱신
+        postRepository.touchUpdatedAt(postId, LocalDateTime.now());
 
-        postDocumentRepository.save(
-                PostDocument.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .description(post.getContent())
-                        .build()
-        );
+        // 검색 색인/벡터 삭제는 커밋 이후 outbox 워커가 처리
+        indexingOutboxService.requestPostDelete(postId);
     }
 
     @Transactional
@@ -361,7 +296,8 @@ public class PostService {
             );
         }
 
-        Role role = roleRepository.findById(roleId)
+        Role role = masterDataRegistry.findRole(roleId)
+                .map(item -> masterDataRegistry.roleReference(item.id()))
                 .orElseThrow(ExceptionType.ROLE_NOT_FOUND::throwException);
 
         // 3. 기존 지원 이력 조회
@@ -438,37 +374,147 @@ public class PostService {
     }
 
 
-    private void connectRoles(PostRequest request, Post post) {
-        if (request.getRoles() != null) {
-            for (PostRoleDto roleDto : request.getRoles()) {
-                Role role = roleRepository.findById(roleDto.getRoleId())
-                        .orElseThrow(ExceptionType.ROLE_NOT_FOUND::throwException);
-                PostRole pr = new PostRole(snowflakeIdService.generateId(), post, role, roleDto.getCount());
-                postRoleRepository.save(pr);
-            }
-        }
-    }
+    // ===== 스택/직군/분야 연결 =====
+    // 마스터 데이터는 메모리 레지스트리로 검증하고(DB 접근 없음), 연결 행은 persist 로 쌓아서 JDBC batch INSERT
+    // (PostStack/PostField 는 식별자를 직접 지정하는 엔티티라 save() 를 쓰면 행마다 merge SELECT 가 발생)
 
+    // 생성 시: 요청된 값 전부 INSERT
     private void connectStacks(PostRequest request, Post post) {
         if (request.getStackIds() != null) {
-            for (Long stackId : request.getStackIds()) {
-                TechSkill skill = techSkillRepository.findById(stackId)
-                        .orElseThrow(ExceptionType.TECH_SKILL_NOT_FOUND::throwException);
-                PostStack ps = new PostStack(post, skill);
-                postStackRepository.save(ps);
-            }
+            insertStacks(post, new LinkedHashSet<>(request.getStackIds()));
+        }
+    }
+
+    private void connectRoles(PostRequest request, Post post) {
+        if (request.getRoles() != null) {
+            insertRoles(post, toHeadcounts(request.getRoles()));
         }
     }
 
     private void connectFields(PostRequest request, Post post) {
         if (request.getInterestIds() != null) {
-            for (Long keywordId : request.getInterestIds()) {
-                InterestKeyword keyword = interestKeywordRepository.findById(keywordId)
-                        .orElseThrow(ExceptionType.INTEREST_NOT_FOUND::throwException);
-                PostField pf = new PostField(post, keyword);
-                postFieldRepository.save(pf);
+            insertFields(post, new LinkedHashSet<>(request.getInterestIds()));
+        }
+    }
+
+    // 수정 시: 현재 값과의 차집합만 DELETE / INSERT
+    private void syncStacks(PostRequest request, Post post) {
+        Set<Long> added = new LinkedHashSet<>(request.getStackIds());
+        List<Long> current = postStackRepository.findTechSkillIdsByPostId(post.getId());
+
+        Set<Long> removed = new HashSet<>(current);
+        removed.removeAll(added);
+        added.removeAll(current);
+
+        if (!removed.isEmpty()) {
+            postStackRepository.deleteByPostIdAndTechSkillIdIn(post.getId(), removed);
+            removeLoaded(post.getStacks(), stack -> removed.contains(stack.getTechSkill().getId()));
+        }
+        insertStacks(post, added);
+    }
+
+    private void syncRoles(PostRequest request, Post post) {
+        Map<Long, Integer> added = toHeadcounts(request.getRoles());
+
+        List<Long> removedIds = new ArrayList<>();
+        for (PostRole current : postRoleRepository.findByPostId(post.getId())) {
+            Integer headcount = added.remove(current.getRole().getId());
+            if (headcount == null) {
+                removedIds.add(current.getId());
+            } else if (headcount != current.getHeadcount()) {
+                current.updateHeadcount(headcount);  // 변경 감지로 UPDATE
             }
         }
+
+        if (!removedIds.isEmpty()) {
+            postRoleRepository.deleteByIdIn(removedIds);
+            removeLoaded(post.getRoleRequirements(), role -> removedIds.contains(role.getId()));
+        }
+        insertRoles(post, added);
+    }
+
+    private void syncFields(PostRequest request, Post post) {
+        Set<Long> added = new LinkedHashSet<>(request.getInterestIds());
+        List<Long> current = postFieldRepository.findInterestKeywordIdsByPostId(post.getId());
+
+        Set<Long> removed = new HashSet<>(current);
+        removed.removeAll(added);
+        added.removeAll(current);
+
+        if (!removed.isEmpty()) {
+            postFieldRepository.deleteByPostIdAndInterestKeywordIdIn(post.getId(), removed);
+            removeLoaded(post.getFields(), field -> removed.contains(field.getInterestKeyword().getId()));
+        }
+        insertFields(post, added);
+    }
+
+    private void insertStacks(Post post, Collection<Long> techSkillIds) {
+        if (techSkillIds.isEmpty()) {
+            return;
+        }
+        List<MasterDataRegistry.Item> skills = masterDataRegistry.findTechSkillsByIds(techSkillIds);
+        if (skills.size() != techSkillIds.size()) {
+            throw ExceptionType.TECH_SKILL_NOT_FOUND.throwException();
+        }
+        for (MasterDataRegistry.Item skill : skills) {
+            PostStack ps = new PostStack(post, masterDataRegistry.techSkillReference(skill.id()));
+            entityManager.persist(ps);
+            addLoaded(post.getStacks(), ps);
+        }
+    }
+
+    private void insertRoles(Post post, Map<Long, Integer> headcounts) {
+        if (headcounts.isEmpty()) {
+            return;
+        }
+        List<MasterDataRegistry.Item> roles = masterDataRegistry.findRolesByIds(headcounts.keySet());
+        if (roles.size() != headcounts.size()) {
+            throw ExceptionType.ROLE_NOT_FOUND.throwException();
+        }
+        List<Long> ids = snowflakeIdService.generateIds(roles.size());
+        for (int i = 0; i < roles.size(); i++) {
+            Long roleId = roles.get(i).id();
+            PostRole pr = new PostRole(ids.get(i), post, masterDataRegistry.roleReference(roleId), headcounts.get(roleId));
+            entityManager.persist(pr);
+            addLoaded(post.getRoleRequirements(), pr);
+        }
+    }
+
+    private void insertFields(Post post, Collection<Long> interestKeywordIds) {
+        if (interestKeywordIds.isEmpty()) {
+            return;
+        }
+        List<MasterDataRegistry.Item> keywords = masterDataRegistry.findInterestKeywordsByIds(interestKeywordIds);
+        if (keywords.size() != interestKeywordIds.size()) {
+            throw ExceptionType.INTEREST_NOT_FOUND.throwException();
+        }
+        for (MasterDataRegistry.Item keyword : keywords) {
+            PostField pf = new PostField(post, masterDataRegistry.interestKeywordReference(keyword.id()));
+            entityManager.persist(pf);
+            addLoaded(post.getFields(), pf);
+        }
+    }
+
+    // 같은 직군이 여러 번 오면 마지막 인원 수 사용
+    private static Map<Long, Integer> toHeadcounts(List<PostRoleDto> roles) {
+        Map<Long, Integer> headcounts = new LinkedHashMap<>();
+        for (PostRoleDto roleDto : roles) {
+            headcounts.put(roleDto.getRoleId(), roleDto.getCount());
+        }
+        return headcounts;
+    }
+
+    // 이미 로딩된 연관 컬렉션만 맞춰줌 (응답/임베딩 텍스트가 변경 전 값을 보지 않도록, 미로딩이면 추가 조회 없이 둠)
+    private static <T> void addLoaded(List<T> collection, T element) {
+        if (Hibernate.isInitialized(collection)) {
+            collection.add(element);
+        }
+    }
+
+    private static <T> void removeLoaded(List<T> collection, Predicate<T> filter) {
+        if (Hibernate.isInitialized(collection)) {
+            collection.removeIf(filter);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -497,8 +543,11 @@ public class PostService {
         Specification<Post> spec = Specification.where(PostSpecification.notDeleted())
                                     .and(PostSpecification.hasType(projectType));
 
-        return postRepository.findAll(spec, sortedPageable)
-                .map(post -> buildPostResponse(post, null)); // 목록: isOwner=false, 프로필 정보는 포함
+        Page<Post> posts = postRepository.findAll(spec, sortedPageable);
+
+        // 목록: isOwner=false, 프로필 정보는 페이지 단위로 한 번에 조회
+        List<PostResponse> content = postResponseAssembler.assemble(posts.getContent(), null);
+        return new PageImpl<>(content, posts.getPageable(), posts.getTotalElements());
     }
 
     @Transactional(readOnly = true)
@@ -558,65 +607,4 @@ public class PostService {
         // 7. 최종 응답 생성
         return MyPostListResponse.of(responsePage);
     }
-
-    private PostResponse buildPostResponse(Post post, Long currentUserId) {
-        boolean isOwner = currentUserId != null && post.getOwner().getId().equals(currentUserId);
-
-        Profile profile = profileRepository.findByUserId(post.getOwner().getId())
-                .orElse(null);
-
-        String ownerNickname = profile != null ? profile.getNickname() : null;
-
-        Integer profileImageCode = profile != null ? profile.getProfileImageCode() : null;
-        String ownerProfileImageUrl = profileImageCode != null
-                ? profileImageCode.toString()
-                : null;
-
-        Long applicationId = null;
-        Long matchedId = null;
-        Boolean isBookmarked = false;
-
-        if (currentUserId != null) {
-            if (!isOwner) {
-                Optional<Application> applicationOpt = applicationRepository
-                        .findByPostIdAndApplicantIdAndStatus(
-                                post.getId(),
-                                currentUserId,
-                                ApplicationStatus.APPLIED)
-                        .or(() -> applicationRepository.findByPostIdAndApplicantIdAndStatus(
-                                post.getId(),
-                                currentUserId,
-                                ApplicationStatus.ACCEPTED
-                        ));
-
-                if (applicationOpt.isPresent()) {
-                    Long appId = applicationOpt.get().getId();
-                    boolean hasCanceledMatched = matchedRepository
-                            .findByApplicationIdAndIsCanceledTrue(appId)
-                            .isPresent();
-                    
-                    if (!hasCanceledMatched) {
-                        applicationId = appId;
-                    }
-                }
-            }
-
-            matchedId = matchedRepository
-                    .findByPostIdAndUserIdOrderByCanceledStatus(post.getId(), currentUserId)
-                    .map(Matched::getId)
-                    .orElse(null);
-
-            isBookmarked = bookmarkRepository.existsByUserIdAndPostId(currentUserId, post.getId());
-        }
-
-        return PostResponse.from(
-                post,
-                isOwner,
-                ownerNickname,
-                ownerProfileImageUrl,
-                applicationId,
-                matchedId,
-                isBookmarked
-        );
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,107 @@
+package swyp.dodream.domain.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import swyp.dodream.domain.search.service.PostIndexService;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 모집글 조회수 write-behind 카운터
+ *
+ * - 상세 조회 시 post_view 행을 바로 UPDATE 하지 않고 postId별 LongAdder 에 누적
+ * - 주기적으로 누적분을 JDBC batch 로 post_view 에 한 번에 반영
+ * - 여러 인스턴스가 각자 누적분(+delta)만 더하므로 다중 노드에서도 합산이 맞음
+ * - 인기순(POPULAR) 정렬은 flush 주기만큼 늦게 반영되는 eventually consistent 값을 사용
+ * - 검색 문서(Elasticsearch)의 조회수에도 같은 누적분을 더함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    // post_view 행이 없으면 생성, 있으면 누적분만 더함
+    private static final String UPSERT_SQL = """
+            INSERT INTO post_view (post_id, views, deleted) VALUES (?, ?, false)
+            ON DUPLICATE KEY UPDATE views = views + VALUES(views)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostIndexService postIndexService;
+
+    private final ConcurrentHashMap<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리 누적)
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     * - 응답의 조회수를 "DB 값 + 미반영분"으로 보여주기 위해 사용
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 누적된 조회수를 post_view 에 일괄 반영
+     * - 항목은 지우지 않고 sumThenReset 으로 꺼냄 (꺼내는 도중 들어온 증가분은 다음 주기에 반영, 유실 없음)
+     * - 항목 수는 조회된 적 있는 모집글 수 이내
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{entry.getKey(), delta});
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batch);
+        } catch (Exception e) {
+            // 반영 실패 시 누적분을 되돌려 다음 주기에 재시도
+            for (Object[] row : batch) {
+                pending.computeIfAbsent((Long) row[0], id -> new LongAdder()).add((Long) row[1]);
+            }
+            log.warn("[PostViewCounter] 조회수 반영 실패 ({}건), 다음 주기에 재시도: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Object[] row : batch) {
+            deltas.put((Long) row[0], (Long) row[1]);
+        }
+        postIndexService.incrementViewCounts(deltas);
+    }
+
+    /**
+     * 종료 시 남은 누적분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
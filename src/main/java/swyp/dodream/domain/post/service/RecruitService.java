@@ -9,8 +9,7 @@ import swyp.dodream.common.exception.CustomException;
 import swyp.dodream.common.exception.ExceptionType;
 import swyp.dodream.domain.application.domain.Application;
 import swyp.dodream.domain.application.repository.ApplicationRepository;
-import swyp.dodream.domain.master.domain.Role;
-import swyp.dodream.domain.master.repository.RoleRepository;
+import swyp.dodream.domain.master.service.MasterDataRegistry;
 import swyp.dodream.domain.matched.domain.Matched;
 import swyp.dodream.domain.matched.repository.MatchedRepository;
 import swyp.dodream.domain.post.domain.Post;
@@ -37,7 +36,7 @@ public class RecruitService {
     private final ApplicationRepository applicationRepository;
     private final MatchedRepository matchedRepository;
     private final ProfileRepository profileRepository;
-    private final RoleRepository roleRepository;
+    private final MasterDataRegistry masterDataRegistry;
 
     /**
      * 제안한 내역 조회
@@ -233,8 +232,8 @@ public class RecruitService {
         Long appliedRoleId = application.getRole().getId();
         String appliedRoleName = null;
         if (appliedRoleId != null) {
-            appliedRoleName = roleRepository.findById(appliedRoleId)
-                    .map(Role::getName)
+            appliedRoleName = masterDataRegistry.findRole(appliedRoleId)
+                    .map(MasterDataRegistry.Item::name)
                     .orElse(null);
         }
 
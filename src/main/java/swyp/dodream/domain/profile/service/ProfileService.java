@@ -8,12 +8,7 @@ import swyp.dodream.common.exception.CustomException;
 import swyp.dodream.common.exception.ExceptionType;
 import swyp.dodream.common.snowflake.SnowflakeIdService;
 import swyp.dodream.domain.application.repository.ApplicationRepository;
-import swyp.dodream.domain.master.domain.InterestKeyword;
-import swyp.dodream.domain.master.domain.Role;
-import swyp.dodream.domain.master.domain.TechSkill;
-import swyp.dodream.domain.master.repository.InterestKeywordRepository;
-import swyp.dodream.domain.master.repository.RoleRepository;
-import swyp.dodream.domain.master.repository.TechSkillRepository;
+import swyp.dodream.domain.master.service.MasterDataRegistry;
 import swyp.dodream.domain.post.domain.Post;
 import swyp.dodream.domain.post.repository.PostRepository;
 import swyp.dodream.domain.profile.domain.Profile;
@@ -31,7 +26,7 @@ import swyp.dodream.domain.url.enums.UrlLabel;
 import swyp.dodream.domain.url.repository.ProfileUrlRepository;
 import swyp.dodream.domain.user.repository.UserRepository;
 import swyp.dodream.domain.ai.service.EmbeddingService;
-import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.indexing.service.IndexingOutboxService;
 import swyp.dodream.domain.recommendation.util.TextExtractor;
 
 import java.util.*;
@@ -46,16 +41,14 @@ public class ProfileService {
     private static final int MAX_URLS = 3;
 
     private final ProfileRepository profileRepository;
-    private final RoleRepository roleRepository;
-    private final InterestKeywordRepository interestKeywordRepository;
-    private final TechSkillRepository techSkillRepository;
+    private final MasterDataRegistry masterDataRegistry;
     private final ProposalNotificationRepository proposalNotificationRepository;
     private final SnowflakeIdService snowflakeIdService;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final ApplicationRepository applicationRepository;
+    private final IndexingOutboxService indexingOutboxService;
     private final Optional<EmbeddingService> embeddingService;
-    private final Optional<VectorRepository> vectorRepository;
 
 
     @Transactional
@@ -87,39 +80,14 @@ public class ProfileService {
 
         log.info("프로필 생성 요청 - 직군: {}, 관심분야: {}, 기술스택: {}", normalizedRoleNames, normalizedInterestNames, normalizedTechSkillNames);
 
-        // 모든 데이터를 가져와서 Java에서 필터링 (가장 확실한 방법)
-        List<Role> allRoles = roleRepository.findAll();
-        List<InterestKeyword> allInterests = interestKeywordRepository.findAll();
-        List<TechSkill> allTechSkills = techSkillRepository.findAll();
-        
-        log.info("전체 직군 개수: {}, 전체 관심분야 개수: {}, 전체 기술스택 개수: {}", 
-                allRoles.size(), allInterests.size(), allTechSkills.size());
-        
-        Set<String> roleNameSet = allRoles.stream().map(Role::getName).collect(Collectors.toSet());
-        
-        log.info("DB에 있는 직군 이름들: {}", roleNameSet);
-        log.info("요청한 직군 이름들: {}", normalizedRoleNames);
-        
-        // Java에서 필터링
-        List<Role> roles = allRoles.stream()
-                .filter(r -> normalizedRoleNames.contains(r.getName()))
-                .toList();
-        
-        List<InterestKeyword> interestKeywords = allInterests.stream()
-                .filter(ik -> normalizedInterestNames.contains(ik.getName()))
-                .toList();
-        
-        List<TechSkill> techSkills = allTechSkills.stream()
-                .filter(ts -> normalizedTechSkillNames.contains(ts.getName()))
-                .toList();
-        
-        log.info("조회된 직군 개수: {} / 요청: {}, 조회된 값: {}", roles.size(), normalizedRoleNames.size(), roles.stream().map(Role::getName).toList());
-        log.info("조회된 관심분야 개수: {} / 요청: {}, 조회된 값: {}", interestKeywords.size(), normalizedInterestNames.size(), interestKeywords.stream().map(InterestKeyword::getName).toList());
-        log.info("조회된 기술스택 개수: {} / 요청: {}, 조회된 값: {}", techSkills.size(), normalizedTechSkillNames.size(), techSkills.stream().map(TechSkill::getName).toList());
-        
-        requireSameCount(ExceptionType.NOT_FOUND, "직군", normalizedRoleNames, roles, Role::getName);
-        requireSameCount(ExceptionType.INTEREST_NOT_FOUND, "관심 키워드", normalizedInterestNames, interestKeywords, InterestKeyword::getName);
-        requireSameCount(ExceptionType.TECH_STACK_NOT_FOUND, "기술 스택", normalizedTechSkillNames, techSkills, TechSkill::getName);
+        // 마스터 데이터는 메모리 레지스트리에서 이름으로 조회 (DB 접근 없음)
+        List<MasterDataRegistry.Item> roles = masterDataRegistry.findRolesByNames(normalizedRoleNames);
+        List<MasterDataRegistry.Item> interestKeywords = masterDataRegistry.findInterestKeywordsByNames(normalizedInterestNames);
+        List<MasterDataRegistry.Item> techSkills = masterDataRegistry.findTechSkillsByNames(normalizedTechSkillNames);
+
+        requireSameCount(ExceptionType.NOT_FOUND, "직군", normalizedRoleNames, roles, MasterDataRegistry.Item::name);
+        requireSameCount(ExceptionType.INTEREST_NOT_FOUND, "관심 키워드", normalizedInterestNames, interestKeywords, MasterDataRegistry.Item::name);
+        requireSameCount(ExceptionType.TECH_STACK_NOT_FOUND, "기술 스택", normalizedTechSkillNames, techSkills, MasterDataRegistry.Item::name);
 
         // 3) 프로필 생성 (공개 true 기본)
         Long profileId = snowflakeIdService.generateId();
@@ -141,9 +109,9 @@ public class ProfileService {
                 request.profileImageCode()
         );
 
-        roles.forEach(profile::addRole);
-        interestKeywords.forEach(profile::addInterestKeyword);
-        techSkills.forEach(profile::addTechSkill);
+        roles.forEach(role -> profile.addRole(masterDataRegistry.roleReference(role.id())));
+        interestKeywords.forEach(keyword -> profile.addInterestKeyword(masterDataRegistry.interestKeywordReference(keyword.id())));
+        techSkills.forEach(skill -> profile.addTechSkill(masterDataRegistry.techSkillReference(skill.id())));
 
         // 4) URL (최대 3개, 중복 제거)
         if (request.profileUrls() != null && !request.profileUrls().isEmpty()) {
@@ -177,8 +145,8 @@ public class ProfileService {
         );
         proposalNotificationRepository.save(pn);
 
-        // 7) 프로필 벡터 저장 (비동기 처리, 실패해도 프로필 저장은 성공)
-        saveProfileVector(saved);
+        // 7) 프로필 벡터 저장 (커밋 이후 outbox 워커가 처리, 실패해도 프로필 저장은 성공)
+        indexingOutboxService.requestProfileUpsert(saved.getUserId());
 
         return ProfileResponse.from(saved, pn);
     }
@@ -264,6 +232,9 @@ public class ProfileService {
             throw new CustomException(ExceptionType.CONFLICT_DUPLICATE, "이미 사용 중인 닉네임입니다.");
         }
 
+        // 수정 전 임베딩 원본 텍스트 (변경 시 임베딩 캐시 무효화용)
+        String previousText = embeddingService.isPresent() ? TextExtractor.extractFromProfile(profile) : null;
+
         profile.updateProfile(
                 req.getNickname(),
                 profile.getGender(),     // 계정설정 API에서 관리
@@ -281,13 +252,10 @@ public class ProfileService {
                     .map(String::trim)
                     .filter(s -> !s.isEmpty())
                     .toList();
-            List<Role> allRoles = roleRepository.findAll();
-            List<Role> roles = allRoles.stream()
-                    .filter(r -> normalizedRoleNames.contains(r.getName()))
-                    .toList();
-            requireSameCount(ExceptionType.NOT_FOUND, "직군", normalizedRoleNames, roles, Role::getName);
+            List<MasterDataRegistry.Item> roles = masterDataRegistry.findRolesByNames(normalizedRoleNames);
+            requireSameCount(ExceptionType.NOT_FOUND, "직군", normalizedRoleNames, roles, MasterDataRegistry.Item::name);
             profile.clearRoles();
-            roles.forEach(profile::addRole);
+            roles.forEach(role -> profile.addRole(masterDataRegistry.roleReference(role.id())));
         }
 
         // 관심
@@ -298,13 +266,10 @@ public class ProfileService {
                     .map(String::trim)
                     .filter(s -> !s.isEmpty())
                     .toList();
-            List<InterestKeyword> allInterests = interestKeywordRepository.findAll();
-            List<InterestKeyword> interests = allInterests.stream()
-                    .filter(ik -> normalizedInterestNames.contains(ik.getName()))
-                    .toList();
-            requireSameCount(ExceptionType.INTEREST_NOT_FOUND, "관심 키워드", normalizedInterestNames, interests, InterestKeyword::getName);
+            List<MasterDataRegistry.Item> interests = masterDataRegistry.findInterestKeywordsByNames(normalizedInterestNames);
+            requireSameCount(ExceptionType.INTEREST_NOT_FOUND, "관심 키워드", normalizedInterestNames, interests, MasterDataRegistry.Item::name);
             profile.clearInterestKeywords();
-            interests.forEach(profile::addInterestKeyword);
+            interests.forEach(keyword -> profile.addInterestKeyword(masterDataRegistry.interestKeywordReference(keyword.id())));
         }
 
         // 기술
@@ -315,13 +280,10 @@ public class ProfileService {
                     .map(String::trim)
                     .filter(s -> !s.isEmpty())
                     .toList();
-            List<TechSkill> allTechSkills = techSkillRepository.findAll();
-            List<TechSkill> skills = allTechSkills.stream()
-                    .filter(ts -> normalizedTechSkillNames.contains(ts.getName()))
-                    .toList();
-            requireSameCount(ExceptionType.TECH_STACK_NOT_FOUND, "기술 스택", normalizedTechSkillNames, skills, TechSkill::getName);
+            List<MasterDataRegistry.Item> skills = masterDataRegistry.findTechSkillsByNames(normalizedTechSkillNames);
+            requireSameCount(ExceptionType.TECH_STACK_NOT_FOUND, "기술 스택", normalizedTechSkillNames, skills, MasterDataRegistry.Item::name);
             profile.clearTechSkills();
-            skills.forEach(profile::addTechSkill);
+            skills.forEach(skill -> profile.addTechSkill(masterDataRegistry.techSkillReference(skill.id())));
         }
 
         // URL (최대 3개) — orphanRemoval=true면 clear()만으로 삭제됨
@@ -343,9 +305,14 @@ public class ProfileService {
         }
 
         Profile saved = profileRepository.save(profile);
-        
-        // 프로필 벡터 저장 (비동기 처리, 실패해도 프로필 저장은 성공)
-        saveProfileVector(saved);
+
+        // 텍스트가 바뀌었으면 이전 임베딩 캐시 제거
+        if (previousText != null && !previousText.equals(TextExtractor.extractFromProfile(saved))) {
+            embeddingService.get().invalidate(previousText);
+        }
+
+        // 프로필 벡터 저장 (커밋 이후 outbox 워커가 처리, 실패해도 프로필 저장은 성공)
+        indexingOutboxService.requestProfileUpsert(saved.getUserId());
         
         return ProfileMyPageResponse.from(saved);
     }
@@ -429,37 +396,6 @@ public class ProfileService {
         return ProfileMyPageResponse.from(profile);
     }
 
-    /**
-     * 프로필 벡터 저장 (비동기 처리, 실패해도 프로필 저장은 성공)
-     */
-    private void saveProfileVector(Profile profile) {
-        if (embeddingService.isEmpty() || vectorRepository.isEmpty()) {
-            log.debug("벡터 DB 미사용 환경 - 프로필 벡터 저장 스킵");
-            return;
-        }
-
-        try {
-            // 프로필 텍스트 추출
-            String profileText = TextExtractor.extractFromProfile(profile);
-            if (profileText == null || profileText.trim().isEmpty()) {
-                log.debug("프로필 텍스트가 비어있어 벡터 저장 스킵: profileId={}", profile.getId());
-                return;
-            }
-
-            // 임베딩 생성
-            float[] embedding = embeddingService.get().embed(profileText);
-            log.debug("프로필 임베딩 생성 완료: profileId={}, 차원={}", profile.getId(), embedding.length);
-
-            // 벡터 저장 (userId를 profileId로 사용)
-            vectorRepository.get().upsertProfileVector(profile.getUserId(), embedding);
-            log.debug("프로필 벡터 저장 완료: profileId={}", profile.getId());
-
-        } catch (Exception e) {
-            // 벡터 저장 실패해도 프로필 저장은 성공으로 처리
-            log.warn("프로필 벡터 저장 실패 (무시됨): profileId={}, error={}", profile.getId(), e.getMessage());
-        }
-    }
-
     @Transactional(readOnly = true)
     public boolean existsNickname(Long userId, String nickname) {
         if (nickname == null || nickname.trim().isEmpty()) {
@@ -0,0 +1,377 @@
+package swyp.dodream.domain.recommendation.index;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import swyp.dodream.common.exception.ExceptionType;
+import swyp.dodream.domain.recommendation.repository.PostVectorFilter;
+import swyp.dodream.domain.recommendation.repository.VectorPoint;
+import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.recommendation.repository.VectorScrollPage;
+import swyp.dodream.domain.recommendation.repository.VectorStore;
+import swyp.dodream.domain.recommendation.util.VectorQuantization;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 프로세스 내 벡터 검색 (게시글/프로필 HNSW 인덱스)
+ *
+ * - 기동 시 스냅샷 파일이 있으면 바로 읽어서 사용 → Qdrant 없이도 추천 동작 (dev/test)
+ * - 이어서 Qdrant 전체를 scroll 로 읽어 새 인덱스를 만들고 교체, 이후 refresh-interval 주기로 다시 적재 (다른 노드의 변경 반영)
+ * - 이 노드의 색인 변경(IndexingProcessor)은 Qdrant 반영 후 바로 따라 씀, 적재 중이면 새로 만드는 인덱스에도 씀
+ * - 인덱스가 준비되기 전에는 Qdrant 로 검색
+ * - 변경이 있으면 snapshot-interval 주기와 종료 시 스냅샷 저장
+ * - quantization(INT8/BINARY) 설정 시 압축 벡터로 탐색하고 상위 k * rerank-multiplier 개를 원본 벡터로 재정렬,
+ *   원본 벡터는 snapshot-dir 아래 *.vectors 파일에 매핑 (인덱스 교체 시 삭제)
+ * - vector.embedded.enabled=true 일 때만 사용 (dev), 운영에서 켤 때는 snapshot-dir 을 쓰기 가능한 볼륨으로 지정
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "vector.embedded.enabled", havingValue = "true", matchIfMissing = false)
+public class EmbeddedVectorStore implements VectorStore {
+
+    private static final String POSTS_SNAPSHOT = "posts.hnsw";
+    private static final String PROFILES_SNAPSHOT = "profiles.hnsw";
+    private static final int SCROLL_BATCH_SIZE = 256;
+    private static final String RAW_VECTORS_SUFFIX = ".vectors";
+
+    // 품질 측정 상한 (측정하는 동안 색인 반영이 멈추므로 한 번에 너무 오래 잡지 않도록)
+    private static final int MAX_EVALUATION_SAMPLES = 1000;
+    private static final int MAX_EVALUATION_K = 100;
+
+    private record Indexes(HnswIndex posts, HnswIndex profiles) {
+    }
+
+    /**
+     * 인덱스 상태 (관리 API 응답)
+     */
+    public record Status(boolean ready, boolean loading, VectorQuantization quantization,
+                         int posts, int profiles, long offHeapBytes, long quantizedBytes) {
+    }
+
+    private final VectorRepository qdrant;
+    private final int dimension;
+    private final int m;
+    private final int efConstruction;
+    private final int efSearch;
+    private final VectorQuantization quantization;
+    private final int rerankMultiplier;
+    private final Path snapshotDir;
+
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Indexes current;   // null 이면 준비 전 (Qdrant 로 검색)
+    private volatile Indexes building;  // Qdrant 에서 적재 중인 인덱스
+
+    public EmbeddedVectorStore(VectorRepository qdrant,
+                               @Value("${qdrant.vector-size}") int dimension,
+                               @Value("${vector.embedded.m:16}") int m,
+                               @Value("${vector.embedded.ef-construction:100}") int efConstruction,
+                               @Value("${vector.embedded.ef-search:64}") int efSearch,
+                               @Value("${vector.embedded.quantization:NONE}") VectorQuantization quantization,
+                               @Value("${vector.embedded.rerank-multiplier:4}") int rerankMultiplier,
+                               @Value("${vector.embedded.snapshot-dir:./data/vector-index}") String snapshotDir) {
+        this.qdrant = qdrant;
+        this.dimension = dimension;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.efSearch = efSearch;
+        this.quantization = quantization;
+        this.rerankMultiplier = rerankMultiplier;
+        this.snapshotDir = Path.of(snapshotDir);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        deleteStaleRawVectors();
+        loadSnapshot();
+        Thread.ofVirtual().name("vector-index-load").start(this::reload);
+    }
+
+    @Scheduled(fixedDelayString = "${vector.embedded.refresh-interval-ms:3600000}",
+            initialDelayString = "${vector.embedded.refresh-interval-ms:3600000}")
+    public void refresh() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${vector.embedded.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        if (dirty.compareAndSet(true, false)) {
+            saveSnapshot();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        snapshot();
+        close(current);
+    }
+
+    /**
+     * Qdrant 전체를 읽어서 새 인덱스로 교체 (실패하면 기존 인덱스 유지)
+     */
+    public void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Indexes next = null;
+        try {
+            next = new Indexes(newIndex("posts"), newIndex("profiles"));
+            building = next;
+            int posts = copy(qdrant::scrollPoints, next.posts());
+            int profiles = copy(qdrant::scrollProfilePoints, next.profiles());
+            Indexes previous = current;
+            current = next;
+            dirty.set(true);
+            close(previous);
+            log.info("[VectorIndex] Qdrant 적재 완료: 게시글 {}, 프로필 {} ({}ms)",
+                    posts, profiles, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            if (next != null && current != next) {
+                close(next);
+            }
+            log.warn("[VectorIndex] Qdrant 적재 실패, {} 사용: {}",
+                    current != null ? "기존 인덱스" : "Qdrant 직접 검색", e.getMessage());
+        } finally {
+            building = null;
+            loading.set(false);
+        }
+    }
+
+    public boolean isReady() {
+        return current != null;
+    }
+
+    public Status status() {
+        Indexes indexes = current;
+        if (indexes == null) {
+            return new Status(false, loading.get(), quantization, 0, 0, 0, 0);
+        }
+        return new Status(true, loading.get(), quantization, indexes.posts().size(), indexes.profiles().size(),
+                indexes.posts().offHeapBytes() + indexes.profiles().offHeapBytes(),
+                indexes.posts().quantizedBytes() + indexes.profiles().quantizedBytes());
+    }
+
+    /**
+     * 게시글 인덱스로 양자화 수준별 recall@k / 검색 지연 측정 (양자화 수준 선택용)
+     * 현재 설정(ef-search, rerank-multiplier)으로 측정하며, 측정하는 동안 색인 반영은 대기
+     * samples 는 최대 1000, k 는 최대 100 으로 제한
+     */
+    public HnswIndex.EvaluationReport evaluate(int samples, int k) {
+        if (samples <= 0 || k <= 0) {
+            throw ExceptionType.BAD_REQUEST_INVALID.of("samples 와 k 는 1 이상이어야 합니다.");
+        }
+        Indexes indexes = current;
+        if (indexes == null) {
+            throw ExceptionType.NOT_FOUND.of("벡터 인덱스가 아직 준비되지 않았습니다.");
+        }
+        int limitedK = Math.min(k, MAX_EVALUATION_K);
+        return indexes.posts().evaluate(Math.min(samples, MAX_EVALUATION_SAMPLES), limitedK, efSearch,
+                limitedK * rerankMultiplier, List.of(VectorQuantization.values()));
+    }
+
+    // ===== VectorStore =====
+
+    @Override
+    public Map<Long, Double> searchSimilar(float[] queryEmbedding, int offset, int limit, PostVectorFilter filter) {
+        Indexes indexes = current;
+        if (indexes == null) {
+            return qdrant.searchSimilar(queryEmbedding, offset, limit, filter);
+        }
+        HnswIndex.Filter accept = filter == null ? null : (id, meta) -> meta != null
+                && filter.matches(id, meta.status(), meta.projectType(), meta.ownerId(), meta.deadlineAt());
+        int k = offset + limit;
+        return toScores(indexes.posts().search(queryEmbedding, k, efSearch, k * rerankMultiplier, accept), offset);
+    }
+
+    @Override
+    public Map<Long, Double> searchSimilarProfiles(float[] queryEmbedding, int offset, int limit) {
+        Indexes indexes = current;
+        if (indexes == null) {
+            return qdrant.searchSimilarProfiles(queryEmbedding, offset, limit);
+        }
+        int k = offset + limit;
+        return toScores(indexes.profiles().search(queryEmbedding, k, efSearch, k * rerankMultiplier, null), offset);
+    }
+
+    @Override
+    public Map<Long, float[]> findVectors(Collection<Long> postIds) {
+        Indexes indexes = current;
+        return indexes == null ? qdrant.findVectors(postIds) : vectors(indexes.posts(), postIds);
+    }
+
+    @Override
+    public Map<Long, float[]> findProfileVectors(Collection<Long> userIds) {
+        Indexes indexes = current;
+        return indexes == null ? qdrant.findProfileVectors(userIds) : vectors(indexes.profiles(), userIds);
+    }
+
+    // ===== 이 노드의 색인 변경 반영 (Qdrant 반영 후 호출) =====
+
+    public void upsertPosts(List<VectorPoint> points) {
+        apply(Indexes::posts, index -> points.forEach(point ->
+                index.upsert(point.id(), point.vector(), HnswIndex.Meta.of(point.payload()))));
+    }
+
+    public void updatePostPayloads(Map<Long, Map<String, Object>> payloads) {
+        apply(Indexes::posts, index -> payloads.forEach((id, payload) ->
+                index.updateMeta(id, HnswIndex.Meta.of(payload))));
+    }
+
+    public void deletePosts(Collection<Long> postIds) {
+        apply(Indexes::posts, index -> postIds.forEach(index::remove));
+    }
+
+    public void upsertProfiles(List<VectorPoint> points) {
+        apply(Indexes::profiles, index -> points.forEach(point ->
+                index.upsert(point.id(), point.vector(), null)));
+    }
+
+    public void deleteProfiles(Collection<Long> userIds) {
+        apply(Indexes::profiles, index -> userIds.forEach(index::remove));
+    }
+
+    // ===== helpers =====
+
+    private HnswIndex newIndex(String name) throws IOException {
+        return new HnswIndex(dimension, m, efConstruction, quantization, rawVectorFile(name));
+    }
+
+    // 양자화를 쓰면 원본 벡터는 파일에 매핑 (적재할 때마다 새 파일)
+    private Path rawVectorFile(String name) throws IOException {
+        if (quantization == VectorQuantization.NONE) {
+            return null;
+        }
+        Files.createDirectories(snapshotDir);
+        return snapshotDir.resolve(name + "-" + System.nanoTime() + RAW_VECTORS_SUFFIX);
+    }
+
+    private static void close(Indexes indexes) {
+        if (indexes == null) {
+            return;
+        }
+        try {
+            indexes.posts().close();
+            indexes.profiles().close();
+        } catch (Exception e) {
+            log.warn("[VectorIndex] 이전 원본 벡터 파일 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    // 비정상 종료로 남은 원본 벡터 파일 정리
+    private void deleteStaleRawVectors() {
+        if (!Files.isDirectory(snapshotDir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(snapshotDir)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(RAW_VECTORS_SUFFIX)).toList()) {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            log.warn("[VectorIndex] 남은 원본 벡터 파일 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private int copy(BiFunction<Long, Integer, VectorScrollPage> scroll, HnswIndex index) {
+        int count = 0;
+        Long offset = null;
+        do {
+            VectorScrollPage page = scroll.apply(offset, SCROLL_BATCH_SIZE);
+            for (VectorPoint point : page.points()) {
+                index.upsert(point.id(), point.vector(), HnswIndex.Meta.of(point.payload()));
+            }
+            count += page.points().size();
+            offset = page.nextOffset();
+        } while (offset != null);
+        return count;
+    }
+
+    private void apply(Function<Indexes, HnswIndex> selector, Consumer<HnswIndex> change) {
+        Indexes active = current;
+        Indexes next = building;
+        if (active != null) {
+            change.accept(selector.apply(active));
+            dirty.set(true);
+        }
+        if (next != null && next != active) {
+            change.accept(selector.apply(next));
+        }
+    }
+
+    private static Map<Long, Double> toScores(List<HnswIndex.Hit> hits, int offset) {
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        for (int i = offset; i < hits.size(); i++) {
+            scores.put(hits.get(i).id(), hits.get(i).score());
+        }
+        return scores;
+    }
+
+    private static Map<Long, float[]> vectors(HnswIndex index, Collection<Long> ids) {
+        Map<Long, float[]> vectors = new HashMap<>();
+        for (Long id : ids) {
+            float[] vector = index.vector(id);
+            if (vector != null) {
+                vectors.put(id, vector);
+            }
+        }
+        return vectors;
+    }
+
+    private void loadSnapshot() {
+        Path posts = snapshotDir.resolve(POSTS_SNAPSHOT);
+        Path profiles = snapshotDir.resolve(PROFILES_SNAPSHOT);
+        if (!Files.exists(posts) || !Files.exists(profiles)) {
+            return;
+        }
+        try {
+            Indexes loaded = new Indexes(
+                    HnswIndex.load(posts, quantization, rawVectorFile("posts")),
+                    HnswIndex.load(profiles, quantization, rawVectorFile("profiles")));
+            if (loaded.posts().dimension() != dimension || loaded.profiles().dimension() != dimension) {
+                log.warn("[VectorIndex] 스냅샷 차원이 설정({})과 달라서 사용하지 않음", dimension);
+                close(loaded);
+                return;
+            }
+            current = loaded;
+            log.info("[VectorIndex] 스냅샷 로드: 게시글 {}, 프로필 {}", loaded.posts().size(), loaded.profiles().size());
+        } catch (Exception e) {
+            log.warn("[VectorIndex] 스냅샷 로드 실패, Qdrant 적재를 기다림: {}", e.getMessage());
+        }
+    }
+
+    private void saveSnapshot() {
+        Indexes indexes = current;
+        if (indexes == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotDir);
+            indexes.posts().save(snapshotDir.resolve(POSTS_SNAPSHOT));
+            indexes.profiles().save(snapshotDir.resolve(PROFILES_SNAPSHOT));
+            log.info("[VectorIndex] 스냅샷 저장: 게시글 {}, 프로필 {}", indexes.posts().size(), indexes.profiles().size());
+        } catch (Exception e) {
+            dirty.set(true);
+            log.warn("[VectorIndex] 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+}
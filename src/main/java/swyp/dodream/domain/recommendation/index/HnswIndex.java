@@ -0,0 +1,896 @@
+package swyp.dodream.domain.recommendation.index;
+
+import swyp.dodream.domain.recommendation.util.VectorMath;
+import swyp.dodream.domain.recommendation.util.VectorQuantization;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+/**
+ * 프로세스 내 HNSW 근사 최근접 이웃 인덱스 (코사인 유사도)
+ *
+ * - 벡터는 정규화해서 off-heap direct buffer 에 연속 저장 (GC 대상 아님), 이웃 그래프와 id/메타데이터는 힙
+ * - 삭제/벡터 변경은 tombstone 처리 (그래프 연결은 유지하고 검색 결과에서만 제외) → 다시 적재할 때 정리
+ * - 필터 검색은 조건에 맞지 않는 노드도 탐색 경로로는 사용하고 결과에만 넣지 않음 (조건이 까다로우면 더 넓게 탐색)
+ * - 검색끼리는 동시에, 추가/삭제는 하나씩 (ReadWriteLock)
+ * - save/load 로 파일 스냅샷 (load 는 memory-mapped 로 읽음)
+ * - 양자화(INT8/BINARY)를 쓰면 그래프 탐색은 압축 벡터로, 상위 rerank 개만 원본 벡터로 다시 계산해서 순위 결정
+ *   원본 벡터 파일을 지정하면 원본은 memory-mapped 파일에 두고 (재정렬 때만 읽음) 상주 메모리는 압축 벡터만 사용
+ * - 그래프 연결은 항상 원본 벡터로 계산 (양자화 수준을 바꿔도 그래프는 그대로)
+ */
+public class HnswIndex {
+
+    private static final int MAGIC = 0x484E5357; // "HNSW"
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MAX_LEVEL = 16;
+    private static final int[] NO_NEIGHBORS = new int[0];
+    private static final int EVALUATION_WARMUP = 20;
+
+    /**
+     * 게시글 payload 필터용 메타데이터 (프로필은 null)
+     */
+    public record Meta(String status, String projectType, Long ownerId, Long deadlineAt) {
+
+        public static Meta of(Map<String, Object> payload) {
+            if (payload == null) {
+                return null;
+            }
+            return new Meta(
+                    payload.get("status") instanceof String status ? status.intern() : null,
+                    payload.get("projectType") instanceof String projectType ? projectType.intern() : null,
+                    payload.get("ownerId") instanceof Number ownerId ? ownerId.longValue() : null,
+                    payload.get("deadlineAt") instanceof Number deadlineAt ? deadlineAt.longValue() : null);
+        }
+    }
+
+    /**
+     * 검색 결과 (score = 코사인 유사도)
+     */
+    public record Hit(long id, double score) {
+    }
+
+    @FunctionalInterface
+    public interface Filter {
+        boolean accept(long id, Meta meta);
+    }
+
+    /**
+     * 양자화 수준별 품질/지연 측정 결과
+     * @param recall 원본 벡터 전수 비교 top-k 대비 recall@k
+     * @param vectorBytes 1차 탐색에 쓰는 벡터 크기 합 (NONE 이면 원본)
+     */
+    public record Evaluation(VectorQuantization quantization, double recall,
+                             double meanMicros, double p50Micros, double p99Micros, long vectorBytes) {
+    }
+
+    /**
+     * @param bruteForceMeanMicros 원본 벡터 전수 비교 평균 지연 (기준)
+     */
+    public record EvaluationReport(int size, int samples, int k, int ef, int rerank,
+                                   double bruteForceMeanMicros, List<Evaluation> levels) {
+    }
+
+    private record Candidate(int slot, double score) {
+    }
+
+    @FunctionalInterface
+    private interface SlotScorer {
+        double score(int slot);
+    }
+
+    private final int dimension;
+    private final int m;
+    private final int maxM0;
+    private final int efConstruction;
+    private final double levelMultiplier;
+    private final VectorQuantization quantization;
+    private final Path rawVectorFile;  // null 이면 원본 벡터는 direct buffer
+    private final SplittableRandom random = new SplittableRandom();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private ByteBuffer vectorBytes;
+    private FloatBuffer vectors;
+    private long[] ids;
+    private Meta[] metas;
+    private final QuantizedVectors codes; // NONE 이면 null
+    private int[][][] neighbors; // [slot][level] → 이웃 slot
+    private final BitSet deleted = new BitSet();
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private int capacity;
+    private int size;            // 사용한 slot 수 (tombstone 포함)
+    private int entryPoint = -1;
+    private int maxLevel = -1;
+
+    // 쓰기는 write lock 안에서만 하므로 공유
+    private final float[] writeScratch;
+    private final float[] connectBase;
+    private final float[] selectCandidate;
+
+    public HnswIndex(int dimension, int m, int efConstruction) {
+        this(dimension, m, efConstruction, VectorQuantization.NONE, null);
+    }
+
+    /**
+     * @param quantization 1차 탐색용 압축 수준
+     * @param rawVectorFile 원본 벡터를 둘 파일 (null 이면 direct buffer, 있던 파일은 새로 만듦)
+     */
+    public HnswIndex(int dimension, int m, int efConstruction, VectorQuantization quantization, Path rawVectorFile) {
+        this.dimension = dimension;
+        this.m = m;
+        this.maxM0 = m * 2;
+        this.efConstruction = efConstruction;
+        this.levelMultiplier = 1.0 / Math.log(m);
+        this.quantization = quantization;
+        this.rawVectorFile = rawVectorFile;
+        this.codes = quantization == VectorQuantization.NONE ? null : new QuantizedVectors(quantization, dimension, 0);
+        this.writeScratch = new float[dimension];
+        this.connectBase = new float[dimension];
+        this.selectCandidate = new float[dimension];
+        if (rawVectorFile != null) {
+            try {
+                Files.deleteIfExists(rawVectorFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException("원본 벡터 파일 초기화 실패: " + rawVectorFile, e);
+            }
+        }
+        allocate(INITIAL_CAPACITY);
+    }
+
+    public int dimension() {
+        return dimension;
+    }
+
+    public VectorQuantization quantization() {
+        return quantization;
+    }
+
+    /**
+     * 검색 가능한(삭제되지 않은) 벡터 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * off-heap 원본 벡터 저장 공간 (바이트, 파일에 두는 경우 mapped 영역 크기)
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            return vectorBytes.capacity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 압축 벡터 저장 공간 (바이트, 양자화 미사용이면 0)
+     */
+    public long quantizedBytes() {
+        lock.readLock().lock();
+        try {
+            return codes != null ? codes.bytes() : 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 원본 벡터 파일 삭제 (인덱스 교체 후 호출, 진행 중인 검색의 mapping 은 GC 될 때까지 유효)
+     */
+    public void close() {
+        if (rawVectorFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(rawVectorFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("원본 벡터 파일 삭제 실패: " + rawVectorFile, e);
+        }
+    }
+
+    /**
+     * 추가 또는 교체 (벡터가 그대로면 메타데이터만 갱신)
+     */
+    public void upsert(long id, float[] vector, Meta meta) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다: " + vector.length + " != " + dimension);
+        }
+        float[] normalized = VectorMath.normalize(vector);
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = slots.get(id);
+            if (existing != null) {
+                vectors.get(existing * dimension, writeScratch, 0, dimension);
+                if (Arrays.equals(writeScratch, normalized)) {
+                    metas[existing] = meta;
+                    return;
+                }
+                deleted.set(existing);
+            }
+            slots.put(id, insert(id, normalized, meta));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 메타데이터만 갱신 (없는 id 는 무시)
+     */
+    public void updateMeta(long id, Meta meta) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            if (slot != null) {
+                metas[slot] = meta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(id);
+            if (slot != null) {
+                deleted.set(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 벡터 (정규화된 값, 없으면 null)
+     */
+    public float[] vector(long id) {
+        lock.readLock().lock();
+        try {
+            Integer slot = slots.get(id);
+            if (slot == null) {
+                return null;
+            }
+            float[] vector = new float[dimension];
+            vectors.get(slot * dimension, vector, 0, dimension);
+            return vector;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 유사도 상위 k 개 (유사도 내림차순)
+     * @param ef 탐색 폭 (클수록 정확하고 느림, k 보다 작으면 k)
+     * @param filter null 이면 전체
+     */
+    public List<Hit> search(float[] query, int k, int ef, Filter filter) {
+        return search(query, k, ef, ef, filter);
+    }
+
+    /**
+     * 유사도 상위 k 개 (유사도 내림차순)
+     * @param ef 탐색 폭 (클수록 정확하고 느림, k 보다 작으면 k)
+     * @param rerank 양자화 사용 시 원본 벡터로 다시 계산할 후보 수 (k 보다 작으면 k, 미사용이면 무시)
+     * @param filter null 이면 전체
+     */
+    public List<Hit> search(float[] query, int k, int ef, int rerank, Filter filter) {
+        if (query.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원이 일치하지 않습니다: " + query.length + " != " + dimension);
+        }
+        float[] normalized = VectorMath.normalize(query);
+
+        lock.readLock().lock();
+        try {
+            IntPredicate accept = slot -> !deleted.get(slot)
+                    && (filter == null || filter.accept(ids[slot], metas[slot]));
+            return search(normalized, k, ef, rerank, accept, codes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 벡터 중 samples 개를 질의로 써서 양자화 수준별 recall@k 와 검색 지연 측정
+     * 질의 벡터 자신은 정답/결과에서 제외, 측정하는 동안 추가/삭제는 대기
+     */
+    public EvaluationReport evaluate(int samples, int k, int ef, int rerank, List<VectorQuantization> levels) {
+        lock.readLock().lock();
+        try {
+            int[] live = new int[slots.size()];
+            int n = 0;
+            for (int slot = 0; slot < size; slot++) {
+                if (!deleted.get(slot)) {
+                    live[n++] = slot;
+                }
+            }
+            int[] sample = sampleSlots(live, Math.min(samples, n));
+            float[][] queries = new float[sample.length][dimension];
+            for (int i = 0; i < sample.length; i++) {
+                vectors.get(sample[i] * dimension, queries[i], 0, dimension);
+            }
+
+            // 기준: 원본 벡터 전수 비교
+            List<long[]> truths = new ArrayList<>(sample.length);
+            long bruteForceNanos = 0;
+            float[] scratch = new float[dimension];
+            for (int i = 0; i < sample.length; i++) {
+                long startedAt = System.nanoTime();
+                truths.add(bruteForce(queries[i], sample[i], live, k, scratch));
+                bruteForceNanos += System.nanoTime() - startedAt;
+            }
+
+            List<Evaluation> results = new ArrayList<>(levels.size());
+            for (VectorQuantization level : levels) {
+                QuantizedVectors levelCodes = codesFor(level);
+                // JIT 워밍업 (측정 제외)
+                for (int i = 0; i < Math.min(sample.length, EVALUATION_WARMUP); i++) {
+                    search(queries[i], k, ef, rerank, slot -> !deleted.get(slot), levelCodes);
+                }
+                long[] latencies = new long[sample.length];
+                int matched = 0;
+                for (int i = 0; i < sample.length; i++) {
+                    int self = sample[i];
+                    IntPredicate accept = slot -> slot != self && !deleted.get(slot);
+                    long startedAt = System.nanoTime();
+                    List<Hit> hits = search(queries[i], k, ef, rerank, accept, levelCodes);
+                    latencies[i] = System.nanoTime() - startedAt;
+                    long[] truth = truths.get(i);
+                    for (Hit hit : hits) {
+                        if (Arrays.binarySearch(truth, hit.id()) >= 0) {
+                            matched++;
+                        }
+                    }
+                }
+                int expected = truths.stream().mapToInt(truth -> truth.length).sum();
+                results.add(new Evaluation(level, expected == 0 ? 1.0 : (double) matched / expected,
+                        meanMicros(latencies), percentileMicros(latencies, 0.5), percentileMicros(latencies, 0.99),
+                        level.bytesPerVector(dimension) * n));
+            }
+            double bruteForceMean = sample.length == 0 ? 0 : bruteForceNanos / 1_000.0 / sample.length;
+            return new EvaluationReport(n, sample.length, k, ef, rerank, bruteForceMean, results);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== 스냅샷 =====
+
+    /**
+     * 파일로 저장 (임시 파일에 쓴 뒤 교체)
+     */
+    public void save(Path path) throws IOException {
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            SnapshotWriter writer = new SnapshotWriter(channel);
+            writer.putInt(MAGIC);
+            writer.putInt(VERSION);
+            writer.putInt(dimension);
+            writer.putInt(m);
+            writer.putInt(efConstruction);
+            writer.putInt(size);
+            writer.putInt(entryPoint);
+            writer.putInt(maxLevel);
+            writer.putByte(vectorBytes.order() == ByteOrder.LITTLE_ENDIAN ? (byte) 1 : (byte) 0);
+
+            for (int slot = 0; slot < size; slot++) {
+                writer.putLong(ids[slot]);
+                writer.putByte(deleted.get(slot) ? (byte) 1 : (byte) 0);
+                writer.putMeta(metas[slot]);
+                writer.putInt(neighbors[slot].length);
+                for (int[] levelNeighbors : neighbors[slot]) {
+                    writer.putInt(levelNeighbors.length);
+                    for (int neighbor : levelNeighbors) {
+                        writer.putInt(neighbor);
+                    }
+                }
+            }
+            writer.flush();
+
+            ByteBuffer raw = vectorBytes.duplicate();
+            raw.position(0).limit(size * dimension * Float.BYTES);
+            while (raw.hasRemaining()) {
+                channel.write(raw);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일 읽기 (memory-mapped, 벡터는 off-heap buffer 로 한 번에 복사)
+     */
+    public static HnswIndex load(Path path) throws IOException {
+        return load(path, VectorQuantization.NONE, null);
+    }
+
+    /**
+     * 스냅샷 파일 읽기 (압축 벡터는 원본 벡터에서 다시 계산하므로 저장할 때와 양자화 수준이 달라도 됨)
+     */
+    public static HnswIndex load(Path path, VectorQuantization quantization, Path rawVectorFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException("HNSW 스냅샷 형식이 아닙니다: " + path);
+            }
+            HnswIndex index = new HnswIndex(buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                    quantization, rawVectorFile);
+            int size = buffer.getInt();
+            int entryPoint = buffer.getInt();
+            int maxLevel = buffer.getInt();
+            ByteOrder vectorOrder = buffer.get() == 1 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+
+            index.allocate(Math.max(INITIAL_CAPACITY, size));
+            for (int slot = 0; slot < size; slot++) {
+                index.ids[slot] = buffer.getLong();
+                boolean deleted = buffer.get() == 1;
+                index.metas[slot] = readMeta(buffer);
+                int[][] levels = new int[buffer.getInt()][];
+                for (int level = 0; level < levels.length; level++) {
+                    int[] levelNeighbors = new int[buffer.getInt()];
+                    for (int i = 0; i < levelNeighbors.length; i++) {
+                        levelNeighbors[i] = buffer.getInt();
+                    }
+                    levels[level] = levelNeighbors;
+                }
+                index.neighbors[slot] = levels;
+                if (deleted) {
+                    index.deleted.set(slot);
+                } else {
+                    index.slots.put(index.ids[slot], slot);
+                }
+            }
+
+            FloatBuffer stored = buffer.slice().order(vectorOrder).asFloatBuffer();
+            stored.limit(size * index.dimension);
+            index.vectors.put(0, stored, 0, stored.limit());
+            if (index.codes != null) {
+                index.encodeAll(index.codes, size);
+            }
+
+            index.size = size;
+            index.entryPoint = entryPoint;
+            index.maxLevel = maxLevel;
+            return index;
+        }
+    }
+
+    // ===== helpers =====
+
+    private int insert(long id, float[] vector, Meta meta) {
+        if (size == capacity) {
+            allocate(capacity * 2);
+        }
+        int slot = size++;
+        ids[slot] = id;
+        metas[slot] = meta;
+        vectors.put(slot * dimension, vector);
+        if (codes != null) {
+            codes.set(slot, vector);
+        }
+
+        int level = randomLevel();
+        neighbors[slot] = new int[level + 1][];
+        Arrays.fill(neighbors[slot], NO_NEIGHBORS);
+
+        if (entryPoint < 0) {
+            entryPoint = slot;
+            maxLevel = level;
+            return slot;
+        }
+
+        SlotScorer exact = s -> score(vector, s, writeScratch);
+        int ep = entryPoint;
+        for (int l = maxLevel; l > level; l--) {
+            ep = greedy(exact, ep, l);
+        }
+        for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+            // 삭제된 노드도 연결 경로로는 사용
+            List<Candidate> found = searchLayer(exact, ep, efConstruction, l, s -> true);
+            int[] selected = selectNeighbors(found, m);
+            neighbors[slot][l] = selected;
+            for (int neighbor : selected) {
+                connect(neighbor, slot, l);
+            }
+            ep = found.get(0).slot();
+        }
+        if (level > maxLevel) {
+            maxLevel = level;
+            entryPoint = slot;
+        }
+        return slot;
+    }
+
+    // 이웃 목록에 추가, 가득 차면 후보를 다시 골라서 교체
+    private void connect(int node, int newNeighbor, int level) {
+        int maxConnections = level == 0 ? maxM0 : m;
+        int[] current = neighbors[node][level];
+        if (current.length < maxConnections) {
+            int[] next = Arrays.copyOf(current, current.length + 1);
+            next[current.length] = newNeighbor;
+            neighbors[node][level] = next;
+            return;
+        }
+
+        float[] base = connectBase;
+        vectors.get(node * dimension, base, 0, dimension);
+        List<Candidate> candidates = new ArrayList<>(current.length + 1);
+        for (int neighbor : current) {
+            candidates.add(new Candidate(neighbor, score(base, neighbor, writeScratch)));
+        }
+        candidates.add(new Candidate(newNeighbor, score(base, newNeighbor, writeScratch)));
+        candidates.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        neighbors[node][level] = selectNeighbors(candidates, maxConnections);
+    }
+
+    // HNSW 이웃 선택 휴리스틱 - 이미 고른 이웃보다 기준점에 더 가까운 후보만 (부족하면 가까운 순으로 채움)
+    private int[] selectNeighbors(List<Candidate> candidates, int count) {
+        List<Candidate> selected = new ArrayList<>(count);
+        List<Candidate> skipped = new ArrayList<>();
+        float[] candidateVector = selectCandidate;
+        for (Candidate candidate : candidates) {
+            if (selected.size() >= count) {
+                break;
+            }
+            vectors.get(candidate.slot() * dimension, candidateVector, 0, dimension);
+            boolean diverse = true;
+            for (Candidate chosen : selected) {
+                if (score(candidateVector, chosen.slot(), writeScratch) > candidate.score()) {
+                    diverse = false;
+                    break;
+                }
+            }
+            if (diverse) {
+                selected.add(candidate);
+            } else {
+                skipped.add(candidate);
+            }
+        }
+        for (int i = 0; i < skipped.size() && selected.size() < count; i++) {
+            selected.add(skipped.get(i));
+        }
+        return selected.stream().mapToInt(Candidate::slot).toArray();
+    }
+
+    // 1차 탐색(coarse 가 있으면 압축 벡터) 후 상위 rerank 개를 원본 벡터로 다시 정렬
+    private List<Hit> search(float[] normalized, int k, int ef, int rerank, IntPredicate accept,
+                             QuantizedVectors coarse) {
+        if (entryPoint < 0 || k <= 0) {
+            return List.of();
+        }
+        float[] scratch = new float[dimension];
+        SlotScorer exact = slot -> score(normalized, slot, scratch);
+        SlotScorer scorer = exact;
+        int width = Math.max(ef, k);
+        if (coarse != null) {
+            QuantizedVectors.Query query = coarse.query(normalized);
+            scorer = slot -> coarse.score(query, slot);
+            width = Math.max(width, rerank);
+        }
+
+        int ep = entryPoint;
+        for (int level = maxLevel; level > 0; level--) {
+            ep = greedy(scorer, ep, level);
+        }
+        List<Candidate> found = searchLayer(scorer, ep, width, 0, accept);
+
+        if (coarse != null) {
+            int limit = Math.min(found.size(), Math.max(rerank, k));
+            List<Candidate> reranked = new ArrayList<>(limit);
+            for (int i = 0; i < limit; i++) {
+                int slot = found.get(i).slot();
+                reranked.add(new Candidate(slot, exact.score(slot)));
+            }
+            reranked.sort(Comparator.comparingDouble(Candidate::score).reversed());
+            found = reranked;
+        }
+
+        List<Hit> hits = new ArrayList<>(Math.min(k, found.size()));
+        for (int i = 0; i < found.size() && hits.size() < k; i++) {
+            Candidate candidate = found.get(i);
+            hits.add(new Hit(ids[candidate.slot()], candidate.score()));
+        }
+        return hits;
+    }
+
+    private int greedy(SlotScorer scorer, int entry, int level) {
+        int current = entry;
+        double best = scorer.score(current);
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            int[] levelNeighbors = level < neighbors[current].length ? neighbors[current][level] : NO_NEIGHBORS;
+            for (int neighbor : levelNeighbors) {
+                double s = scorer.score(neighbor);
+                if (s > best) {
+                    best = s;
+                    current = neighbor;
+                    improved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    // 유사도 내림차순 결과 (accept 를 통과한 노드만, 최대 ef 개)
+    private List<Candidate> searchLayer(SlotScorer scorer, int entry, int ef, int level, IntPredicate accept) {
+        BitSet visited = new BitSet(size);
+        PriorityQueue<Candidate> candidates =
+                new PriorityQueue<>(Comparator.comparingDouble(Candidate::score).reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+
+        Candidate start = new Candidate(entry, scorer.score(entry));
+        visited.set(entry);
+        candidates.add(start);
+        if (accept.test(entry)) {
+            results.add(start);
+        }
+
+        while (!candidates.isEmpty()) {
+            Candidate current = candidates.poll();
+            if (results.size() >= ef && current.score() < results.peek().score()) {
+                break;
+            }
+            int[] levelNeighbors = level < neighbors[current.slot()].length
+                    ? neighbors[current.slot()][level] : NO_NEIGHBORS;
+            for (int neighbor : levelNeighbors) {
+                if (visited.get(neighbor)) {
+                    continue;
+                }
+                visited.set(neighbor);
+                double s = scorer.score(neighbor);
+                if (results.size() < ef || s > results.peek().score()) {
+                    Candidate candidate = new Candidate(neighbor, s);
+                    candidates.add(candidate);
+                    if (accept.test(neighbor)) {
+                        results.add(candidate);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.comparingDouble(Candidate::score).reversed());
+        return sorted;
+    }
+
+    private double score(float[] query, int slot, float[] scratch) {
+        vectors.get(slot * dimension, scratch, 0, dimension);
+        return VectorMath.dot(query, scratch);
+    }
+
+    // 질의 자신을 뺀 원본 벡터 전수 비교 top-k id (정렬된 배열)
+    private long[] bruteForce(float[] query, int self, int[] live, int k, float[] scratch) {
+        PriorityQueue<Candidate> top = new PriorityQueue<>(Comparator.comparingDouble(Candidate::score));
+        for (int slot : live) {
+            if (slot == self) {
+                continue;
+            }
+            double s = score(query, slot, scratch);
+            if (top.size() < k) {
+                top.add(new Candidate(slot, s));
+            } else if (s > top.peek().score()) {
+                top.poll();
+                top.add(new Candidate(slot, s));
+            }
+        }
+        return top.stream().mapToLong(candidate -> ids[candidate.slot()]).sorted().toArray();
+    }
+
+    // 측정용 압축 벡터 (현재 수준이면 그대로, 다르면 임시로 생성)
+    private QuantizedVectors codesFor(VectorQuantization level) {
+        if (level == VectorQuantization.NONE) {
+            return null;
+        }
+        if (codes != null && codes.quantization() == level) {
+            return codes;
+        }
+        QuantizedVectors temporary = new QuantizedVectors(level, dimension, size);
+        encodeAll(temporary, size);
+        return temporary;
+    }
+
+    private void encodeAll(QuantizedVectors target, int count) {
+        float[] vector = new float[dimension];
+        for (int slot = 0; slot < count; slot++) {
+            vectors.get(slot * dimension, vector, 0, dimension);
+            target.set(slot, vector);
+        }
+    }
+
+    private static int[] sampleSlots(int[] live, int count) {
+        int[] shuffled = Arrays.copyOf(live, live.length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < count; i++) {
+            int j = i + random.nextInt(shuffled.length - i);
+            int tmp = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = tmp;
+        }
+        return Arrays.copyOf(shuffled, count);
+    }
+
+    private static double meanMicros(long[] nanos) {
+        return nanos.length == 0 ? 0 : Arrays.stream(nanos).average().orElse(0) / 1_000.0;
+    }
+
+    private static double percentileMicros(long[] nanos, double percentile) {
+        if (nanos.length == 0) {
+            return 0;
+        }
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000.0;
+    }
+
+    private int randomLevel() {
+        double level = -Math.log(1.0 - random.nextDouble()) * levelMultiplier;
+        return (int) Math.min(level, MAX_LEVEL);
+    }
+
+    private void allocate(int newCapacity) {
+        long bytes = (long) newCapacity * dimension * Float.BYTES;
+        if (bytes > Integer.MAX_VALUE) {
+            throw new IllegalStateException("HNSW 인덱스 최대 크기를 넘었습니다: " + newCapacity + "개");
+        }
+        ByteBuffer nextBytes;
+        if (rawVectorFile != null) {
+            // 파일을 늘려서 다시 매핑 (기존 내용은 파일에 그대로 있음)
+            nextBytes = mapRawVectors(bytes);
+        } else {
+            nextBytes = ByteBuffer.allocateDirect((int) bytes).order(ByteOrder.nativeOrder());
+            if (vectorBytes != null) {
+                ByteBuffer current = vectorBytes.duplicate();
+                current.position(0).limit(size * dimension * Float.BYTES);
+                nextBytes.put(current).clear();
+            }
+        }
+        vectorBytes = nextBytes;
+        vectors = nextBytes.asFloatBuffer();
+        if (codes != null) {
+            codes.grow(newCapacity);
+        }
+        ids = ids == null ? new long[newCapacity] : Arrays.copyOf(ids, newCapacity);
+        metas = metas == null ? new Meta[newCapacity] : Arrays.copyOf(metas, newCapacity);
+        neighbors = neighbors == null ? new int[newCapacity][][] : Arrays.copyOf(neighbors, newCapacity);
+        capacity = newCapacity;
+    }
+
+    private ByteBuffer mapRawVectors(long bytes) {
+        try (FileChannel channel = FileChannel.open(rawVectorFile, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes).order(ByteOrder.nativeOrder());
+        } catch (IOException e) {
+            throw new UncheckedIOException("원본 벡터 파일 매핑 실패: " + rawVectorFile, e);
+        }
+    }
+
+    private static Meta readMeta(ByteBuffer buffer) {
+        if (buffer.get() == 0) {
+            return null;
+        }
+        String status = readString(buffer);
+        String projectType = readString(buffer);
+        Long ownerId = buffer.get() == 1 ? buffer.getLong() : null;
+        Long deadlineAt = buffer.get() == 1 ? buffer.getLong() : null;
+        return new Meta(status, projectType, ownerId, deadlineAt);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8).intern();
+    }
+
+    /**
+     * 1MB 버퍼에 모아서 파일에 기록
+     */
+    private static final class SnapshotWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(1 << 20);
+
+        SnapshotWriter(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        void putByte(byte value) throws IOException {
+            ensure(Byte.BYTES);
+            buffer.put(value);
+        }
+
+        void putInt(int value) throws IOException {
+            ensure(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) throws IOException {
+            ensure(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        void putMeta(Meta meta) throws IOException {
+            putByte(meta != null ? (byte) 1 : (byte) 0);
+            if (meta == null) {
+                return;
+            }
+            putString(meta.status());
+            putString(meta.projectType());
+            putOptionalLong(meta.ownerId());
+            putOptionalLong(meta.deadlineAt());
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void putOptionalLong(Long value) throws IOException {
+            putByte(value != null ? (byte) 1 : (byte) 0);
+            if (value != null) {
+                putLong(value);
+            }
+        }
+
+        private void putString(String value) throws IOException {
+            if (value == null) {
+                ensure(Short.BYTES);
+                buffer.putShort((short) -1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            ensure(Short.BYTES + bytes.length);
+            buffer.putShort((short) bytes.length);
+            buffer.put(bytes);
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package swyp.dodream.domain.recommendation.index;
+
+import swyp.dodream.domain.recommendation.util.VectorMath;
+import swyp.dodream.domain.recommendation.util.VectorQuantization;
+
+import java.util.Arrays;
+
+/**
+ * HNSW 1차 탐색용 압축 벡터 (slot 순서, 힙 배열)
+ *
+ * - INT8: 벡터별 최대 절댓값을 127 로 맞춘 정수 + 스케일, 질의도 같은 방식으로 양자화해서 정수 내적
+ * - BINARY: 차원별 부호 비트, 유사도는 1 - 2 * 해밍거리 / 차원
+ * - 점수는 순위 비교용 근사값, 최종 점수는 원본 벡터로 다시 계산
+ */
+final class QuantizedVectors {
+
+    private final VectorQuantization quantization;
+    private final int dimension;
+    private final int words; // BINARY: 벡터당 long 개수
+
+    private byte[] codes;    // INT8
+    private float[] scales;  // INT8
+    private long[] bits;     // BINARY
+
+    /**
+     * 양자화한 질의 (검색마다 한 번 생성)
+     */
+    record Query(byte[] codes, float scale, long[] bits) {
+    }
+
+    QuantizedVectors(VectorQuantization quantization, int dimension, int capacity) {
+        if (quantization == VectorQuantization.NONE) {
+            throw new IllegalArgumentException("양자화 수준이 필요합니다.");
+        }
+        this.quantization = quantization;
+        this.dimension = dimension;
+        this.words = (dimension + Long.SIZE - 1) / Long.SIZE;
+        grow(capacity);
+    }
+
+    VectorQuantization quantization() {
+        return quantization;
+    }
+
+    /**
+     * 압축 벡터 저장 공간 (바이트)
+     */
+    long bytes() {
+        return quantization == VectorQuantization.INT8
+                ? (long) codes.length + (long) scales.length * Float.BYTES
+                : (long) bits.length * Long.BYTES;
+    }
+
+    void grow(int capacity) {
+        if (quantization == VectorQuantization.INT8) {
+            codes = codes == null ? new byte[capacity * dimension] : Arrays.copyOf(codes, capacity * dimension);
+            scales = scales == null ? new float[capacity] : Arrays.copyOf(scales, capacity);
+        } else {
+            bits = bits == null ? new long[capacity * words] : Arrays.copyOf(bits, capacity * words);
+        }
+    }
+
+    void set(int slot, float[] vector) {
+        if (quantization == VectorQuantization.INT8) {
+            scales[slot] = encodeInt8(vector, codes, slot * dimension);
+        } else {
+            encodeBinary(vector, bits, slot * words);
+        }
+    }
+
+    Query query(float[] vector) {
+        if (quantization == VectorQuantization.INT8) {
+            byte[] queryCodes = new byte[dimension];
+            return new Query(queryCodes, encodeInt8(vector, queryCodes, 0), null);
+        }
+        long[] queryBits = new long[words];
+        encodeBinary(vector, queryBits, 0);
+        return new Query(null, 0f, queryBits);
+    }
+
+    double score(Query query, int slot) {
+        if (quantization == VectorQuantization.INT8) {
+            int sum = VectorMath.dot(query.codes(), 0, codes, slot * dimension, dimension);
+            return (double) sum * query.scale() * scales[slot];
+        }
+        long[] q = query.bits();
+        int offset = slot * words;
+        int hamming = 0;
+        for (int i = 0; i < words; i++) {
+            hamming += Long.bitCount(q[i] ^ bits[offset + i]);
+        }
+        return 1.0 - 2.0 * hamming / dimension;
+    }
+
+    // ===== helpers =====
+
+    // 최대 절댓값 → 127, 반환값은 복원 스케일
+    private static float encodeInt8(float[] vector, byte[] target, int offset) {
+        float maxAbs = 0f;
+        for (float value : vector) {
+            maxAbs = Math.max(maxAbs, Math.abs(value));
+        }
+        if (maxAbs == 0f) {
+            Arrays.fill(target, offset, offset + vector.length, (byte) 0);
+            return 0f;
+        }
+        float scale = maxAbs / 127f;
+        for (int i = 0; i < vector.length; i++) {
+            target[offset + i] = (byte) Math.round(vector[i] / scale);
+        }
+        return scale;
+    }
+
+    private static void encodeBinary(float[] vector, long[] target, int offset) {
+        int words = (vector.length + Long.SIZE - 1) / Long.SIZE;
+        Arrays.fill(target, offset, offset + words, 0L);
+        for (int i = 0; i < vector.length; i++) {
+            if (vector[i] > 0f) {
+                target[offset + i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+    }
+}
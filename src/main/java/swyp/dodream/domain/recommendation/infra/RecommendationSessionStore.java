@@ -0,0 +1,230 @@
+package swyp.dodream.domain.recommendation.infra;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * 추천 세션 (커서 페이징용 후보 순위 캐시)
+ *
+ * - 첫 페이지(cursor 없음)에서 벡터 검색 결과(id + 유사도)를 순위대로 Redis 에 TTL 로 저장
+ * - 다음 페이지는 저장된 순위에서 cursor(직전 페이지 마지막 id) 다음부터 꺼냄 → 임베딩/벡터 검색 없이 이어서 조회
+ * - 저장된 범위를 다 쓰면 벡터 검색 offset 으로 window 만큼 이어 붙임 (max-size 까지)
+ * - 후보 필터링/상세 조회는 페이지마다 호출한 쪽에서 (세션 이후 마감/지원한 글도 걸러짐)
+ * - Redis 장애 시에는 세션 없이 매번 검색 (첫 페이지부터 다시 보일 수 있음)
+ */
+@Slf4j
+@Component
+public class RecommendationSessionStore {
+
+    private static final String KEY_PREFIX = "recommendation:session:";
+
+    // header: searched(int) + exhausted(byte), entry: id(long) + score(float)
+    private static final int HEADER_BYTES = Integer.BYTES + 1;
+    private static final int ENTRY_BYTES = Long.BYTES + Float.BYTES;
+
+    /**
+     * 유사도 순위 검색 (offset 번째부터 limit 개, 순위 순서 유지)
+     */
+    @FunctionalInterface
+    public interface Searcher {
+        Map<Long, Double> search(int offset, int limit);
+    }
+
+    /**
+     * 페이지 결과
+     */
+    public record SessionPage<T>(List<T> items, Long nextCursor, boolean hasNext) {
+    }
+
+    /**
+     * @param searched 벡터 검색에서 받은 개수 (다음 검색 offset)
+     * @param exhausted 더 이상 검색 결과 없음
+     */
+    private record Session(long[] ids, float[] scores, int searched, boolean exhausted) {
+
+        static final Session EMPTY = new Session(new long[0], new float[0], 0, false);
+
+        int size() {
+            return ids.length;
+        }
+
+        // cursor 다음 위치 (없으면 처음부터)
+        int indexAfter(Long cursor) {
+            if (cursor == null) {
+                return 0;
+            }
+            for (int i = 0; i < ids.length; i++) {
+                if (ids[i] == cursor) {
+                    return i + 1;
+                }
+            }
+            return 0;
+        }
+
+        // 검색 사이에 색인이 바뀌면 offset 이 밀려서 이미 있는 id 가 다시 올 수 있음 → 중복 제외
+        Session append(Map<Long, Double> hits, int requested, int maxSize) {
+            Set<Long> seen = new HashSet<>(ids.length * 2);
+            for (long id : ids) {
+                seen.add(id);
+            }
+            long[] nextIds = Arrays.copyOf(ids, ids.length + hits.size());
+            float[] nextScores = Arrays.copyOf(scores, scores.length + hits.size());
+            int n = ids.length;
+            for (Map.Entry<Long, Double> hit : hits.entrySet()) {
+                if (seen.add(hit.getKey())) {
+                    nextIds[n] = hit.getKey();
+                    nextScores[n] = hit.getValue().floatValue();
+                    n++;
+                }
+            }
+            int nextSearched = searched + hits.size();
+            return new Session(Arrays.copyOf(nextIds, n), Arrays.copyOf(nextScores, n), nextSearched,
+                    hits.size() < requested || nextSearched >= maxSize);
+        }
+
+        Map<Long, Double> slice(int from, int to) {
+            Map<Long, Double> result = new LinkedHashMap<>();
+            for (int i = from; i < to; i++) {
+                result.put(ids[i], (double) scores[i]);
+            }
+            return result;
+        }
+
+        String encode() {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + ids.length * ENTRY_BYTES);
+            buffer.putInt(searched).put((byte) (exhausted ? 1 : 0));
+            for (int i = 0; i < ids.length; i++) {
+                buffer.putLong(ids[i]).putFloat(scores[i]);
+            }
+            return Base64.getEncoder().encodeToString(buffer.array());
+        }
+
+        static Session decode(String value) {
+            ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(value));
+            int searched = buffer.getInt();
+            boolean exhausted = buffer.get() == 1;
+            int size = buffer.remaining() / ENTRY_BYTES;
+            long[] ids = new long[size];
+            float[] scores = new float[size];
+            for (int i = 0; i < size; i++) {
+                ids[i] = buffer.getLong();
+                scores[i] = buffer.getFloat();
+            }
+            return new Session(ids, scores, searched, exhausted);
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration ttl;
+    private final int windowSize;
+    private final int maxSize;
+
+    public RecommendationSessionStore(RedisTemplate<String, String> redisTemplate,
+                                      @Value("${recommendation.session.ttl-minutes:30}") long ttlMinutes,
+                                      @Value("${recommendation.session.window-size:50}") int windowSize,
+                                      @Value("${recommendation.session.max-size:500}") int maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.windowSize = windowSize;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 세션에서 cursor 다음 페이지 조회
+     * @param key 세션 키 (요청 대상 + 조건)
+     * @param cursor 직전 페이지 마지막 id (null 이면 새 세션)
+     * @param enricher 후보(id → 유사도, 순위 순서) → 필터링된 응답 목록 (순서 유지)
+     * @param idFn 응답의 id (다음 cursor)
+     */
+    public <T> SessionPage<T> page(String key, Long cursor, int limit, Searcher searcher,
+                                   Function<Map<Long, Double>, List<T>> enricher, ToLongFunction<T> idFn) {
+        String redisKey = KEY_PREFIX + key;
+        Session session = cursor != null ? load(redisKey) : null;
+        boolean changed = false;
+        if (session == null) {
+            session = extend(Session.EMPTY, searcher, Math.max(windowSize, limit + 1));
+            changed = true;
+        }
+
+        // hasNext 판단을 위해 limit + 1 개까지 모음
+        List<T> items = new ArrayList<>(limit + 1);
+        int position = session.indexAfter(cursor);
+        while (items.size() <= limit) {
+            if (position >= session.size()) {
+                if (session.exhausted()) {
+                    break;
+                }
+                session = extend(session, searcher, windowSize);
+                changed = true;
+                continue;
+            }
+            int to = Math.min(session.size(), position + (limit + 1 - items.size()));
+            items.addAll(enricher.apply(session.slice(position, to)));
+            position = to;
+        }
+
+        if (changed) {
+            save(redisKey, session);
+        } else {
+            touch(redisKey);
+        }
+
+        boolean hasNext = items.size() > limit;
+        List<T> page = hasNext ? items.subList(0, limit) : items;
+        Long nextCursor = hasNext ? idFn.applyAsLong(page.get(page.size() - 1)) : null;
+        return new SessionPage<>(List.copyOf(page), nextCursor, hasNext);
+    }
+
+    // ===== helpers =====
+
+    private Session extend(Session session, Searcher searcher, int size) {
+        int requested = Math.min(size, maxSize - session.searched());
+        if (requested <= 0) {
+            return new Session(session.ids(), session.scores(), session.searched(), true);
+        }
+        Map<Long, Double> hits = searcher.search(session.searched(), requested);
+        return session.append(hits, requested, maxSize);
+    }
+
+    private Session load(String key) {
+        try {
+            String value = redisTemplate.opsForValue().get(key);
+            return value != null ? Session.decode(value) : null;
+        } catch (Exception e) {
+            log.warn("[RecommendationSession] 세션 조회 실패, 새로 검색: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 계속 스크롤하는 동안은 만료되지 않도록 TTL 연장
+    private void touch(String key) {
+        try {
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("[RecommendationSession] 세션 TTL 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void save(String key, Session session) {
+        try {
+            redisTemplate.opsForValue().set(key, session.encode(), ttl);
+        } catch (Exception e) {
+            log.warn("[RecommendationSession] 세션 저장 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package swyp.dodream.domain.recommendation.repository;
+
+/**
+ * 기존 게시글 벡터 컬렉션에 추천 필터용 payload 인덱스를 새로 만들었음을 알리는 애플리케이션 이벤트
+ * (그 전에 저장된 포인트에는 필터 필드가 없으므로 payload 보강이 필요)
+ */
+public record PostPayloadIndexCreatedEvent(String collection) {
+}
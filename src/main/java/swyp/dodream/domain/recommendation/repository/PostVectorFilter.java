@@ -0,0 +1,44 @@
+package swyp.dodream.domain.recommendation.repository;
+
+/**
+ * 게시글 벡터 검색 payload 필터 (null 인 조건은 적용하지 않음)
+ *
+ * @param status         모집 상태 (payload status 일치)
+ * @param projectType    프로젝트 타입 (payload projectType 일치)
+ * @param deadlineAfter  이 시각(epoch 초) 이후 마감 또는 마감일 없음 (payload deadlineAt)
+ * @param excludeOwnerId 제외할 작성자 (payload ownerId)
+ * @param excludeIds     제외할 게시글 ID (이미 지원한 글 등)
+ */
+public record PostVectorFilter(
+        String status,
+        String projectType,
+        Long deadlineAfter,
+        Long excludeOwnerId,
+        long[] excludeIds
+) {
+    /**
+     * Qdrant 필터와 같은 조건 (프로세스 내 검색용)
+     */
+    public boolean matches(long id, String status, String projectType, Long ownerId, Long deadlineAt) {
+        if (this.status != null && !this.status.equals(status)) {
+            return false;
+        }
+        if (this.projectType != null && !this.projectType.equals(projectType)) {
+            return false;
+        }
+        if (deadlineAfter != null && deadlineAt != null && deadlineAt <= deadlineAfter) {
+            return false;
+        }
+        if (excludeOwnerId != null && excludeOwnerId.equals(ownerId)) {
+            return false;
+        }
+        if (excludeIds != null) {
+            for (long excludeId : excludeIds) {
+                if (excludeId == id) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
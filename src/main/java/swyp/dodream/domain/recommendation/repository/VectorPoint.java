@@ -0,0 +1,20 @@
+package swyp.dodream.domain.recommendation.repository;
+
+import java.util.Map;
+
+/**
+ * Qdrant 에 저장할 포인트 (id + 벡터 + payload)
+ *
+ * @param id      포인트 ID (게시글 ID 또는 userId)
+ * @param vector  임베딩 벡터
+ * @param payload 메타데이터 (없으면 null)
+ */
+public record VectorPoint(
+        Long id,
+        float[] vector,
+        Map<String, Object> payload
+) {
+    public static VectorPoint of(Long id, float[] vector) {
+        return new VectorPoint(id, vector, null);
+    }
+}
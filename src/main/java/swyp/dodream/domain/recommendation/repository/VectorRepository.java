@@ -1,76 +1,147 @@
 package swyp.dodream.domain.recommendation.repository;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
+import okio.BufferedSink;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Repository;
+import swyp.dodream.domain.recommendation.util.VectorQuantization;
 
 import java.io.IOException;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Qdrant 벡터 데이터베이스 연동 Repository
  * REST API를 통해 벡터 저장 및 검색 기능 제공
+ *
+ * - 컬렉션 존재 여부는 기동 시 1회 확인 후 캐시 (저장 때마다 확인 요청을 보내지 않음)
+ * - 공유 커넥션 풀(QdrantConfig.qdrantHttpClient) 사용
+ * - 요청 JSON 은 Map 변환 없이 JsonGenerator 로 소켓에 바로 기록 (float[] 박싱 없음)
+ * - 검색/저장은 CompletableFuture 기반 비동기 버전도 제공
+ * - qdrant.quantization(INT8/BINARY) 설정 시 컬렉션에 양자화 설정(압축 벡터는 RAM, 원본은 디스크)을 적용하고
+ *   검색은 압축 벡터로 후보를 oversampling 배수만큼 뽑은 뒤 원본 벡터로 재정렬(rescore)
+ * - 게시글 컬렉션에는 추천 필터 필드(status, projectType, ownerId, deadlineAt) payload 인덱스를 생성,
+ *   기존 컬렉션에 새로 만든 경우 PostPayloadIndexCreatedEvent 로 payload 보강 요청
  */
 @Slf4j
 @Repository
 @RequiredArgsConstructor
-public class VectorRepository {
+public class VectorRepository implements VectorStore {
+
+    private static final MediaType JSON = MediaType.get("application/json");
 
     private final ObjectMapper objectMapper;
+    private final OkHttpClient qdrantHttpClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${qdrant.collection-name}")
     private String collectionName;  // 게시글 벡터 컬렉션
 
     @Value("${qdrant.vector-size}")
     private int vectorSize;
-    
+
+    @Value("${qdrant.quantization:NONE}")
+    private VectorQuantization quantization;
+
+    @Value("${qdrant.rescore-oversampling:2.0}")
+    private double rescoreOversampling;
+
     private static final String PROFILES_COLLECTION_NAME = "profiles_embeddings";  // 프로필 벡터 컬렉션
 
+    // 프로세스 내 인덱스 적재 시 함께 받는 payload (추천 필터 조건)
+    private static final List<String> SCROLL_PAYLOAD_KEYS = List.of("status", "projectType", "ownerId", "deadlineAt");
+
+    // 추천 필터 필드 → payload 인덱스 종류 (인덱스가 없으면 필터 검색마다 payload 전체를 훑음)
+    private static final Map<String, String> POST_PAYLOAD_INDEXES = Map.of(
+            "status", "keyword",
+            "projectType", "keyword",
+            "ownerId", "integer",
+            "deadlineAt", "integer");
+
     @Value("${qdrant.host}")
     private String host;
 
     @Value("${qdrant.port}")
     private int port;
 
-    private final OkHttpClient httpClient = new OkHttpClient.Builder()
-            .connectTimeout(30, TimeUnit.SECONDS)
-            .readTimeout(30, TimeUnit.SECONDS)
-            .writeTimeout(30, TimeUnit.SECONDS)
-            .build();
+    // 존재가 확인된(또는 생성한) 컬렉션 목록
+    private final Set<String> readyCollections = ConcurrentHashMap.newKeySet();
 
     private String getBaseUrl() {
         return String.format("http://%s:%d", host, port);
     }
 
+    /**
+     * 기동 시 컬렉션 확인/생성
+     * Qdrant 가 아직 떠 있지 않아도 애플리케이션 기동은 계속하고, 첫 저장 시 다시 확인
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initCollections() {
+        for (String collection : List.of(collectionName, PROFILES_COLLECTION_NAME)) {
+            try {
+                ensureCollection(collection);
+            } catch (Exception e) {
+                log.warn("Qdrant 컬렉션 초기화 실패 (첫 저장 시 재시도): collection={}, error={}",
+                        collection, e.getMessage());
+            }
+        }
+    }
+
     /**
      * 컬렉션이 존재하는지 확인하고 없으면 생성
      */
     public void ensureCollectionExists() {
-        try {
-            // 컬렉션 조회
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s", getBaseUrl(), collectionName))
-                    .get()
-                    .build();
+        ensureCollection(collectionName);
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
+    /**
+     * 프로필 벡터 컬렉션이 존재하는지 확인하고 없으면 생성
+     */
+    public void ensureProfilesCollectionExists() {
+        ensureCollection(PROFILES_COLLECTION_NAME);
+    }
+
+    private void ensureCollection(String collection) {
+        if (readyCollections.contains(collection)) {
+            return;
+        }
+
+        Request request = new Request.Builder()
+                .url(String.format("%s/collections/%s", getBaseUrl(), collection))
+                .get()
+                .build();
+
+        try (Response response = qdrantHttpClient.newCall(request).execute()) {
             if (response.code() == 404) {
                 // 컬렉션이 없으면 생성
-                createCollection();
+                createCollection(collection);
+                if (collection.equals(collectionName)) {
+                    createPayloadIndexes(collection, POST_PAYLOAD_INDEXES.keySet());
+                }
             } else if (!response.isSuccessful()) {
-                log.error("컬렉션 확인 실패: {}", response.body().string());
+                log.error("컬렉션 확인 실패: collection={}, body={}", collection, bodyOf(response));
                 throw new IllegalStateException("컬렉션 확인 실패");
+            } else {
+                JsonNode result = objectMapper.readTree(bodyOf(response)).path("result");
+                if (currentQuantization(result.path("config").path("quantization_config")) != quantization) {
+                    updateQuantization(collection);
+                }
+                if (collection.equals(collectionName)) {
+                    ensurePayloadIndexes(collection, result.path("payload_schema"));
+                }
             }
-            
-            response.close();
+            readyCollections.add(collection);
         } catch (IOException e) {
-            log.error("컬렉션 확인 중 오류", e);
+            log.error("컬렉션 확인 중 오류: collection={}", collection, e);
             throw new IllegalStateException("컬렉션 확인 실패", e);
         }
     }
@@ -78,38 +149,107 @@ public class VectorRepository {
     /**
      * 컬렉션 생성
      */
-    private void createCollection() {
-        try {
-            Map<String, Object> body = Map.of(
-                    "vectors", Map.of(
-                            "size", vectorSize,
-                            "distance", "Cosine"
-                    )
-            );
+    private void createCollection(String collection) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("vectors");
+            gen.writeNumberField("size", vectorSize);
+            gen.writeStringField("distance", "Cosine");
+            if (quantization != VectorQuantization.NONE) {
+                gen.writeBooleanField("on_disk", true);  // 원본은 재정렬할 때만 읽음
+            }
+            gen.writeEndObject();
+            if (quantization != VectorQuantization.NONE) {
+                writeQuantizationConfig(gen);
+            }
+            gen.writeEndObject();
+        });
+
+        Request request = new Request.Builder()
+                .url(String.format("%s/collections/%s", getBaseUrl(), collection))
+                .put(body)
+                .build();
+
+        execute(request, "컬렉션 생성");
+        log.info("Qdrant 컬렉션 생성 완료: {}, quantization={}", collection, quantization);
+    }
+
+    /**
+     * 기존 컬렉션의 양자화 설정 변경 (Qdrant 가 백그라운드에서 압축 벡터를 다시 만듦)
+     * 원본 벡터 위치도 생성 때와 같게 맞춤 (양자화하면 on_disk, 해제하면 RAM)
+     */
+    private void updateQuantization(String collection) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("vectors");
+            gen.writeObjectFieldStart("");  // 이름 없는 기본 벡터
+            gen.writeBooleanField("on_disk", quantization != VectorQuantization.NONE);
+            gen.writeEndObject();
+            gen.writeEndObject();
+            writeQuantizationConfig(gen);
+            gen.writeEndObject();
+        });
+
+        Request request = new Request.Builder()
+                .url(String.format("%s/collections/%s", getBaseUrl(), collection))
+                .patch(body)
+                .build();
+
+        execute(request, "컬렉션 양자화 설정 변경");
+        log.info("Qdrant 컬렉션 양자화 설정 변경: {}, quantization={}", collection, quantization);
+    }
+
+    /**
+     * 기존 컬렉션에 없는 payload 인덱스 생성
+     * 새로 만든 인덱스가 있으면 그 전에 저장된 포인트에 필터 필드가 없을 수 있으므로 payload 보강 이벤트 발행
+     */
+    private void ensurePayloadIndexes(String collection, JsonNode payloadSchema) {
+        List<String> missing = POST_PAYLOAD_INDEXES.keySet().stream()
+                .filter(field -> !payloadSchema.has(field))
+                .sorted()
+                .toList();
+        if (missing.isEmpty()) {
+            return;
+        }
+        createPayloadIndexes(collection, missing);
+        eventPublisher.publishEvent(new PostPayloadIndexCreatedEvent(collection));
+    }
 
-            String json = objectMapper.writeValueAsString(body);
+    /**
+     * payload 인덱스 생성 (PUT /collections/{name}/index, 생성 완료까지 대기)
+     */
+    private void createPayloadIndexes(String collection, Collection<String> fields) {
+        for (String field : fields) {
+            String schema = POST_PAYLOAD_INDEXES.get(field);
+            RequestBody body = jsonBody(gen -> {
+                gen.writeStartObject();
+                gen.writeStringField("field_name", field);
+                gen.writeStringField("field_schema", schema);
+                gen.writeEndObject();
+            });
 
             Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s", getBaseUrl(), collectionName))
-                    .put(RequestBody.create(json, MediaType.get("application/json")))
+                    .url(String.format("%s/collections/%s/index?wait=true", getBaseUrl(), collection))
+                    .put(body)
                     .build();
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("컬렉션 생성 실패: {}", errorBody);
-                throw new IllegalStateException("컬렉션 생성 실패");
-            }
-            
-            response.close();
-            log.info("Qdrant 컬렉션 생성 완료: {}", collectionName);
-        } catch (IOException e) {
-            log.error("컬렉션 생성 중 오류", e);
-            throw new IllegalStateException("컬렉션 생성 실패", e);
+            execute(request, "payload 인덱스 생성");
+        }
+        log.info("Qdrant payload 인덱스 생성: {}, fields={}", collection, fields);
+    }
+
+    private static VectorQuantization currentQuantization(JsonNode quantizationConfig) {
+        if (quantizationConfig.has("scalar")) {
+            return VectorQuantization.INT8;
+        }
+        if (quantizationConfig.has("binary")) {
+            return VectorQuantization.BINARY;
         }
+        return VectorQuantization.NONE;
     }
 
+    // ==================== 게시글 벡터 ====================
+
     /**
      * 벡터 저장
      * @param postId 게시글 ID
@@ -126,43 +266,24 @@ public class VectorRepository {
      * @param payload 메타데이터
      */
     public void upsertVector(Long postId, float[] embedding, Map<String, Object> payload) {
-        ensureCollectionExists();
-        
-        try {
-            Map<String, Object> point = new HashMap<>();
-            point.put("id", postId);
-            point.put("vector", embedding);
-            
-            // payload가 있으면 추가
-            if (payload != null) {
-                point.put("payload", payload);
-            }
-
-            Map<String, Object> body = Map.of(
-                    "points", List.of(point)
-            );
-
-            String json = objectMapper.writeValueAsString(body);
+        upsertVectors(List.of(new VectorPoint(postId, embedding, payload)));
+        log.debug("벡터 저장 완료: postId={}", postId);
+    }
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points", getBaseUrl(), collectionName))
-                    .put(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+    /**
+     * 여러 게시글 벡터를 PUT /points 한 번으로 저장
+     */
+    public void upsertVectors(List<VectorPoint> points) {
+        upsertPoints(collectionName, points);
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("벡터 저장 실패: {}", errorBody);
-                throw new IllegalStateException("벡터 저장 실패");
-            }
-            
-            response.close();
-            log.debug("벡터 저장 완료: postId={}", postId);
-        } catch (IOException e) {
-            log.error("벡터 저장 중 오류", e);
-            throw new IllegalStateException("벡터 저장 실패", e);
-        }
+    /**
+     * 벡터 저장 (비동기)
+     */
+    public CompletableFuture<Void> upsertVectorAsync(Long postId, float[] embedding, Map<String, Object> payload) {
+        ensureCollection(collectionName);
+        return executeAsync(upsertRequest(collectionName, List.of(new VectorPoint(postId, embedding, payload))), "벡터 저장")
+                .thenAccept(body -> log.debug("벡터 저장 완료(비동기): postId={}", postId));
     }
 
     /**
@@ -172,288 +293,679 @@ public class VectorRepository {
      * @return postId와 유사도 점수의 맵 (postId -> similarity score)
      */
     public Map<Long, Double> searchSimilar(float[] queryEmbedding, int limit) {
-        try {
-            log.debug("벡터 검색 시작: limit={}", limit);
-            Map<String, Object> body = Map.of(
-                    "vector", queryEmbedding,
-                    "limit", limit,
-                    "with_payload", false
-            );
+        log.debug("벡터 검색 시작: limit={}", limit);
+        Map<Long, Double> postSimilarities = parseScores(
+                execute(searchRequest(collectionName, queryEmbedding, limit), "벡터 검색"));
+        log.debug("벡터 검색 완료: {}개 결과", postSimilarities.size());
+        return postSimilarities;
+    }
 
-            String json = objectMapper.writeValueAsString(body);
+    /**
+     * 벡터 검색 (비동기)
+     */
+    public CompletableFuture<Map<Long, Double>> searchSimilarAsync(float[] queryEmbedding, int limit) {
+        return executeAsync(searchRequest(collectionName, queryEmbedding, limit), "벡터 검색")
+                .thenApply(this::parseScores);
+    }
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points/search", getBaseUrl(), collectionName))
-                    .post(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+    /**
+     * 벡터 삭제
+     */
+    public void deleteVector(Long postId) {
+        deleteVectors(List.of(postId));
+        log.debug("벡터 삭제 완료: postId={}", postId);
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            log.debug("Qdrant 응답 상태: {}", response.code());
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("벡터 검색 실패: {}", errorBody);
-                throw new IllegalStateException("벡터 검색 실패");
+    /**
+     * 여러 게시글 벡터를 POST /points/delete 한 번으로 삭제
+     */
+    public void deleteVectors(Collection<Long> postIds) {
+        deletePoints(collectionName, postIds);
+    }
+
+    /**
+     * 필터 조건을 만족하는 게시글 벡터만 검색 (Qdrant payload 필터, 필터링 후 유사도 상위 limit 개)
+     */
+    public Map<Long, Double> searchSimilar(float[] queryEmbedding, int limit, PostVectorFilter filter) {
+        return searchSimilar(queryEmbedding, 0, limit, filter);
+    }
+
+    /**
+     * 필터 벡터 검색 - 유사도 순위 offset 번째부터 limit 개 (추천 목록 이어서 조회)
+     */
+    @Override
+    public Map<Long, Double> searchSimilar(float[] queryEmbedding, int offset, int limit, PostVectorFilter filter) {
+        Map<Long, Double> postSimilarities = parseScores(
+                execute(searchRequest(collectionName, queryEmbedding, offset, limit, filter), "벡터 검색"));
+        log.debug("필터 벡터 검색 완료: {}개 결과", postSimilarities.size());
+        return postSimilarities;
+    }
+
+    /**
+     * 게시글 벡터의 payload 값 일괄 조회 (POST /points 한 번, 벡터는 받지 않음)
+     * @return 포인트 ID → (key → 값) (포인트가 없으면 제외, 문자열 값만)
+     */
+    public Map<Long, Map<String, String>> findPayloadValues(Collection<Long> postIds, List<String> keys) {
+        return retrievePayloadValues(collectionName, postIds, keys);
+    }
+
+    /**
+     * 저장된 게시글 벡터 일괄 조회 (다시 임베딩하지 않고 재사용)
+     * @return postId → 벡터 (포인트가 없으면 제외)
+     */
+    @Override
+    public Map<Long, float[]> findVectors(Collection<Long> postIds) {
+        return retrieveVectors(collectionName, postIds);
+    }
+
+    /**
+     * 여러 게시글 벡터의 payload 만 갱신 (벡터는 그대로, POST /points/batch 한 번)
+     */
+    public void setPayloads(Map<Long, Map<String, Object>> payloads) {
+        if (payloads.isEmpty()) {
+            return;
+        }
+        execute(setPayloadsRequest(collectionName, payloads), "벡터 payload 갱신");
+    }
+
+    // ==================== 프로필 벡터 관련 메서드 ====================
+
+    /**
+     * 프로필 벡터 저장
+     * @param profileId 프로필 ID (userId와 동일)
+     * @param embedding 벡터
+     */
+    public void upsertProfileVector(Long profileId, float[] embedding) {
+        upsertProfileVectors(List.of(VectorPoint.of(profileId, embedding)));
+        log.debug("프로필 벡터 저장 완료: profileId={}", profileId);
+    }
+
+    /**
+     * 여러 프로필 벡터를 PUT /points 한 번으로 저장
+     */
+    public void upsertProfileVectors(List<VectorPoint> points) {
+        upsertPoints(PROFILES_COLLECTION_NAME, points);
+    }
+
+    /**
+     * 프로필 벡터 저장 (비동기)
+     */
+    public CompletableFuture<Void> upsertProfileVectorAsync(Long profileId, float[] embedding) {
+        ensureCollection(PROFILES_COLLECTION_NAME);
+        return executeAsync(upsertRequest(PROFILES_COLLECTION_NAME, List.of(VectorPoint.of(profileId, embedding))), "프로필 벡터 저장")
+                .thenAccept(body -> log.debug("프로필 벡터 저장 완료(비동기): profileId={}", profileId));
+    }
+
+    /**
+     * 게시글 포인트 전체 순회 (벡터 + 필터용 payload, id 순)
+     * @param offset 시작 ID (처음이면 null)
+     */
+    public VectorScrollPage scrollPoints(Long offset, int limit) {
+        return scroll(collectionName, offset, limit, SCROLL_PAYLOAD_KEYS);
+    }
+
+    /**
+     * 프로필 포인트 전체 순회 (벡터만, id 순)
+     * @param offset 시작 ID (처음이면 null)
+     */
+    public VectorScrollPage scrollProfilePoints(Long offset, int limit) {
+        return scroll(PROFILES_COLLECTION_NAME, offset, limit, List.of());
+    }
+
+    /**
+     * 프로필 벡터 검색 (유사도 기반)
+     * @param queryEmbedding 검색 쿼리 벡터
+     * @param limit 결과 개수
+     * @return userId와 유사도 점수의 맵 (userId -> similarity score)
+     */
+    public Map<Long, Double> searchSimilarProfiles(float[] queryEmbedding, int limit) {
+        log.debug("프로필 벡터 검색 시작: limit={}", limit);
+        Map<Long, Double> profileSimilarities = parseScores(
+                execute(searchRequest(PROFILES_COLLECTION_NAME, queryEmbedding, limit), "프로필 벡터 검색"));
+        log.debug("프로필 벡터 검색 완료: {}개 결과", profileSimilarities.size());
+        return profileSimilarities;
+    }
+
+    /**
+     * 프로필 벡터 검색 - 유사도 순위 offset 번째부터 limit 개 (추천 목록 이어서 조회)
+     */
+    @Override
+    public Map<Long, Double> searchSimilarProfiles(float[] queryEmbedding, int offset, int limit) {
+        Map<Long, Double> profileSimilarities = parseScores(
+                execute(searchRequest(PROFILES_COLLECTION_NAME, queryEmbedding, offset, limit, null), "프로필 벡터 검색"));
+        log.debug("프로필 벡터 검색 완료: offset={}, {}개 결과", offset, profileSimilarities.size());
+        return profileSimilarities;
+    }
+
+    /**
+     * 프로필 벡터 검색 (비동기)
+     */
+    public CompletableFuture<Map<Long, Double>> searchSimilarProfilesAsync(float[] queryEmbedding, int limit) {
+        return executeAsync(searchRequest(PROFILES_COLLECTION_NAME, queryEmbedding, limit), "프로필 벡터 검색")
+                .thenApply(this::parseScores);
+    }
+
+    /**
+     * 프로필 벡터 삭제
+     */
+    public void deleteProfileVector(Long profileId) {
+        deleteProfileVectors(List.of(profileId));
+        log.debug("프로필 벡터 삭제 완료: profileId={}", profileId);
+    }
+
+    /**
+     * 여러 프로필 벡터를 POST /points/delete 한 번으로 삭제
+     */
+    public void deleteProfileVectors(Collection<Long> profileIds) {
+        deletePoints(PROFILES_COLLECTION_NAME, profileIds);
+    }
+
+    /**
+     * 저장된 프로필 벡터 일괄 조회 (다시 임베딩하지 않고 재사용)
+     * @return userId → 벡터 (포인트가 없으면 제외)
+     */
+    @Override
+    public Map<Long, float[]> findProfileVectors(Collection<Long> userIds) {
+        return retrieveVectors(PROFILES_COLLECTION_NAME, userIds);
+    }
+
+    /**
+     * 프로필 벡터의 payload 값 일괄 조회 (POST /points 한 번, 벡터는 받지 않음)
+     * @return userId → 값 (포인트나 값이 없으면 제외)
+     */
+    public Map<Long, String> findProfilePayloadValues(Collection<Long> profileIds, String key) {
+        Map<Long, String> values = new HashMap<>();
+        retrievePayloadValues(PROFILES_COLLECTION_NAME, profileIds, List.of(key)).forEach((id, payload) -> {
+            if (payload.containsKey(key)) {
+                values.put(id, payload.get(key));
             }
-            
-            String responseBody = response.body().string();
-            response.close();
-
-            // 응답 파싱 (ID와 유사도 점수 함께 추출)
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode result = root.get("result");
-            
-            Map<Long, Double> postSimilarities = new LinkedHashMap<>();
-            if (result != null && result.isArray()) {
-                for (JsonNode point : result) {
-                    JsonNode id = point.get("id");
-                    JsonNode score = point.get("score");
-                    
-                    if (id != null && id.isNumber() && score != null && score.isNumber()) {
-                        Long postId = id.asLong();
-                        Double similarity = score.asDouble();
-                        postSimilarities.put(postId, similarity);
-                        log.debug("게시글 검색 결과: postId={}, similarity={}", postId, similarity);
-                    }
+        });
+        return values;
+    }
+
+    // ==================== 요청 생성 ====================
+
+    private void upsertPoints(String collection, List<VectorPoint> points) {
+        if (points.isEmpty()) {
+            return;
+        }
+        ensureCollection(collection);
+        execute(upsertRequest(collection, points), "벡터 저장");
+    }
+
+    private Request upsertRequest(String collection, List<VectorPoint> points) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("points");
+            for (VectorPoint point : points) {
+                gen.writeStartObject();
+                gen.writeNumberField("id", point.id());
+                gen.writeFieldName("vector");
+                writeVector(gen, point.vector());
+                if (point.payload() != null) {
+                    gen.writeObjectField("payload", point.payload());
                 }
+                gen.writeEndObject();
             }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
+
+        return new Request.Builder()
+                .url(String.format("%s/collections/%s/points", getBaseUrl(), collection))
+                .put(body)
+                .build();
+    }
 
-            log.debug("벡터 검색 완료: {}개 결과", postSimilarities.size());
-            return postSimilarities;
+    private Request searchRequest(String collection, float[] queryEmbedding, int limit) {
+        return searchRequest(collection, queryEmbedding, 0, limit, null);
+    }
 
-        } catch (IOException e) {
-            log.error("벡터 검색 중 오류", e);
-            throw new IllegalStateException("벡터 검색 실패", e);
+    private Request searchRequest(String collection, float[] queryEmbedding, int offset, int limit,
+                                  PostVectorFilter filter) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeFieldName("vector");
+            writeVector(gen, queryEmbedding);
+            gen.writeNumberField("limit", limit);
+            if (offset > 0) {
+                gen.writeNumberField("offset", offset);
+            }
+            gen.writeBooleanField("with_payload", false);
+            if (filter != null) {
+                gen.writeFieldName("filter");
+                writeFilter(gen, filter);
+            }
+            if (quantization != VectorQuantization.NONE) {
+                gen.writeObjectFieldStart("params");
+                gen.writeObjectFieldStart("quantization");
+                gen.writeBooleanField("rescore", true);
+                gen.writeNumberField("oversampling", rescoreOversampling);
+                gen.writeEndObject();
+                gen.writeEndObject();
+            }
+            gen.writeEndObject();
+        });
+
+        return new Request.Builder()
+                .url(String.format("%s/collections/%s/points/search", getBaseUrl(), collection))
+                .post(body)
+                .build();
+    }
+
+    private Request setPayloadsRequest(String collection, Map<Long, Map<String, Object>> payloads) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("operations");
+            for (Map.Entry<Long, Map<String, Object>> entry : payloads.entrySet()) {
+                gen.writeStartObject();
+                gen.writeObjectFieldStart("set_payload");
+                gen.writeObjectField("payload", entry.getValue());
+                gen.writeArrayFieldStart("points");
+                gen.writeNumber(entry.getKey());
+                gen.writeEndArray();
+                gen.writeEndObject();
+                gen.writeEndObject();
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
+
+        return new Request.Builder()
+                .url(String.format("%s/collections/%s/points/batch", getBaseUrl(), collection))
+                .post(body)
+                .build();
+    }
+
+    // NONE 이면 "Disabled" (기존 컬렉션의 양자화 해제), 압축 벡터는 항상 RAM
+    private void writeQuantizationConfig(JsonGenerator gen) throws IOException {
+        if (quantization == VectorQuantization.NONE) {
+            gen.writeStringField("quantization_config", "Disabled");
+            return;
         }
+        gen.writeObjectFieldStart("quantization_config");
+        if (quantization == VectorQuantization.INT8) {
+            gen.writeObjectFieldStart("scalar");
+            gen.writeStringField("type", "int8");
+            gen.writeNumberField("quantile", 0.99);
+        } else {
+            gen.writeObjectFieldStart("binary");
+        }
+        gen.writeBooleanField("always_ram", true);
+        gen.writeEndObject();
+        gen.writeEndObject();
     }
 
     /**
-     * 벡터 삭제
+     * 게시글 필터 → Qdrant filter
+     * 마감일이 없는 게시글은 마감일 조건을 통과 (range 또는 is_empty)
      */
-    public void deleteVector(Long postId) {
-        try {
-            Map<String, Object> body = Map.of(
-                    "points", List.of(postId)
-            );
+    private static void writeFilter(JsonGenerator gen, PostVectorFilter filter) throws IOException {
+        gen.writeStartObject();
 
-            String json = objectMapper.writeValueAsString(body);
+        gen.writeArrayFieldStart("must");
+        if (filter.status() != null) {
+            writeMatch(gen, "status", filter.status());
+        }
+        if (filter.projectType() != null) {
+            writeMatch(gen, "projectType", filter.projectType());
+        }
+        if (filter.deadlineAfter() != null) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("should");
+            gen.writeStartObject();
+            gen.writeStringField("key", "deadlineAt");
+            gen.writeObjectFieldStart("range");
+            gen.writeNumberField("gt", filter.deadlineAfter());
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.writeStartObject();
+            gen.writeObjectFieldStart("is_empty");
+            gen.writeStringField("key", "deadlineAt");
+            gen.writeEndObject();
+            gen.writeEndObject();
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+
+        gen.writeArrayFieldStart("must_not");
+        if (filter.excludeOwnerId() != null) {
+            gen.writeStartObject();
+            gen.writeStringField("key", "ownerId");
+            gen.writeObjectFieldStart("match");
+            gen.writeNumberField("value", filter.excludeOwnerId());
+            gen.writeEndObject();
+            gen.writeEndObject();
+        }
+        if (filter.excludeIds() != null && filter.excludeIds().length > 0) {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("has_id");
+            for (long id : filter.excludeIds()) {
+                gen.writeNumber(id);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points/delete", getBaseUrl(), collectionName))
-                    .post(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+        gen.writeEndObject();
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("벡터 삭제 실패: {}", errorBody);
-                throw new IllegalStateException("벡터 삭제 실패");
+    private static void writeMatch(JsonGenerator gen, String key, String value) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("key", key);
+        gen.writeObjectFieldStart("match");
+        gen.writeStringField("value", value);
+        gen.writeEndObject();
+        gen.writeEndObject();
+    }
+
+    private void deletePoints(String collection, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        execute(deleteRequest(collection, ids), "벡터 삭제");
+    }
+
+    private Request deleteRequest(String collection, Collection<Long> ids) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("points");
+            for (Long id : ids) {
+                gen.writeNumber(id);
             }
-            
-            response.close();
-            log.debug("벡터 삭제 완료: postId={}", postId);
-        } catch (IOException e) {
-            log.error("벡터 삭제 중 오류", e);
-            throw new IllegalStateException("벡터 삭제 실패", e);
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
+
+        return new Request.Builder()
+                .url(String.format("%s/collections/%s/points/delete", getBaseUrl(), collection))
+                .post(body)
+                .build();
+    }
+
+    private Map<Long, Map<String, String>> retrievePayloadValues(String collection, Collection<Long> ids, List<String> keys) {
+        if (ids.isEmpty()) {
+            return Map.of();
         }
+        ensureCollection(collection);
+        return parsePayloadValues(execute(retrieveRequest(collection, ids, keys, false), "벡터 payload 조회"), keys);
     }
 
-    // ==================== 프로필 벡터 관련 메서드 ====================
+    private Map<Long, float[]> retrieveVectors(String collection, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        ensureCollection(collection);
+        return parseVectors(execute(retrieveRequest(collection, ids, List.of(), true), "벡터 조회"));
+    }
 
-    /**
-     * 프로필 벡터 컬렉션이 존재하는지 확인하고 없으면 생성
-     */
-    public void ensureProfilesCollectionExists() {
-        try {
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s", getBaseUrl(), PROFILES_COLLECTION_NAME))
-                    .get()
-                    .build();
+    private VectorScrollPage scroll(String collection, Long offset, int limit, List<String> keys) {
+        ensureCollection(collection);
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("limit", limit);
+            if (offset != null) {
+                gen.writeNumberField("offset", offset);
+            }
+            if (keys.isEmpty()) {
+                gen.writeBooleanField("with_payload", false);
+            } else {
+                gen.writeArrayFieldStart("with_payload");
+                for (String key : keys) {
+                    gen.writeString(key);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeBooleanField("with_vector", true);
+            gen.writeEndObject();
+        });
+
+        Request request = new Request.Builder()
+                .url(String.format("%s/collections/%s/points/scroll", getBaseUrl(), collection))
+                .post(body)
+                .build();
+        return parseScrollPage(execute(request, "벡터 전체 조회"), keys);
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (response.code() == 404) {
-                createProfilesCollection();
-            } else if (!response.isSuccessful()) {
-                log.error("프로필 컬렉션 확인 실패: {}", response.body().string());
-                throw new IllegalStateException("프로필 컬렉션 확인 실패");
+    private Request retrieveRequest(String collection, Collection<Long> ids, List<String> keys, boolean withVector) {
+        RequestBody body = jsonBody(gen -> {
+            gen.writeStartObject();
+            gen.writeArrayFieldStart("ids");
+            for (Long id : ids) {
+                gen.writeNumber(id);
             }
-            
-            response.close();
-        } catch (IOException e) {
-            log.error("프로필 컬렉션 확인 중 오류", e);
-            throw new IllegalStateException("프로필 컬렉션 확인 실패", e);
+            gen.writeEndArray();
+            if (keys.isEmpty()) {
+                gen.writeBooleanField("with_payload", false);
+            } else {
+                gen.writeArrayFieldStart("with_payload");
+                for (String key : keys) {
+                    gen.writeString(key);
+                }
+                gen.writeEndArray();
+            }
+            gen.writeBooleanField("with_vector", withVector);
+            gen.writeEndObject();
+        });
+
+        return new Request.Builder()
+                .url(String.format("%s/collections/%s/points", getBaseUrl(), collection))
+                .post(body)
+                .build();
+    }
+
+    private static void writeVector(JsonGenerator gen, float[] vector) throws IOException {
+        gen.writeStartArray();
+        for (float v : vector) {
+            gen.writeNumber(v);
         }
+        gen.writeEndArray();
     }
 
     /**
-     * 프로필 벡터 컬렉션 생성
+     * JsonGenerator 로 요청 본문을 소켓에 바로 기록하는 RequestBody
+     * (재시도 시 다시 호출될 수 있으므로 writer 는 부수효과가 없어야 함)
      */
-    private void createProfilesCollection() {
-        try {
-            Map<String, Object> body = Map.of(
-                    "vectors", Map.of(
-                            "size", vectorSize,
-                            "distance", "Cosine"
-                    )
-            );
+    private RequestBody jsonBody(JsonWriter writer) {
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return JSON;
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) throws IOException {
+                try (JsonGenerator gen = objectMapper.createGenerator(sink.outputStream())) {
+                    // sink 는 OkHttp 가 닫으므로 generator 종료 시 함께 닫지 않음
+                    gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                    writer.write(gen);
+                }
+            }
+        };
+    }
 
-            String json = objectMapper.writeValueAsString(body);
+    @FunctionalInterface
+    private interface JsonWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s", getBaseUrl(), PROFILES_COLLECTION_NAME))
-                    .put(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+    // ==================== 요청 실행 ====================
 
-            Response response = httpClient.newCall(request).execute();
-            
+    private String execute(Request request, String action) {
+        try (Response response = qdrantHttpClient.newCall(request).execute()) {
+            String body = bodyOf(response);
             if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("프로필 컬렉션 생성 실패: {}", errorBody);
-                throw new IllegalStateException("프로필 컬렉션 생성 실패");
+                log.error("{} 실패: {}", action, body);
+                throw new IllegalStateException(action + " 실패");
             }
-            
-            response.close();
-            log.info("Qdrant 프로필 컬렉션 생성 완료: {}", PROFILES_COLLECTION_NAME);
+            return body;
         } catch (IOException e) {
-            log.error("프로필 컬렉션 생성 중 오류", e);
-            throw new IllegalStateException("프로필 컬렉션 생성 실패", e);
+            log.error("{} 중 오류", action, e);
+            throw new IllegalStateException(action + " 실패", e);
         }
     }
 
-    /**
-     * 프로필 벡터 저장
-     * @param profileId 프로필 ID (userId와 동일)
-     * @param embedding 벡터
-     */
-    public void upsertProfileVector(Long profileId, float[] embedding) {
-        ensureProfilesCollectionExists();
-        
-        try {
-            Map<String, Object> point = new HashMap<>();
-            point.put("id", profileId);
-            point.put("vector", embedding);
+    private CompletableFuture<String> executeAsync(Request request, String action) {
+        CompletableFuture<String> future = new CompletableFuture<>();
 
-            Map<String, Object> body = Map.of(
-                    "points", List.of(point)
-            );
+        qdrantHttpClient.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                log.error("{} 중 오류", action, e);
+                future.completeExceptionally(new IllegalStateException(action + " 실패", e));
+            }
 
-            String json = objectMapper.writeValueAsString(body);
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    String body = bodyOf(response);
+                    if (!response.isSuccessful()) {
+                        log.error("{} 실패: {}", action, body);
+                        future.completeExceptionally(new IllegalStateException(action + " 실패"));
+                        return;
+                    }
+                    future.complete(body);
+                } catch (IOException e) {
+                    future.completeExceptionally(new IllegalStateException(action + " 실패", e));
+                }
+            }
+        });
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points", getBaseUrl(), PROFILES_COLLECTION_NAME))
-                    .put(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+        return future;
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("프로필 벡터 저장 실패: {}", errorBody);
-                throw new IllegalStateException("프로필 벡터 저장 실패");
+    private static String bodyOf(Response response) throws IOException {
+        return response.body() != null ? response.body().string() : "";
+    }
+
+    /**
+     * 포인트 조회 응답에서 payload 값 추출
+     */
+    private Map<Long, Map<String, String>> parsePayloadValues(String responseBody, List<String> keys) {
+        try {
+            JsonNode result = objectMapper.readTree(responseBody).get("result");
+
+            Map<Long, Map<String, String>> values = new HashMap<>();
+            if (result != null && result.isArray()) {
+                for (JsonNode point : result) {
+                    JsonNode id = point.get("id");
+                    if (id == null || !id.isNumber()) {
+                        continue;
+                    }
+                    Map<String, String> payload = new HashMap<>();
+                    for (String key : keys) {
+                        JsonNode value = point.path("payload").get(key);
+                        if (value != null && value.isTextual()) {
+                            payload.put(key, value.asText());
+                        }
+                    }
+                    values.put(id.asLong(), payload);
+                }
             }
-            
-            response.close();
-            log.debug("프로필 벡터 저장 완료: profileId={}", profileId);
+            return values;
         } catch (IOException e) {
-            log.error("프로필 벡터 저장 중 오류", e);
-            throw new IllegalStateException("프로필 벡터 저장 실패", e);
+            log.error("벡터 payload 조회 응답 파싱 중 오류", e);
+            throw new IllegalStateException("벡터 payload 조회 실패", e);
         }
     }
 
     /**
-     * 프로필 벡터 검색 (유사도 기반)
-     * @param queryEmbedding 검색 쿼리 벡터
-     * @param limit 결과 개수
-     * @return userId와 유사도 점수의 맵 (userId -> similarity score)
+     * scroll 응답 파싱 (문자열/숫자 payload 값만)
      */
-    public Map<Long, Double> searchSimilarProfiles(float[] queryEmbedding, int limit) {
+    private VectorScrollPage parseScrollPage(String responseBody, List<String> keys) {
         try {
-            log.debug("프로필 벡터 검색 시작: limit={}", limit);
-            Map<String, Object> body = Map.of(
-                    "vector", queryEmbedding,
-                    "limit", limit,
-                    "with_payload", false
-            );
+            JsonNode result = objectMapper.readTree(responseBody).get("result");
+            if (result == null) {
+                return new VectorScrollPage(List.of(), null);
+            }
 
-            String json = objectMapper.writeValueAsString(body);
+            List<VectorPoint> points = new ArrayList<>();
+            for (JsonNode point : result.path("points")) {
+                JsonNode id = point.get("id");
+                JsonNode vector = point.get("vector");
+                if (id == null || !id.isNumber() || vector == null || !vector.isArray()) {
+                    continue;
+                }
+                float[] values = new float[vector.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = (float) vector.get(i).asDouble();
+                }
+                Map<String, Object> payload = null;
+                if (!keys.isEmpty()) {
+                    payload = new HashMap<>();
+                    for (String key : keys) {
+                        JsonNode value = point.path("payload").get(key);
+                        if (value != null && value.isTextual()) {
+                            payload.put(key, value.asText());
+                        } else if (value != null && value.isNumber()) {
+                            payload.put(key, value.asLong());
+                        }
+                    }
+                }
+                points.add(new VectorPoint(id.asLong(), values, payload));
+            }
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points/search", getBaseUrl(), PROFILES_COLLECTION_NAME))
-                    .post(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+            JsonNode next = result.get("next_page_offset");
+            return new VectorScrollPage(points, next != null && next.isNumber() ? next.asLong() : null);
+        } catch (IOException e) {
+            log.error("벡터 전체 조회 응답 파싱 중 오류", e);
+            throw new IllegalStateException("벡터 전체 조회 실패", e);
+        }
+    }
 
-            Response response = httpClient.newCall(request).execute();
-            
-            log.debug("Qdrant 프로필 검색 응답 상태: {}", response.code());
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("프로필 벡터 검색 실패: {}", errorBody);
-                throw new IllegalStateException("프로필 벡터 검색 실패");
-            }
-            
-            String responseBody = response.body().string();
-            response.close();
-
-            // 응답 파싱 (ID와 유사도 점수 함께 추출)
-            JsonNode root = objectMapper.readTree(responseBody);
-            JsonNode result = root.get("result");
-            
-            Map<Long, Double> profileSimilarities = new LinkedHashMap<>();
+    /**
+     * 포인트 조회 응답에서 벡터 추출
+     */
+    private Map<Long, float[]> parseVectors(String responseBody) {
+        try {
+            JsonNode result = objectMapper.readTree(responseBody).get("result");
+
+            Map<Long, float[]> vectors = new HashMap<>();
             if (result != null && result.isArray()) {
                 for (JsonNode point : result) {
                     JsonNode id = point.get("id");
-                    JsonNode score = point.get("score");
-                    
-                    if (id != null && id.isNumber() && score != null && score.isNumber()) {
-                        Long userId = id.asLong();
-                        Double similarity = score.asDouble();
-                        profileSimilarities.put(userId, similarity);
-                        log.debug("프로필 검색 결과: userId={}, similarity={}", userId, similarity);
+                    JsonNode vector = point.get("vector");
+                    if (id == null || !id.isNumber() || vector == null || !vector.isArray()) {
+                        continue;
+                    }
+                    float[] values = new float[vector.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = (float) vector.get(i).asDouble();
                     }
+                    vectors.put(id.asLong(), values);
                 }
             }
-
-            log.debug("프로필 벡터 검색 완료: {}개 결과", profileSimilarities.size());
-            return profileSimilarities;
-
+            return vectors;
         } catch (IOException e) {
-            log.error("프로필 벡터 검색 중 오류", e);
-            throw new IllegalStateException("프로필 벡터 검색 실패", e);
+            log.error("벡터 조회 응답 파싱 중 오류", e);
+            throw new IllegalStateException("벡터 조회 실패", e);
         }
     }
 
     /**
-     * 프로필 벡터 삭제
+     * 검색 응답 파싱 (ID와 유사도 점수 함께 추출, 점수 순서 유지)
      */
-    public void deleteProfileVector(Long profileId) {
+    private Map<Long, Double> parseScores(String responseBody) {
         try {
-            Map<String, Object> body = Map.of(
-                    "points", List.of(profileId)
-            );
-
-            String json = objectMapper.writeValueAsString(body);
+            JsonNode result = objectMapper.readTree(responseBody).get("result");
 
-            Request request = new Request.Builder()
-                    .url(String.format("%s/collections/%s/points/delete", getBaseUrl(), PROFILES_COLLECTION_NAME))
-                    .post(RequestBody.create(json, MediaType.get("application/json")))
-                    .build();
+            Map<Long, Double> similarities = new LinkedHashMap<>();
+            if (result != null && result.isArray()) {
+                for (JsonNode point : result) {
+                    JsonNode id = point.get("id");
+                    JsonNode score = point.get("score");
 
-            Response response = httpClient.newCall(request).execute();
-            
-            if (!response.isSuccessful()) {
-                String errorBody = response.body() != null ? response.body().string() : "";
-                log.error("프로필 벡터 삭제 실패: {}", errorBody);
-                throw new IllegalStateException("프로필 벡터 삭제 실패");
+                    if (id != null && id.isNumber() && score != null && score.isNumber()) {
+                        similarities.put(id.asLong(), score.asDouble());
+                    }
+                }
             }
-            
-            response.close();
-            log.debug("프로필 벡터 삭제 완료: profileId={}", profileId);
+            return similarities;
         } catch (IOException e) {
-            log.error("프로필 벡터 삭제 중 오류", e);
-            throw new IllegalStateException("프로필 벡터 삭제 실패", e);
+            log.error("벡터 검색 응답 파싱 중 오류", e);
+            throw new IllegalStateException("벡터 검색 실패", e);
         }
     }
 }
-
@@ -0,0 +1,15 @@
+package swyp.dodream.domain.recommendation.repository;
+
+import java.util.List;
+
+/**
+ * Qdrant 포인트 전체 순회 결과 한 페이지
+ *
+ * @param points     포인트 (벡터 + 필터용 payload)
+ * @param nextOffset 다음 페이지 시작 ID (마지막 페이지면 null)
+ */
+public record VectorScrollPage(
+        List<VectorPoint> points,
+        Long nextOffset
+) {
+}
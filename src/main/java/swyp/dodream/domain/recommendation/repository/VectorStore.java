@@ -0,0 +1,35 @@
+package swyp.dodream.domain.recommendation.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 추천용 벡터 검색 저장소
+ *
+ * - VectorRepository: Qdrant (원본, 모든 쓰기는 여기로)
+ * - EmbeddedVectorStore: 프로세스 내 HNSW 인덱스 (Qdrant 에서 적재한 복사본, vector.embedded.enabled=true 일 때 우선 사용)
+ */
+public interface VectorStore {
+
+    /**
+     * 필터 조건을 만족하는 게시글 중 유사도 순위 offset 번째부터 limit 개
+     * @return postId → 유사도 (순위 순서)
+     */
+    Map<Long, Double> searchSimilar(float[] queryEmbedding, int offset, int limit, PostVectorFilter filter);
+
+    /**
+     * 유사도 순위 offset 번째부터 limit 개 프로필
+     * @return userId → 유사도 (순위 순서)
+     */
+    Map<Long, Double> searchSimilarProfiles(float[] queryEmbedding, int offset, int limit);
+
+    /**
+     * 저장된 게시글 벡터 (없는 ID 는 제외)
+     */
+    Map<Long, float[]> findVectors(Collection<Long> postIds);
+
+    /**
+     * 저장된 프로필 벡터 (없는 ID 는 제외)
+     */
+    Map<Long, float[]> findProfileVectors(Collection<Long> userIds);
+}
@@ -16,8 +16,9 @@ import swyp.dodream.domain.profile.domain.Profile;
 import swyp.dodream.domain.profile.repository.ProfileRepository;
 import swyp.dodream.domain.recommendation.dto.RecommendedApplicantListResponse;
 import swyp.dodream.domain.recommendation.dto.RecommendedApplicantResponse;
-import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.recommendation.repository.VectorStore;
 import swyp.dodream.domain.recommendation.util.TextExtractor;
+import swyp.dodream.domain.recommendation.util.VectorMath;
 import swyp.dodream.domain.suggestion.repository.SuggestionRepository;
 
 import java.util.*;
@@ -38,7 +39,7 @@ public class ApplicantRecommendationService {
     private final ApplicationRepository applicationRepository;
     private final SuggestionRepository suggestionRepository;
     private final Optional<EmbeddingService> embeddingService;
-    private final Optional<VectorRepository> vectorRepository;
+    private final Optional<VectorStore> vectorStore;
 
     private static final int MAX_RECOMMENDATIONS = 3;  // 최대 추천 개수
 
@@ -89,49 +90,77 @@ public class ApplicantRecommendationService {
         }
 
         // 3. AI 추천이 가능한지 확인
-        if (embeddingService.isEmpty() || vectorRepository.isEmpty()) {
+        if (embeddingService.isEmpty() || vectorStore.isEmpty()) {
             log.warn("Embedding 서비스 또는 Vector 저장소가 활성화되지 않았습니다. 기본 정렬 반환");
             return getDefaultRecommendations(filteredApplications);
         }
 
-        // 4. 게시글 텍스트 추출
-        String postText = TextExtractor.extractFromPost(post);
-        log.info("게시글 텍스트 추출 완료 (길이: {})", postText.length());
-
         try {
-            // 5. 게시글 임베딩 생성
-            float[] postEmbedding = embeddingService.get().embed(postText);
-            log.info("게시글 임베딩 생성 완료");
-
-            // 6. 각 지원자의 유사도 계산
-            List<ApplicantSimilarity> similarities = new ArrayList<>();
-
+            // 4. 게시글 벡터 (Qdrant 에 저장된 벡터 재사용, 없으면 임베딩)
+            float[] postEmbedding = vectorStore.get().findVectors(List.of(postId)).get(postId);
+            if (postEmbedding == null) {
+                String postText = TextExtractor.extractFromPost(post);
+                log.info("게시글 텍스트 추출 완료 (길이: {})", postText.length());
+                postEmbedding = embeddingService.get().embed(postText);
+            }
+            log.info("게시글 임베딩 준비 완료");
+
+            // 5. 지원자 프로필 / 저장된 프로필 벡터 일괄 조회
+            Set<Long> applicantIds = filteredApplications.stream()
+                    .map(app -> app.getApplicant().getId())
+                    .collect(Collectors.toSet());
+            Map<Long, Profile> profiles = profileRepository.findByUserIdIn(applicantIds).stream()
+                    .collect(Collectors.toMap(Profile::getUserId, profile -> profile, (a, b) -> a));
+            Map<Long, float[]> storedProfileVectors = vectorStore.get().findProfileVectors(applicantIds);
+
+            // 6. 임베딩이 필요한 텍스트(저장된 벡터가 없는 프로필, 지원 메시지)를 모아서 한 번에 변환
+            List<String> texts = new ArrayList<>();
+            List<ApplicantVectorSource> sources = new ArrayList<>();
             for (Application application : filteredApplications) {
-                try {
-                    Profile profile = profileRepository.findByUserId(application.getApplicant().getId())
-                            .orElse(null);
-
-                    if (profile == null) {
-                        log.warn("지원자 ID {}의 프로필을 찾을 수 없습니다.", application.getApplicant().getId());
-                        continue;
-                    }
-
-                    // 프로필 + 지원 메시지 텍스트 생성
-                    String applicantText = TextExtractor.extractFromProfile(profile) + "\n지원 메시지: " + application.getMessage();
-                    float[] applicantEmbedding = embeddingService.get().embed(applicantText);
-
-                    // 코사인 유사도 계산
-                    double similarity = cosineSimilarity(postEmbedding, applicantEmbedding);
-                    log.debug("지원자 {} 유사도: {}", profile.getNickname(), similarity);
+                Long applicantId = application.getApplicant().getId();
+                Profile profile = profiles.get(applicantId);
+                if (profile == null) {
+                    log.warn("지원자 ID {}의 프로필을 찾을 수 없습니다.", applicantId);
+                    continue;
+                }
 
-                    similarities.add(new ApplicantSimilarity(application, profile, similarity));
+                float[] profileVector = storedProfileVectors.get(applicantId);
+                int profileTextIndex = -1;
+                if (profileVector == null) {
+                    profileTextIndex = texts.size();
+                    texts.add(TextExtractor.extractFromProfile(profile));
+                }
+                int messageTextIndex = -1;
+                if (application.getMessage() != null && !application.getMessage().isBlank()) {
+                    messageTextIndex = texts.size();
+                    texts.add("지원 메시지: " + application.getMessage());
+                }
+                sources.add(new ApplicantVectorSource(application, profile, profileVector, profileTextIndex, messageTextIndex));
+            }
+            List<float[]> embeddings = texts.isEmpty() ? List.of() : embeddingService.get().embedAll(texts);
+            log.info("지원자 임베딩 완료: 저장된 프로필 벡터 {}개, 새로 변환 {}개", storedProfileVectors.size(), texts.size());
 
-                } catch (Exception e) {
-                    log.error("지원자 처리 중 오류 발생: {}", e.getMessage(), e);
+            // 7. 지원자 벡터(프로필 + 지원 메시지, 같은 비중)와 게시글 벡터의 코사인 유사도
+            List<ApplicantSimilarity> similarities = new ArrayList<>();
+            for (ApplicantVectorSource source : sources) {
+                float[] profileVector = source.profileVector() != null
+                        ? source.profileVector()
+                        : embeddings.get(source.profileTextIndex());
+                if (profileVector == null) {
+                    log.warn("지원자 {} 프로필 임베딩 실패, 추천에서 제외", source.profile().getNickname());
+                    continue;
                 }
+                float[] messageVector = source.messageTextIndex() >= 0 ? embeddings.get(source.messageTextIndex()) : null;
+                float[] applicantVector = messageVector != null
+                        ? VectorMath.addNormalized(profileVector, messageVector)
+                        : profileVector;
+
+                double similarity = VectorMath.cosine(postEmbedding, applicantVector);
+                log.debug("지원자 {} 유사도: {}", source.profile().getNickname(), similarity);
+                similarities.add(new ApplicantSimilarity(source.application(), source.profile(), similarity));
             }
 
-            // 7. 유사도 기준으로 정렬하고 상위 3명 선택
+            // 8. 유사도 기준으로 정렬하고 상위 3명 선택
             List<ApplicantSimilarity> topApplicants = similarities.stream()
                     .sorted(Comparator.comparingDouble(ApplicantSimilarity::similarity).reversed())
                     .limit(MAX_RECOMMENDATIONS)
@@ -139,7 +168,7 @@ public class ApplicantRecommendationService {
 
             log.info("추천 지원자 수: {}", topApplicants.size());
 
-            // 8. 응답 생성
+            // 9. 응답 생성
             List<RecommendedApplicantResponse> recommendedApplicants = topApplicants.stream()
                     .map(applicantSim -> {
                         List<String> tags = generateTags(post, applicantSim.profile(), applicantSim.application());
@@ -264,30 +293,16 @@ public class ApplicantRecommendationService {
     }
 
     /**
-     * 코사인 유사도 계산
+     * 지원자와 유사도를 함께 저장하는 내부 클래스
      */
-    private double cosineSimilarity(float[] vectorA, float[] vectorB) {
-        if (vectorA.length != vectorB.length) {
-            throw new IllegalArgumentException("벡터 길이가 일치하지 않습니다.");
-        }
-
-        double dotProduct = 0.0;
-        double normA = 0.0;
-        double normB = 0.0;
-
-        for (int i = 0; i < vectorA.length; i++) {
-            dotProduct += vectorA[i] * vectorB[i];
-            normA += vectorA[i] * vectorA[i];
-            normB += vectorB[i] * vectorB[i];
-        }
-
-        return dotProduct / (Math.sqrt(normA) * Math.sqrt(normB));
+    private record ApplicantSimilarity(Application application, Profile profile, double similarity) {
     }
 
     /**
-     * 지원자와 유사도를 함께 저장하는 내부 클래스
+     * 지원자 벡터 재료 (저장된 프로필 벡터 또는 embedAll 결과의 위치, 없으면 -1)
      */
-    private record ApplicantSimilarity(Application application, Profile profile, double similarity) {
+    private record ApplicantVectorSource(Application application, Profile profile, float[] profileVector,
+                                         int profileTextIndex, int messageTextIndex) {
     }
 }
 
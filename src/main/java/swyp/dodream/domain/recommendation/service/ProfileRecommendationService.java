@@ -15,7 +15,8 @@ import swyp.dodream.domain.profile.domain.Profile;
 import swyp.dodream.domain.profile.repository.ProfileRepository;
 import swyp.dodream.domain.recommendation.dto.RecommendationProfileListResponse;
 import swyp.dodream.domain.recommendation.dto.RecommendationProfileResponse;
-import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.recommendation.infra.RecommendationSessionStore;
+import swyp.dodream.domain.recommendation.repository.VectorStore;
 import swyp.dodream.domain.recommendation.util.TextExtractor;
 import swyp.dodream.domain.suggestion.repository.SuggestionRepository;
 
@@ -25,6 +26,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 /**
@@ -40,11 +42,11 @@ public class ProfileRecommendationService {
     private final PostRepository postRepository;
     private final ProfileRepository profileRepository;
     private final Optional<EmbeddingService> embeddingService;
-    private final Optional<VectorRepository> vectorRepository;
+    private final Optional<VectorStore> vectorStore;
     private final MatchedRepository matchedRepository;
     private final SuggestionRepository suggestionRepository;
+    private final RecommendationSessionStore sessionStore;
 
-    private static final int DEFAULT_SIZE = 10;  // Qdrant에서 검색할 개수 (필터링 후 5개 확보를 위해 여유있게)
     private static final int FINAL_LIMIT = 5;    // 최종 반환할 개수
 
     /**
@@ -61,42 +63,37 @@ public class ProfileRecommendationService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
 
-        // 2. 임베딩 서비스 확인
-        if (embeddingService.isEmpty() || vectorRepository.isEmpty()) {
+        // 2. 벡터 검색 확인 (저장된 게시글 벡터가 없을 때만 임베딩 서비스 필요)
+        if (vectorStore.isEmpty()) {
             log.warn("벡터 DB 미사용 환경 - 추천 기능 비활성화");
             return RecommendationProfileListResponse.of(new ArrayList<>(), null, false);
         }
 
-        // 3. 게시글 → 텍스트 → 임베딩
-        String postText = TextExtractor.extractFromPost(post);
-        log.debug("게시글 텍스트: {}", postText);
+        int limit = (size != null && size > 0) ? size : FINAL_LIMIT;
 
         try {
-            float[] postEmbedding = embeddingService.get().embed(postText);
-            log.info("게시글 임베딩 생성 완료: {}차원", postEmbedding.length);
-
-            // 4. Qdrant에서 유사 프로필 검색 (Top-10, 필터링 후 최종 5개 반환)
-            Map<Long, Double> profileSimilarities = vectorRepository.get().searchSimilarProfiles(postEmbedding, DEFAULT_SIZE);
-            log.info("유사 프로필 검색 완료: {}개, profileSimilarities={}", profileSimilarities.size(), profileSimilarities);
-
-            // 5. 필터링 및 상세 정보 조회
-            List<RecommendationProfileResponse> recommendations = filterAndEnrichProfiles(
-                    profileSimilarities, post, postId
+            // 3. 저장된 게시글 벡터 (없으면 게시글 → 텍스트 → 임베딩), 세션 범위를 넘어서 검색할 때만 조회
+            AtomicReference<float[]> postEmbedding = new AtomicReference<>();
+            RecommendationSessionStore.Searcher searcher = (offset, count) -> {
+                if (postEmbedding.get() == null) {
+                    postEmbedding.set(resolvePostEmbedding(post));
+                }
+                Map<Long, Double> profileSimilarities = vectorStore.get()
+                        .searchSimilarProfiles(postEmbedding.get(), offset, count);
+                log.info("유사 프로필 검색 완료: offset={}, {}개", offset, profileSimilarities.size());
+                return profileSimilarities;
+            };
+
+            // 4. 추천 세션에서 cursor(직전 페이지 마지막 userId) 다음 페이지 조회 (필터링 및 상세 정보 조회)
+            Set<Long> existingMemberIdSet = new HashSet<>(matchedRepository.findUserIdsByPostId(postId)); // 이미 매칭된 맴버
+            RecommendationSessionStore.SessionPage<RecommendationProfileResponse> page = sessionStore.page(
+                    "profile:" + postId, cursor, limit, searcher,
+                    candidates -> filterAndEnrichProfiles(candidates, post, postId, existingMemberIdSet),
+                    RecommendationProfileResponse::userId
             );
-            log.info("필터링 후 추천 프로필: {}개", recommendations.size());
+            log.info("필터링 후 추천 프로필: {}개", page.items().size());
 
-            // 6. 커서 기반 페이징
-            int limit = (size != null && size > 0) ? size : FINAL_LIMIT;
-            List<RecommendationProfileResponse> paginated = recommendations.stream()
-                    .limit(limit)
-                    .toList();
-
-            // 7. nextCursor 계산
-            Long nextCursor = paginated.isEmpty() ? null :
-                    paginated.get(paginated.size() - 1).profileId();
-            boolean hasNext = paginated.size() == limit;
-
-            return RecommendationProfileListResponse.of(paginated, nextCursor, hasNext);
+            return RecommendationProfileListResponse.of(page.items(), page.nextCursor(), page.hasNext());
 
         } catch (Exception e) {
             log.error("프로필 추천 실패", e);
@@ -105,16 +102,32 @@ public class ProfileRecommendationService {
         }
     }
 
+    /**
+     * 게시글 쿼리 벡터: 색인된 게시글 벡터를 우선 사용, 없으면 임베딩 생성
+     */
+    private float[] resolvePostEmbedding(Post post) {
+        float[] stored = vectorStore.get().findVectors(List.of(post.getId())).get(post.getId());
+        if (stored != null) {
+            return stored;
+        }
+        if (embeddingService.isEmpty()) {
+            throw new IllegalStateException("게시글 벡터가 없고 임베딩 서비스를 사용할 수 없습니다.");
+        }
+        String postText = TextExtractor.extractFromPost(post);
+        log.debug("게시글 텍스트: {}", postText);
+        float[] embedding = embeddingService.get().embed(postText);
+        log.info("게시글 임베딩 생성 완료: {}차원", embedding.length);
+        return embedding;
+    }
+
     /**
      * 검색된 프로필들을 필터링하고 상세 정보 추가
      */
     private List<RecommendationProfileResponse> filterAndEnrichProfiles(
-            Map<Long, Double> profileSimilarities, Post post, Long postId
+            Map<Long, Double> profileSimilarities, Post post, Long postId, Set<Long> existingMemberIdSet
     ) {
         List<RecommendationProfileResponse> result = new ArrayList<>();
 
-        Set<Long> existingMemberIdSet = new HashSet<>(matchedRepository.findUserIdsByPostId(postId)); // 이미 매칭된 맴버
-
         for (Map.Entry<Long, Double> entry : profileSimilarities.entrySet()) {
             Long userId = entry.getKey();
             Double similarity = entry.getValue();
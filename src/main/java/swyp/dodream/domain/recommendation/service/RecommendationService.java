@@ -15,16 +15,21 @@ import swyp.dodream.domain.profile.domain.Profile;
 import swyp.dodream.domain.profile.repository.ProfileRepository;
 import swyp.dodream.domain.recommendation.dto.RecommendationListResponse;
 import swyp.dodream.domain.recommendation.dto.RecommendationPostResponse;
-import swyp.dodream.domain.recommendation.repository.VectorRepository;
+import swyp.dodream.domain.recommendation.infra.RecommendationSessionStore;
+import swyp.dodream.domain.recommendation.repository.PostVectorFilter;
+import swyp.dodream.domain.recommendation.repository.VectorStore;
 import swyp.dodream.domain.recommendation.util.TextExtractor;
-import swyp.dodream.domain.user.domain.User;
-import swyp.dodream.domain.user.repository.UserRepository;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 게시글 추천 서비스
@@ -39,11 +44,10 @@ public class RecommendationService {
     private final ProfileRepository profileRepository;
     private final PostRepository postRepository;
     private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
     private final Optional<EmbeddingService> embeddingService;
-    private final Optional<VectorRepository> vectorRepository;
+    private final Optional<VectorStore> vectorStore;
+    private final RecommendationSessionStore sessionStore;
 
-    private static final int DEFAULT_SIZE = 10;  // Qdrant에서 검색할 개수 (필터링 후 5개 확보를 위해 여유있게)
     private static final int FINAL_LIMIT = 5;    // 최종 반환할 개수
 
     /**
@@ -61,41 +65,45 @@ public class RecommendationService {
         Profile profile = profileRepository.findByUserId(userId)
                 .orElseThrow(() -> new EntityNotFoundException("프로필을 찾을 수 없습니다."));
 
-        // 2. 임베딩 서비스 확인
-        if (embeddingService.isEmpty() || vectorRepository.isEmpty()) {
+        // 2. 벡터 검색 확인 (저장된 프로필 벡터가 없을 때만 임베딩 서비스 필요)
+        if (vectorStore.isEmpty()) {
             log.warn("벡터 DB 미사용 환경 - 추천 기능 비활성화");
             return RecommendationListResponse.of(new ArrayList<>(), null, false);
         }
 
-        // 3. 프로필 → 텍스트 → 임베딩
-        String profileText = TextExtractor.extractFromProfile(profile);
-        log.debug("프로필 텍스트: {}", profileText);
+        // 3. 추천 조건 (모집 중/마감 전/타입/본인 글/지원한 글 조건은 payload 필터로 처리)
+        int limit = (size != null && size > 0) ? size : FINAL_LIMIT;
+        long[] appliedPostIds = findAppliedPostIds(userId);
+        PostVectorFilter filter = new PostVectorFilter(
+                PostStatus.RECRUITING.name(),
+                projectType != null && projectType != ProjectType.ALL ? projectType.name() : null,
+                LocalDateTime.now().atZone(ZoneId.systemDefault()).toEpochSecond(),
+                userId,
+                appliedPostIds
+        );
 
         try {
-            float[] userEmbedding = embeddingService.get().embed(profileText);
-            log.info("사용자 임베딩 생성 완료: {}차원", userEmbedding.length);
-
-            // 4. Qdrant에서 유사 게시글 검색 (Top-10, 필터링 후 최종 5개 반환)
-            Map<Long, Double> postSimilarities = vectorRepository.get().searchSimilar(userEmbedding, DEFAULT_SIZE);
-            log.info("유사 게시글 검색 완료: {}개, postSimilarities={}", postSimilarities.size(), postSimilarities);
-
-            // 5. 필터링 및 상세 정보 조회
-            List<RecommendationPostResponse> recommendations = filterAndEnrichPosts(
-                    postSimilarities, userId, projectType
+            // 4. 저장된 프로필 벡터 (없으면 프로필 → 텍스트 → 임베딩), 세션 범위를 넘어서 검색할 때만 조회
+            AtomicReference<float[]> userEmbedding = new AtomicReference<>();
+            RecommendationSessionStore.Searcher searcher = (offset, count) -> {
+                if (userEmbedding.get() == null) {
+                    userEmbedding.set(resolveUserEmbedding(profile));
+                }
+                Map<Long, Double> postSimilarities = vectorStore.get()
+                        .searchSimilar(userEmbedding.get(), offset, count, filter);
+                log.info("유사 게시글 검색 완료: offset={}, {}개", offset, postSimilarities.size());
+                return postSimilarities;
+            };
+
+            // 5. 추천 세션에서 cursor 다음 페이지 조회 (후보 필터링 및 상세 정보 조회)
+            String sessionKey = "post:" + userId + ":" + (projectType != null ? projectType : ProjectType.ALL);
+            RecommendationSessionStore.SessionPage<RecommendationPostResponse> page = sessionStore.page(
+                    sessionKey, cursor, limit, searcher,
+                    candidates -> filterAndEnrichPosts(candidates, userId, projectType, appliedPostIds),
+                    RecommendationPostResponse::postId
             );
 
-            // 6. 커서 기반 페이징
-            int limit = (size != null && size > 0) ? size : FINAL_LIMIT;
-            List<RecommendationPostResponse> paginated = recommendations.stream()
-                    .limit(limit)
-                    .toList();
-
-            // 7. nextCursor 계산
-            Long nextCursor = paginated.isEmpty() ? null :
-                    paginated.get(paginated.size() - 1).postId();
-            boolean hasNext = paginated.size() == limit;
-
-            return RecommendationListResponse.of(paginated, nextCursor, hasNext);
+            return RecommendationListResponse.of(page.items(), page.nextCursor(), page.hasNext());
 
         } catch (Exception e) {
             log.error("게시글 추천 실패", e);
@@ -104,29 +112,66 @@ public class RecommendationService {
         }
     }
 
+    /**
+     * 사용자 쿼리 벡터: 색인된 프로필 벡터를 우선 사용, 없으면 임베딩 생성
+     */
+    private float[] resolveUserEmbedding(Profile profile) {
+        float[] stored = vectorStore.get().findProfileVectors(List.of(profile.getUserId())).get(profile.getUserId());
+        if (stored != null) {
+            return stored;
+        }
+        if (embeddingService.isEmpty()) {
+            throw new IllegalStateException("프로필 벡터가 없고 임베딩 서비스를 사용할 수 없습니다.");
+        }
+        String profileText = TextExtractor.extractFromProfile(profile);
+        log.debug("프로필 텍스트: {}", profileText);
+        float[] embedding = embeddingService.get().embed(profileText);
+        log.info("사용자 임베딩 생성 완료: {}차원", embedding.length);
+        return embedding;
+    }
+
+    /**
+     * 유저가 지원한 모집글 ID (정렬된 long 배열, 한 번만 조회)
+     */
+    private long[] findAppliedPostIds(Long userId) {
+        return applicationRepository.findPostIdsByApplicantId(userId).stream()
+                .mapToLong(Long::longValue)
+                .distinct()
+                .sorted()
+                .toArray();
+    }
+
     /**
      * 검색된 게시글들을 필터링하고 상세 정보 추가
+     * - 후보 게시글은 한 번에 조회 (작성자/조회수 fetch join)
+     * - payload 가 DB 보다 늦게 갱신됐을 수 있으므로 같은 조건을 메모리에서 한 번 더 확인
      */
     private List<RecommendationPostResponse> filterAndEnrichPosts(
-            Map<Long, Double> postSimilarities, Long userId, ProjectType projectType
+            Map<Long, Double> postSimilarities, Long userId, ProjectType projectType, long[] appliedPostIds
     ) {
         List<RecommendationPostResponse> result = new ArrayList<>();
         log.info("필터링 시작: postSimilarities 개수={}, userId={}, projectType={}", postSimilarities.size(), userId, projectType);
+        if (postSimilarities.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Post> posts = postRepository.findAllWithOwnerByIdIn(postSimilarities.keySet()).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        LocalDateTime now = LocalDateTime.now();
 
+        // 유사도 순서 유지
         for (Map.Entry<Long, Double> entry : postSimilarities.entrySet()) {
             Long postId = entry.getKey();
             Double similarity = entry.getValue();
 
-            Post post = postRepository.findById(postId)
-                    .orElse(null);
-
+            Post post = posts.get(postId);
             if (post == null) {
                 log.debug("게시글을 찾을 수 없음: postId={}", postId);
                 continue;
             }
 
             // 필터링: 모집 중만, 본인 게시글 제외, 이미 지원한 글 제외, projectType 필터
-            if (!shouldIncludePost(post, userId, projectType)) {
+            if (!shouldIncludePost(post, userId, projectType, appliedPostIds, now)) {
                 log.debug("게시글 필터링 제외: postId={}, status={}, ownerId={}, postProjectType={}", 
                         postId, post.getStatus(), post.getOwner().getId(), post.getProjectType());
                 continue;
@@ -145,7 +190,8 @@ public class RecommendationService {
     /**
      * 게시글을 추천 목록에 포함할지 판단
      */
-    private boolean shouldIncludePost(Post post, Long userId, ProjectType projectType) {
+    private boolean shouldIncludePost(Post post, Long userId, ProjectType projectType,
+                                      long[] appliedPostIds, LocalDateTime now) {
         // 1. 삭제된 게시글인가?
         if (Boolean.TRUE.equals(post.getDeleted())) {
             log.debug("게시글 제외: 삭제됨 - postId={}", post.getId());
@@ -159,7 +205,7 @@ public class RecommendationService {
         }
 
         // 3. 마감일이 지나지 않았는가?
-        if (post.getDeadlineAt() != null && post.getDeadlineAt().isBefore(LocalDateTime.now())) {
+        if (post.getDeadlineAt() != null && post.getDeadlineAt().isBefore(now)) {
             log.debug("게시글 제외: 마감일 지남 - postId={}, deadlineAt={}", post.getId(), post.getDeadlineAt());
             return false;
         }
@@ -171,8 +217,7 @@ public class RecommendationService {
         }
 
         // 5. 이미 지원한 글인가?
-        User user = userRepository.findById(userId).orElse(null);
-        if (user != null && applicationRepository.existsByPostAndApplicant(post, user)) {
+        if (Arrays.binarySearch(appliedPostIds, post.getId()) >= 0) {
             log.debug("게시글 제외: 이미 지원함 - postId={}, userId={}", post.getId(), userId);
             return false;
         }
@@ -189,4 +234,3 @@ public class RecommendationService {
         return true;
     }
 }
-
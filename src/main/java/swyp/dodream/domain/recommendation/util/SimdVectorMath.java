@@ -0,0 +1,92 @@
+package swyp.dodream.domain.recommendation.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API(jdk.incubator.vector) 계산
+ * 모듈이 없으면 이 클래스를 로드하지 않도록 VectorMath 를 통해서만 호출
+ */
+final class SimdVectorMath {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Byte> BYTE_SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES = IntVector.SPECIES_PREFERRED;
+    // 같은 크기의 byte 벡터 하나를 int 벡터 여러 개(part)로 나눠서 넓힘 (128bit 면 16 byte → int 4개씩 4번)
+    private static final int INT_PARTS = BYTE_SPECIES.length() / INT_SPECIES.length();
+
+    private SimdVectorMath() {
+    }
+
+    /**
+     * 내적 - lane 단위 fma 누적 후 한 번에 합산, 나머지는 스칼라
+     */
+    static double dot(float[] a, float[] b) {
+        FloatVector sum = FloatVector.zero(SPECIES);
+        int i = 0;
+        int upperBound = SPECIES.loopBound(a.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            sum = FloatVector.fromArray(SPECIES, a, i).fma(FloatVector.fromArray(SPECIES, b, i), sum);
+        }
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            result += a[i] * b[i];
+        }
+        return result;
+    }
+
+    /**
+     * int8 내적 - byte 벡터를 part 별로 int lane 으로 넓혀서 곱셈 누적, 나머지는 스칼라
+     */
+    static int dot(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        IntVector sum = IntVector.zero(INT_SPECIES);
+        int i = 0;
+        int upperBound = BYTE_SPECIES.loopBound(length);
+        for (; i < upperBound; i += BYTE_SPECIES.length()) {
+            ByteVector ba = ByteVector.fromArray(BYTE_SPECIES, a, aOffset + i);
+            ByteVector bb = ByteVector.fromArray(BYTE_SPECIES, b, bOffset + i);
+            for (int part = 0; part < INT_PARTS; part++) {
+                IntVector va = (IntVector) ba.convertShape(VectorOperators.B2I, INT_SPECIES, part);
+                IntVector vb = (IntVector) bb.convertShape(VectorOperators.B2I, INT_SPECIES, part);
+                sum = va.mul(vb).add(sum);
+            }
+        }
+        int result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < length; i++) {
+            result += a[aOffset + i] * b[bOffset + i];
+        }
+        return result;
+    }
+
+    /**
+     * 코사인 유사도 - lane 단위 fma 누적 후 한 번에 합산, 나머지는 스칼라
+     */
+    static double cosine(float[] a, float[] b) {
+        FloatVector dot = FloatVector.zero(SPECIES);
+        FloatVector normA = FloatVector.zero(SPECIES);
+        FloatVector normB = FloatVector.zero(SPECIES);
+
+        int i = 0;
+        int upperBound = SPECIES.loopBound(a.length);
+        for (; i < upperBound; i += SPECIES.length()) {
+            FloatVector va = FloatVector.fromArray(SPECIES, a, i);
+            FloatVector vb = FloatVector.fromArray(SPECIES, b, i);
+            dot = va.fma(vb, dot);
+            normA = va.fma(va, normA);
+            normB = vb.fma(vb, normB);
+        }
+
+        double dotSum = dot.reduceLanes(VectorOperators.ADD);
+        double normASum = normA.reduceLanes(VectorOperators.ADD);
+        double normBSum = normB.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            dotSum += a[i] * b[i];
+            normASum += a[i] * a[i];
+            normBSum += b[i] * b[i];
+        }
+        return VectorMath.cosine(dotSum, normASum, normBSum);
+    }
+}
@@ -0,0 +1,119 @@
+package swyp.dodream.domain.recommendation.util;
+
+/**
+ * 임베딩 벡터 계산 유틸리티
+ * jdk.incubator.vector 모듈이 로드된 경우(--add-modules jdk.incubator.vector) SIMD 로 계산, 없으면 스칼라 루프
+ */
+public class VectorMath {
+
+    private static final boolean SIMD = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * SIMD 계산 사용 여부
+     */
+    public static boolean simdEnabled() {
+        return SIMD;
+    }
+
+    /**
+     * 코사인 유사도 (한쪽이 영벡터면 0)
+     */
+    public static double cosine(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 길이가 일치하지 않습니다.");
+        }
+        return SIMD ? SimdVectorMath.cosine(a, b) : scalarCosine(a, b);
+    }
+
+    /**
+     * 내적 (정규화된 벡터끼리는 코사인 유사도와 같음)
+     */
+    public static double dot(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 길이가 일치하지 않습니다.");
+        }
+        return SIMD ? SimdVectorMath.dot(a, b) : scalarDot(a, b);
+    }
+
+    /**
+     * int8 양자화 벡터 내적 (배열 안의 offset 부터 length 개)
+     */
+    public static int dot(byte[] a, int aOffset, byte[] b, int bOffset, int length) {
+        if (SIMD) {
+            return SimdVectorMath.dot(a, aOffset, b, bOffset, length);
+        }
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += a[aOffset + i] * b[bOffset + i];
+        }
+        return sum;
+    }
+
+    /**
+     * 단위 벡터로 변환한 복사본 (영벡터는 그대로)
+     */
+    public static float[] normalize(float[] vector) {
+        double norm = Math.sqrt(scalarDot(vector, vector));
+        float[] normalized = vector.clone();
+        if (norm == 0) {
+            return normalized;
+        }
+        float scale = (float) (1.0 / norm);
+        for (int i = 0; i < normalized.length; i++) {
+            normalized[i] *= scale;
+        }
+        return normalized;
+    }
+
+    /**
+     * 코사인 유사도 - 스칼라 루프 (SIMD 미사용 환경 및 벤치마크 비교용)
+     */
+    public static double scalarCosine(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 길이가 일치하지 않습니다.");
+        }
+        double dot = 0.0;
+        double normA = 0.0;
+        double normB = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return cosine(dot, normA, normB);
+    }
+
+    /**
+     * 두 벡터를 각각 단위 벡터로 만든 뒤 더한 벡터 (두 텍스트의 의미를 같은 비중으로 합칠 때)
+     */
+    public static float[] addNormalized(float[] a, float[] b) {
+        if (a.length != b.length) {
+            throw new IllegalArgumentException("벡터 길이가 일치하지 않습니다.");
+        }
+        double normA = Math.sqrt(scalarDot(a, a));
+        double normB = Math.sqrt(scalarDot(b, b));
+        float scaleA = normA == 0 ? 0f : (float) (1.0 / normA);
+        float scaleB = normB == 0 ? 0f : (float) (1.0 / normB);
+
+        float[] sum = new float[a.length];
+        for (int i = 0; i < a.length; i++) {
+            sum[i] = a[i] * scaleA + b[i] * scaleB;
+        }
+        return sum;
+    }
+
+    static double cosine(double dot, double normA, double normB) {
+        if (normA == 0 || normB == 0) {
+            return 0.0;
+        }
+        return dot / (Math.sqrt(normA) * Math.sqrt(normB));
+    }
+
+    private static double scalarDot(float[] a, float[] b) {
+        double sum = 0.0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,26 @@
+package swyp.dodream.domain.recommendation.util;
+
+/**
+ * 벡터 양자화 수준 (1차 검색용 압축 벡터, 최종 순위는 원본 float 벡터로 다시 계산)
+ *
+ * - NONE: float32 그대로 (차원당 4바이트)
+ * - INT8: 벡터별 스케일 + 차원당 1바이트 (약 4배 축소)
+ * - BINARY: 차원당 부호 1비트 (32배 축소, 재정렬 후보를 넉넉히 둬야 함)
+ */
+public enum VectorQuantization {
+
+    NONE,
+    INT8,
+    BINARY;
+
+    /**
+     * 벡터 하나의 압축 크기 (바이트)
+     */
+    public long bytesPerVector(int dimension) {
+        return switch (this) {
+            case NONE -> (long) dimension * Float.BYTES;
+            case INT8 -> dimension + Float.BYTES;
+            case BINARY -> (long) ((dimension + Long.SIZE - 1) / Long.SIZE) * Long.BYTES;
+        };
+    }
+}
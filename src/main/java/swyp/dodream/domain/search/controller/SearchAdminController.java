@@ -4,10 +4,12 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import swyp.dodream.domain.search.service.PostIndexService;
+import swyp.dodream.domain.search.dto.ReindexProgress;
+import swyp.dodream.domain.search.service.PostReindexService;
 
 /**
  * Elasticsearch 인덱스 관리 API
@@ -19,15 +21,21 @@ import swyp.dodream.domain.search.service.PostIndexService;
 @RequestMapping("/api/admin/search")
 public class SearchAdminController {
 
-    private final PostIndexService postIndexService;
+    private final PostReindexService postReindexService;
 
     @PostMapping("/reindex")
     @Operation(
             summary = "전체 게시글 재인덱싱",
-            description = "DB의 모든 게시글을 Elasticsearch에 다시 인덱싱합니다. 검색이 안 될 때 사용하세요."
+            description = "새 인덱스에 DB의 모든 게시글을 색인한 뒤 alias 를 교체합니다. 진행 중에도 검색은 기존 인덱스로 동작합니다. "
+                    + "백그라운드로 실행되며 진행 상황은 GET /reindex 로 확인하세요."
     )
-    public ResponseEntity<String> reindexAllPosts() {
-        postIndexService.reindexAllPosts();
-        return ResponseEntity.ok("재인덱싱이 완료되었습니다.");
+    public ResponseEntity<ReindexProgress> reindexAllPosts() {
+        return ResponseEntity.accepted().body(postReindexService.start());
     }
-}
\ No newline at end of file
+
+    @GetMapping("/reindex")
+    @Operation(summary = "재인덱싱 진행 상황", description = "이 서버에서 실행한 마지막 재인덱싱의 진행 상황을 반환합니다.")
+    public ResponseEntity<ReindexProgress> getReindexProgress() {
+        return ResponseEntity.ok(postReindexService.getProgress());
+    }
+}
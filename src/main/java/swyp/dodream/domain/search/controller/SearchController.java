@@ -7,15 +7,21 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-import swyp.dodream.domain.post.dto.response.PostResponse;
+import swyp.dodream.domain.post.common.ActivityMode;
+import swyp.dodream.domain.post.common.PostStatus;
+import swyp.dodream.domain.post.common.ProjectType;
+import swyp.dodream.domain.search.dto.PostSearchCondition;
+import swyp.dodream.domain.search.dto.PostSearchResponse;
 import swyp.dodream.domain.search.service.SearchService;
 import swyp.dodream.jwt.dto.UserPrincipal;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -31,25 +37,67 @@ public class SearchController {
             description = """
                 키워드를 기준으로 게시글 제목/내용을 전체 검색합니다.
                 (Elasticsearch 기반)
+                키워드 없이 필터만 지정하면 최신순으로 조회합니다.
+                다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.
                 로그인한 경우 북마크 여부도 함께 반환됩니다.
                 """
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공",
-                    content = @Content(schema = @Schema(implementation = PostResponse.class)))
+                    content = @Content(schema = @Schema(implementation = PostSearchResponse.class)))
     })
-    public List<PostResponse> search(
+    public PostSearchResponse search(
             Authentication authentication,
             @Parameter(description = "검색 키워드", example = "자바")
-            @RequestParam String keyword
+            @RequestParam(required = false) String keyword,
+
+            @Parameter(description = "모집 상태 (RECRUITING, COMPLETED)")
+            @RequestParam(required = false) PostStatus status,
+
+            @Parameter(description = "프로젝트 타입 (PROJECT, STUDY, ALL)")
+            @RequestParam(required = false) ProjectType projectType,
+
+            @Parameter(description = "활동 방식 (ONLINE, OFFLINE, HYBRID)")
+            @RequestParam(required = false) ActivityMode activityMode,
+
+            @Parameter(description = "기술 스택 (하나라도 포함)", example = "Java")
+            @RequestParam(required = false) List<String> stacks,
+
+            @Parameter(description = "모집 직군 (하나라도 포함)", example = "백엔드")
+            @RequestParam(required = false) List<String> roles,
+
+            @Parameter(description = "관심 분야 (하나라도 포함)")
+            @RequestParam(required = false) List<String> fields,
+
+            @Parameter(description = "마감일 시작 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
+
+            @Parameter(description = "마감일 끝 (yyyy-MM-dd)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineTo,
+
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+
+            @RequestParam(defaultValue = "20") Integer size
     ) {
         Long userId = null;
-        if (authentication != null) {
-            UserPrincipal userPrincipal = (UserPrincipal) authentication.getPrincipal();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal userPrincipal) {
             userId = userPrincipal.getUserId();
         }
 
-        return searchService.searchPosts(keyword, userId);
+        PostSearchCondition condition = PostSearchCondition.builder()
+                .keyword(keyword)
+                .status(status)
+                .projectType(projectType)
+                .activityMode(activityMode)
+                .stacks(stacks)
+                .roles(roles)
+                .fields(fields)
+                .deadlineFrom(deadlineFrom)
+                .deadlineTo(deadlineTo)
+                .build();
+
+        return searchService.searchPosts(condition, cursor, size, userId);
     }
 
 }
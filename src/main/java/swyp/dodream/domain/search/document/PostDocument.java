@@ -2,12 +2,27 @@ package swyp.dodream.domain.search.document;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.DateFormat;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import swyp.dodream.domain.post.domain.Post;
+import swyp.dodream.domain.profile.domain.Profile;
 
-@Document(indexName = "posts")
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 모집글 검색 문서
+ *
+ * 검색 결과 카드를 MySQL 조회 없이 그릴 수 있도록 목록에 필요한 값을 모두 비정규화해서 저장
+ * - 필터용 값(status, projectType, stacks ...)은 keyword 로 저장해서 filter 절(점수 계산 없음)로 사용
+ * - 작성자 닉네임/프로필 이미지는 표시용이라 색인하지 않음 (프로필 변경 시 ownerId 로 일괄 갱신)
+ * - 날짜는 서버 로컬 시각(Asia/Seoul) 문자열 그대로 저장하므로 범위 조건도 같은 형식으로 전달해야 함
+ * - "posts" 는 alias 이고 실제 인덱스는 posts_{버전} (인덱스 생성/교체는 PostReindexService 담당)
+ */
+@Document(indexName = PostDocument.INDEX_ALIAS, createIndex = false)
 @Setting(settingPath = "elasticsearch/post-settings.json")
 @Getter
 @NoArgsConstructor
@@ -15,7 +30,12 @@ import org.springframework.data.elasticsearch.annotations.Setting;
 @Builder
 public class PostDocument {
 
+    public static final String INDEX_ALIAS = "posts";
+
+    public static final String DATE_PATTERN = "uuuu-MM-dd'T'HH:mm:ss";
+
     @Id
+    @Field(type = FieldType.Long)
     private Long id;
 
     /**
@@ -33,4 +53,70 @@ public class PostDocument {
      */
     @Field(type = FieldType.Text, analyzer = "post_analyzer")
     private String description;
-}
\ No newline at end of file
+
+    @Field(type = FieldType.Keyword)
+    private String status;
+
+    @Field(type = FieldType.Keyword)
+    private String projectType;
+
+    @Field(type = FieldType.Keyword)
+    private String activityMode;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> stacks;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> roles;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> fields;
+
+    @Field(type = FieldType.Date, format = {}, pattern = DATE_PATTERN)
+    private LocalDateTime deadlineAt;
+
+    @Field(type = FieldType.Date, format = {}, pattern = DATE_PATTERN)
+    private LocalDateTime createdAt;
+
+    @Field(type = FieldType.Long)
+    private Long ownerId;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private String ownerNickname;
+
+    @Field(type = FieldType.Integer, index = false)
+    private Integer ownerProfileImageCode;
+
+    @Field(type = FieldType.Long)
+    private long viewCount;
+
+    /**
+     * 게시글 → 검색 문서 (연관 컬렉션을 읽으므로 트랜잭션 안에서 호출)
+     * @param ownerProfile 작성자 프로필 (없으면 null)
+     */
+    public static PostDocument from(Post post, Profile ownerProfile) {
+        return PostDocument.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .description(post.getContent())
+                .status(post.getStatus().name())
+                .projectType(post.getProjectType().name())
+                .activityMode(post.getActivityMode().name())
+                .stacks(post.getStacks().stream()
+                        .map(s -> s.getTechSkill().getName())
+                        .toList())
+                .roles(post.getRoleRequirements().stream()
+                        .map(r -> r.getRole().getName())
+                        .toList())
+                .fields(post.getFields().stream()
+                        .map(f -> f.getInterestKeyword().getName())
+                        .toList())
+                .deadlineAt(post.getDeadlineAt())
+                .createdAt(post.getCreatedAt())
+                .ownerId(post.getOwner().getId())
+                .ownerNickname(ownerProfile != null ? ownerProfile.getNickname() : null)
+                .ownerProfileImageCode(ownerProfile != null ? ownerProfile.getProfileImageCode() : null)
+                .viewCount(post.getPostView() != null ? post.getPostView().getViews() : 0L)
+                .build();
+    }
+}
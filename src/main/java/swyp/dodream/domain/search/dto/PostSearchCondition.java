@@ -0,0 +1,31 @@
+package swyp.dodream.domain.search.dto;
+
+import lombok.Builder;
+import swyp.dodream.domain.post.common.ActivityMode;
+import swyp.dodream.domain.post.common.PostStatus;
+import swyp.dodream.domain.post.common.ProjectType;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 모집글 검색 조건 (null / 빈 목록은 조건 없음)
+ * - keyword 가 없으면 필터만 적용해서 최신순
+ * - stacks / roles / fields 는 하나라도 포함되면 일치
+ */
+@Builder
+public record PostSearchCondition(
+        String keyword,
+        PostStatus status,
+        ProjectType projectType,
+        ActivityMode activityMode,
+        List<String> stacks,
+        List<String> roles,
+        List<String> fields,
+        LocalDate deadlineFrom,
+        LocalDate deadlineTo
+) {
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,14 @@
+package swyp.dodream.domain.search.dto;
+
+import lombok.Builder;
+import swyp.dodream.domain.post.dto.response.PostSummaryResponse;
+
+import java.util.List;
+
+@Builder
+public record PostSearchResponse(
+        List<PostSummaryResponse> posts,
+        String nextCursor,      // 다음 페이지 요청 시 cursor (마지막 결과의 정렬값, search_after)
+        boolean hasNext
+) {
+}
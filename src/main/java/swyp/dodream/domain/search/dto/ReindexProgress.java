@@ -0,0 +1,41 @@
+package swyp.dodream.domain.search.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 검색 재색인 진행 상황
+ *
+ * @param indexName 새로 만드는 인덱스 이름
+ * @param total     시작 시점 게시글 수 (근사치)
+ * @param indexed   복사한 문서 수
+ * @param caughtUp  복사 중 수정돼서 다시 반영한 문서 수
+ * @param error     실패 사유 (FAILED 일 때만)
+ */
+public record ReindexProgress(
+        State state,
+        String indexName,
+        long total,
+        long indexed,
+        long caughtUp,
+        int percent,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String error
+) {
+
+    public enum State {
+        IDLE,
+        COPYING,
+        CATCHING_UP,
+        SWITCHING,
+        COMPLETED,
+        FAILED
+    }
+
+    public static final ReindexProgress IDLE = new ReindexProgress(
+            State.IDLE, null, 0, 0, 0, 0, null, null, null);
+
+    public boolean running() {
+        return state == State.COPYING || state == State.CATCHING_UP || state == State.SWITCHING;
+    }
+}
@@ -0,0 +1,87 @@
+package swyp.dodream.domain.search.repository;
+
+import org.springframework.data.elasticsearch.core.SearchHits;
+import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.dto.PostSearchCondition;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PostDocumentRepository 확장 (ElasticsearchOperations 로 직접 만드는 쿼리/부분 갱신)
+ */
+public interface PostDocumentQueryRepository {
+
+    /**
+     * 조건 검색 (search_after 페이지)
+     * - 키워드가 있으면 점수순, 없으면 최신순 (동점은 id 내림차순)
+     * @param searchAfter 이전 페이지 마지막 결과의 정렬값 (첫 페이지는 null)
+     * @param size 가져올 개수
+     */
+    SearchHits<PostDocument> search(PostSearchCondition condition, List<Object> searchAfter, int size);
+
+    /**
+     * 조회수 증가분 반영 (문서당 script update, bulk 1회)
+     */
+    void incrementViewCounts(Map<Long, Long> deltas);
+
+    /**
+     * 마감일이 지난 모집중 문서를 마감 상태로 변경
+     * @return 변경된 문서 수
+     */
+    long closeExpired(LocalDateTime now);
+
+    /**
+     * 작성자의 모든 문서에 닉네임/프로필 이미지 반영
+     */
+    void updateOwner(Long ownerId, String nickname, Integer profileImageCode);
+
+    // ===== 특정 인덱스 대상 (재색인 중인 새 인덱스) =====
+
+    /**
+     * 작성자의 모든 문서에 닉네임/프로필 이미지 반영
+     */
+    void updateOwner(Long ownerId, String nickname, Integer profileImageCode, String indexName);
+
+    /**
+     * 문서 저장 (있으면 덮어씀)
+     */
+    void bulkSave(List<PostDocument> documents, String indexName);
+
+    /**
+     * 없는 문서만 저장 (op_type=create, 이미 있는 문서는 건너뜀)
+     */
+    void bulkCreate(List<PostDocument> documents, String indexName);
+
+    void deleteAllById(Collection<Long> ids, String indexName);
+
+    // ===== 인덱스 관리 =====
+
+    /**
+     * 이름(alias 또는 인덱스)이 가리키는 실제 인덱스 목록
+     * @return 없으면 빈 Set, alias 가 아니라 같은 이름의 인덱스면 그 이름 하나
+     */
+    Set<String> resolveIndices(String name);
+
+    /**
+     * 문서 클래스의 설정/매핑으로 인덱스 생성 (대량 적재용으로 refresh 를 끈 상태)
+     */
+    void createIndex(String indexName);
+
+    /**
+     * 대량 적재 종료: refresh 주기 복원 + 즉시 refresh
+     */
+    void completeBulkLoad(String indexName);
+
+    /**
+     * alias 를 새 인덱스로 원자적으로 교체
+     * - 기존 인덱스에서 alias 제거 + 새 인덱스에 추가를 한 요청으로 처리
+     * - alias 와 같은 이름의 (예전 방식) 인덱스는 같은 요청에서 삭제
+     */
+    void switchAlias(String alias, String newIndex, Set<String> oldIndices);
+
+    void deleteIndex(String indexName);
+}
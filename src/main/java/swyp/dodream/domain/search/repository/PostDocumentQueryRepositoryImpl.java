@@ -0,0 +1,309 @@
+package swyp.dodream.domain.search.repository;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.json.JsonData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchTemplate;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import swyp.dodream.domain.post.common.ProjectType;
+import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.dto.PostSearchCondition;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@RequiredArgsConstructor
+public class PostDocumentQueryRepositoryImpl implements PostDocumentQueryRepository {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern(PostDocument.DATE_PATTERN);
+
+    // 목록 카드에 필요 없는 본문은 응답에서 제외
+    private static final String[] EXCLUDED_SOURCE = {"description"};
+
+    // 대량 적재 중에는 refresh 를 끄고, 끝나면 기본 주기로 복원
+    private static final String BULK_REFRESH_INTERVAL = "-1";
+    private static final String REFRESH_INTERVAL = "1s";
+
+    private static final String INCREMENT_VIEWS_SCRIPT = "ctx._source.viewCount += params.delta";
+    private static final String SET_STATUS_SCRIPT = "ctx._source.status = params.status";
+    private static final String SET_OWNER_SCRIPT =
+            "ctx._source.ownerNickname = params.nickname; ctx._source.ownerProfileImageCode = params.imageCode";
+
+    private final ElasticsearchOperations operations;
+
+    @Override
+    public SearchHits<PostDocument> search(PostSearchCondition condition, List<Object> searchAfter, int size) {
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(toBoolQuery(condition)))
+                .withSourceFilter(new FetchSourceFilter(null, EXCLUDED_SOURCE))
+                .withTrackTotalHits(false)
+                .withMaxResults(size);
+
+        if (condition.hasKeyword()) {
+            builder.withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)));
+        } else {
+            builder.withSort(s -> s.field(f -> f.field("createdAt").order(SortOrder.Desc)));
+        }
+        builder.withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)));
+
+        if (searchAfter != null && !searchAfter.isEmpty()) {
+            builder.withSearchAfter(searchAfter);
+        }
+
+        return operations.search(builder.build(), PostDocument.class);
+    }
+
+    @Override
+    public void incrementViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<UpdateQuery> updates = deltas.entrySet().stream()
+                .map(e -> UpdateQuery.builder(String.valueOf(e.getKey()))
+                        .withScript(INCREMENT_VIEWS_SCRIPT)
+                        .withLang("painless")
+                        .withParams(Map.of("delta", e.getValue()))
+                        .withRetryOnConflict(3)
+                        .build())
+                .toList();
+        operations.bulkUpdate(updates, PostDocument.class);
+    }
+
+    @Override
+    public long closeExpired(LocalDateTime now) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.term(t -> t.field("status").value("RECRUITING")))
+                        .filter(f -> f.range(r -> r.field("deadlineAt").lt(JsonData.of(DATE_FORMAT.format(now)))))))
+                .build();
+
+        UpdateQuery update = UpdateQuery.builder(query)
+                .withScript(SET_STATUS_SCRIPT)
+                .withLang("painless")
+                .withParams(Map.of("status", "COMPLETED"))
+                .withAbortOnVersionConflict(false)
+                .build();
+        return operations.updateByQuery(update, index()).getUpdated();
+    }
+
+    @Override
+    public void updateOwner(Long ownerId, String nickname, Integer profileImageCode) {
+        updateOwner(ownerId, nickname, profileImageCode, index());
+    }
+
+    @Override
+    public void updateOwner(Long ownerId, String nickname, Integer profileImageCode, String indexName) {
+        updateOwner(ownerId, nickname, profileImageCode, IndexCoordinates.of(indexName));
+    }
+
+    @Override
+    public void bulkSave(List<PostDocument> documents, String indexName) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        operations.save(documents, IndexCoordinates.of(indexName));
+    }
+
+    @Override
+    public void bulkCreate(List<PostDocument> documents, String indexName) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getId()))
+                        .withObject(document)
+                        .withOpType(IndexQuery.OpType.CREATE)
+                        .build())
+                .toList();
+        try {
+            operations.bulkIndex(queries, IndexCoordinates.of(indexName));
+        } catch (BulkFailureException e) {
+            // 이미 있는 문서(409)는 더 최신 값이므로 건너뜀, 그 외 실패만 전달
+            boolean onlyConflicts = e.getFailedDocuments().values().stream()
+                    .allMatch(failure -> failure.status() != null && failure.status() == 409);
+            if (!onlyConflicts) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<Long> ids, String indexName) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        NativeQuery query = NativeQuery.builder()
+                .withIds(ids.stream().map(String::valueOf).toList())
+                .build();
+        operations.delete(query, PostDocument.class, IndexCoordinates.of(indexName));
+    }
+
+    @Override
+    public Set<String> resolveIndices(String name) {
+        IndexOperations indexOps = operations.indexOps(IndexCoordinates.of(name));
+        if (!indexOps.exists()) {
+            return Set.of();
+        }
+        // GET /{name}/_alias → 실제 인덱스 이름이 key
+        return Set.copyOf(indexOps.getAliasesForIndex(name).keySet());
+    }
+
+    @Override
+    public void createIndex(String indexName) {
+        IndexOperations indexOps = operations.indexOps(IndexCoordinates.of(indexName));
+        Settings settings = indexOps.createSettings(PostDocument.class).flatten();
+        settings.put("index.refresh_interval", BULK_REFRESH_INTERVAL);
+        indexOps.create(settings, indexOps.createMapping(PostDocument.class));
+    }
+
+    @Override
+    public void completeBulkLoad(String indexName) {
+        if (operations instanceof ElasticsearchTemplate template) {
+            template.execute(client -> client.indices().putSettings(r -> r
+                    .index(indexName)
+                    .settings(s -> s.refreshInterval(t -> t.time(REFRESH_INTERVAL)))));
+        }
+        operations.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    @Override
+    public void switchAlias(String alias, String newIndex, Set<String> oldIndices) {
+        AliasActions actions = new AliasActions();
+        for (String oldIndex : oldIndices) {
+            if (oldIndex.equals(alias)) {
+                // 같은 이름의 인덱스가 있으면 alias 를 만들 수 없으므로 같은 요청 안에서 삭제
+                actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                        .withIndices(oldIndex)
+                        .build()));
+            } else {
+                actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                        .withIndices(oldIndex)
+                        .withAliases(alias)
+                        .build()));
+            }
+        }
+        actions.add(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(newIndex)
+                .withAliases(alias)
+                .withIsWriteIndex(true)
+                .build()));
+        operations.indexOps(IndexCoordinates.of(newIndex)).alias(actions);
+    }
+
+    @Override
+    public void deleteIndex(String indexName) {
+        operations.indexOps(IndexCoordinates.of(indexName)).delete();
+    }
+
+    // ===== helpers =====
+
+    private IndexCoordinates index() {
+        return operations.getIndexCoordinatesFor(PostDocument.class);
+    }
+
+    private void updateOwner(Long ownerId, String nickname, Integer profileImageCode, IndexCoordinates index) {
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.term(t -> t.field("ownerId").value(ownerId)))
+                .build();
+
+        // Map.of 는 null 값을 허용하지 않음
+        Map<String, Object> params = new HashMap<>();
+        params.put("nickname", nickname);
+        params.put("imageCode", profileImageCode);
+
+        UpdateQuery update = UpdateQuery.builder(query)
+                .withScript(SET_OWNER_SCRIPT)
+                .withLang("painless")
+                .withParams(params)
+                .withAbortOnVersionConflict(false)
+                .build();
+        operations.updateByQuery(update, index);
+    }
+
+    private static BoolQuery toBoolQuery(PostSearchCondition condition) {
+        BoolQuery.Builder bool = new BoolQuery.Builder();
+
+        // 키워드: 대소문자/단어 순서 무관, 오타 허용, 동의어/형태소 분석 (post_analyzer)
+        if (condition.hasKeyword()) {
+            bool.must(m -> m.multiMatch(mm -> mm
+                    .query(condition.keyword())
+                    .fields("title^2", "description")
+                    .type(TextQueryType.BestFields)
+                    .operator(Operator.Or)
+                    .fuzziness("AUTO")
+                    .prefixLength(0)
+                    .maxExpansions(50)));
+        }
+
+        // 필터: 점수에 영향 없음, 캐시 가능
+        if (condition.status() != null) {
+            bool.filter(f -> f.term(t -> t.field("status").value(condition.status().name())));
+        }
+        if (condition.projectType() != null && condition.projectType() != ProjectType.ALL) {
+            bool.filter(f -> f.term(t -> t.field("projectType").value(condition.projectType().name())));
+        }
+        if (condition.activityMode() != null) {
+            bool.filter(f -> f.term(t -> t.field("activityMode").value(condition.activityMode().name())));
+        }
+        addTermsFilter(bool, "stacks", condition.stacks());
+        addTermsFilter(bool, "roles", condition.roles());
+        addTermsFilter(bool, "fields", condition.fields());
+
+        if (condition.deadlineFrom() != null || condition.deadlineTo() != null) {
+            bool.filter(f -> f.range(r -> {
+                r.field("deadlineAt");
+                if (condition.deadlineFrom() != null) {
+                    r.gte(JsonData.of(startOfDay(condition.deadlineFrom())));
+                }
+                if (condition.deadlineTo() != null) {
+                    r.lte(JsonData.of(endOfDay(condition.deadlineTo())));
+                }
+                return r;
+            }));
+        }
+
+        return bool.build();
+    }
+
+    private static void addTermsFilter(BoolQuery.Builder bool, String field, List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return;
+        }
+        List<FieldValue> terms = values.stream().map(FieldValue::of).toList();
+        bool.filter(f -> f.terms(t -> t.field(field).terms(v -> v.value(terms))));
+    }
+
+    private static String startOfDay(LocalDate date) {
+        return DATE_FORMAT.format(date.atStartOfDay());
+    }
+
+    private static String endOfDay(LocalDate date) {
+        return DATE_FORMAT.format(date.atTime(LocalTime.of(23, 59, 59)));
+    }
+}
@@ -6,10 +6,17 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import swyp.dodream.domain.post.domain.Post;
 import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.profile.domain.Profile;
+import swyp.dodream.domain.profile.repository.ProfileRepository;
 import swyp.dodream.domain.search.document.PostDocument;
 import swyp.dodream.domain.search.repository.PostDocumentRepository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -21,56 +28,119 @@ import java.util.stream.Collectors;
 public class PostIndexService {
 
     private final PostRepository postRepository;
+    private final ProfileRepository profileRepository;
     private final PostDocumentRepository postDocumentRepository;
 
+    /**
+     * 재색인 중인 새 인덱스 (null 이면 재색인 중 아님)
+     * 복사가 끝나기 전에 들어온 변경도 새 인덱스에 같이 반영해서 alias 교체 후 유실되지 않도록 함
+     */
+    private volatile String mirrorIndex;
+
     /**
      * 단일 게시글을 Elasticsearch에 인덱싱
      */
+    @Transactional(readOnly = true)
     public void indexPost(Post post) {
-        PostDocument document = PostDocument.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .description(post.getContent())
-                .build();
-
-        postDocumentRepository.save(document);
+        Profile ownerProfile = profileRepository.findByUserId(post.getOwner().getId()).orElse(null);
+        saveDocuments(List.of(PostDocument.from(post, ownerProfile)));
         log.debug("게시글 인덱싱 완료: ID={}, 제목={}", post.getId(), post.getTitle());
     }
 
     /**
-     * 모든 게시글을 Elasticsearch에 재인덱싱
-     * 초기 데이터 동기화 또는 인덱스 재구성 시 사용
+     * 검색 문서 저장 (재색인 중이면 새 인덱스에도 저장)
      */
-    @Transactional(readOnly = true)
-    public void reindexAllPosts() {
-        log.info("전체 게시글 재인덱싱 시작");
+    public void saveDocuments(List<PostDocument> documents) {
+        postDocumentRepository.saveAll(documents);
+        mirror(index -> postDocumentRepository.bulkSave(documents, index));
+    }
+
+    /**
+     * 검색 문서 삭제 (재색인 중이면 새 인덱스에서도 삭제)
+     */
+    public void deleteDocuments(Collection<Long> postIds) {
+        postDocumentRepository.deleteAllById(postIds);
+        mirror(index -> postDocumentRepository.deleteAllById(postIds, index));
+    }
+
+    /**
+     * 작성자 문서의 닉네임/프로필 이미지 갱신 (재색인 중이면 새 인덱스에도 반영)
+     */
+    public void updateOwner(Long ownerId, String nickname, Integer profileImageCode) {
+        postDocumentRepository.updateOwner(ownerId, nickname, profileImageCode);
+        mirror(index -> postDocumentRepository.updateOwner(ownerId, nickname, profileImageCode, index));
+    }
 
-        // 기존 인덱스 전체 삭제
-        postDocumentRepository.deleteAll();
+    /**
+     * 게시글 → 검색 문서 (작성자 프로필은 IN 쿼리 한 번으로 조회)
+     */
+    public List<PostDocument> toDocuments(List<Post> posts) {
+        List<Long> ownerIds = posts.stream()
+                .map(post -> post.getOwner().getId())
+                .distinct()
+                .toList();
 
-        // DB의 모든 게시글 조회
-        List<Post> allPosts = postRepository.findAll();
+        Map<Long, Profile> profileByUserId = profileRepository.findByUserIdIn(ownerIds).stream()
+                .collect(Collectors.toMap(Profile::getUserId, Function.identity(), (a, b) -> a));
 
-        // PostDocument로 변환
-        List<PostDocument> documents = allPosts.stream()
-                .map(post -> PostDocument.builder()
-                        .id(post.getId())
-                        .title(post.getTitle())
-                        .description(post.getContent())
-                        .build())
-                .collect(Collectors.toList());
+        return posts.stream()
+                .map(post -> PostDocument.from(post, profileByUserId.get(post.getOwner().getId())))
+                .toList();
+    }
 
-        // 일괄 저장
-        postDocumentRepository.saveAll(documents);
+    /**
+     * 조회수 증가분을 검색 문서에도 반영 (조회수는 근사치라 실패 시 다음 색인 때 맞춰짐)
+     */
+    public void incrementViewCounts(Map<Long, Long> deltas) {
+        try {
+            postDocumentRepository.incrementViewCounts(deltas);
+        } catch (Exception e) {
+            log.debug("검색 문서 조회수 반영 실패 ({}건): {}", deltas.size(), e.getMessage());
+        }
+    }
 
-        log.info("전체 게시글 재인덱싱 완료: {}건", documents.size());
+    /**
+     * 마감일이 지난 모집중 문서를 마감 상태로 변경
+     */
+    public void closeExpiredPosts(LocalDateTime now) {
+        try {
+            long closed = postDocumentRepository.closeExpired(now);
+            if (closed > 0) {
+                log.info("검색 문서 마감 처리: {}건", closed);
+            }
+        } catch (Exception e) {
+            log.warn("검색 문서 마감 처리 실패 (다음 주기에 재시도): {}", e.getMessage());
+        }
     }
 
     /**
      * 게시글 삭제 시 Elasticsearch에서도 삭제
      */
     public void deletePost(Long postId) {
-        postDocumentRepository.deleteById(postId);
+        deleteDocuments(List.of(postId));
         log.debug("게시글 인덱스 삭제: ID={}", postId);
     }
-}
\ No newline at end of file
+
+    // ===== 재색인 (PostReindexService) =====
+
+    void startMirroring(String indexName) {
+        mirrorIndex = indexName;
+    }
+
+    void stopMirroring() {
+        mirrorIndex = null;
+    }
+
+    // 새 인덱스 반영 실패는 현재 검색에 영향 없음 (다음 변경/재색인 때 맞춰짐)
+    private void mirror(Consumer<String> action) {
+        String index = mirrorIndex;
+        if (index == null) {
+            return;
+        }
+        try {
+            action.accept(index);
+        } catch (Exception e) {
+            log.warn("재색인 중인 인덱스 {} 반영 실패: {}", index, e.getMessage());
+        }
+    }
+}
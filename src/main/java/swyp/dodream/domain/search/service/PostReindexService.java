@@ -0,0 +1,336 @@
+package swyp.dodream.domain.search.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import swyp.dodream.common.exception.CustomException;
+import swyp.dodream.common.exception.ExceptionType;
+import swyp.dodream.common.redis.RedisLock;
+import swyp.dodream.domain.post.domain.Post;
+import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.dto.ReindexProgress;
+import swyp.dodream.domain.search.dto.ReindexProgress.State;
+import swyp.dodream.domain.search.repository.PostDocumentRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 무중단 검색 재색인 (alias 교체 방식)
+ *
+ * 1. 새 버전 인덱스(posts_{yyyyMMddHHmmss}) 생성 - refresh 끈 상태
+ * 2. 게시글을 id 키셋 페이지(chunk)로 읽어서 bulk 색인 - 동시 bulk 요청 수는 semaphore 로 제한 (다 차면 다음 chunk 조회를 멈춤)
+ * 3. 복사 중 수정된 게시글(updatedAt) 다시 반영, 같은 노드의 outbox 변경은 PostIndexService 가 새 인덱스에도 같이 씀
+ * 4. refresh 복원 후 복사 중 삭제된 게시글을 새 인덱스에서 제거 (다른 노드에서 처리된 삭제, 복사 chunk 가 다시 살린 문서)
+ * 5. alias 를 한 번에 교체하고 이전 인덱스 삭제
+ *
+ * 그동안 검색은 이전 인덱스로 계속 동작하고, 실패하면 새 인덱스만 지우고 끝남
+ * 다른 노드와의 중복 실행은 Redis 락(실행별 토큰)으로 막고, chunk 마다 락을 연장 (잃으면 중단)
+ */
+@Slf4j
+@Service
+public class PostReindexService {
+
+    private static final String ALIAS = PostDocument.INDEX_ALIAS;
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final String LOCK_KEY = "search:reindex:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    // 서버 간 시계 차이/트랜잭션 커밋 지연을 고려해서 시작 시각보다 조금 앞부터 따라잡기
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1);
+
+    @FunctionalInterface
+    private interface ChunkQuery {
+        List<Post> fetch(Long lastId, int limit);
+    }
+
+    @FunctionalInterface
+    private interface BulkWriter {
+        void write(List<PostDocument> documents, String indexName);
+    }
+
+    private static final class Job {
+        final String indexName;
+        final long total;
+        final String lockToken;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong indexed = new AtomicLong();
+        final AtomicLong caughtUp = new AtomicLong();
+        final AtomicLong removed = new AtomicLong();
+        volatile State state = State.COPYING;
+        volatile LocalDateTime finishedAt;
+        volatile String error;
+
+        Job(String indexName, long total, String lockToken) {
+            this.indexName = indexName;
+            this.total = total;
+            this.lockToken = lockToken;
+        }
+
+        ReindexProgress toProgress() {
+            long copied = indexed.get();
+            int percent = total == 0 ? 100 : (int) Math.min(100, copied * 100 / total);
+            return new ReindexProgress(state, indexName, total, copied, caughtUp.get(), percent,
+                    startedAt, finishedAt, error);
+        }
+    }
+
+    private final PostRepository postRepository;
+    private final PostDocumentRepository postDocumentRepository;
+    private final PostIndexService postIndexService;
+    private final RedisLock redisLock;
+    private final TransactionTemplate readOnlyTx;
+    private final int chunkSize;
+    private final int concurrency;
+
+    private final ExecutorService bulkExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("search-reindex-", 0).factory());
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    public PostReindexService(PostRepository postRepository,
+                              PostDocumentRepository postDocumentRepository,
+                              PostIndexService postIndexService,
+                              RedisLock redisLock,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${search.reindex.chunk-size:500}") int chunkSize,
+                              @Value("${search.reindex.concurrency:4}") int concurrency) {
+        this.postRepository = postRepository;
+        this.postDocumentRepository = postDocumentRepository;
+        this.postIndexService = postIndexService;
+        this.redisLock = redisLock;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        bulkExecutor.shutdownNow();
+    }
+
+    /**
+     * alias 가 없으면 빈 버전 인덱스를 만들어서 연결 (기동 시, 기존 인덱스는 건드리지 않음)
+     */
+    public void ensureIndex() {
+        if (!postDocumentRepository.resolveIndices(ALIAS).isEmpty()) {
+            return;
+        }
+        String indexName = newIndexName();
+        postDocumentRepository.createIndex(indexName);
+        postDocumentRepository.completeBulkLoad(indexName);
+        postDocumentRepository.switchAlias(ALIAS, indexName, Set.of());
+        log.info("[Reindex] 검색 인덱스 생성: {} → {}", ALIAS, indexName);
+    }
+
+    /**
+     * 재색인 시작 (백그라운드 실행, 이미 진행 중이면 그 진행 상황 반환)
+     */
+    public synchronized ReindexProgress start() {
+        Job running = current.get();
+        if (running != null && running.toProgress().running()) {
+            return running.toProgress();
+        }
+        String lockToken = tryLock();
+        if (lockToken == null) {
+            throw new CustomException(ExceptionType.CONFLICT_DUPLICATE, "다른 서버에서 재색인이 진행 중입니다.");
+        }
+
+        Job job;
+        try {
+            job = new Job(newIndexName(), postRepository.count(), lockToken);
+        } catch (RuntimeException e) {
+            unlock(lockToken);
+            throw e;
+        }
+        current.set(job);
+        Thread.ofVirtual().name("search-reindex").start(() -> run(job));
+        return job.toProgress();
+    }
+
+    public ReindexProgress getProgress() {
+        Job job = current.get();
+        return job != null ? job.toProgress() : ReindexProgress.IDLE;
+    }
+
+    // ===== helpers =====
+
+    private void run(Job job) {
+        log.info("[Reindex] 시작: {} (게시글 약 {}건)", job.indexName, job.total);
+        Set<String> oldIndices = Set.of();
+        boolean switched = false;
+        try {
+            oldIndices = postDocumentRepository.resolveIndices(ALIAS);
+            postDocumentRepository.createIndex(job.indexName);
+            postIndexService.startMirroring(job.indexName);
+
+            // 1. 전체 복사 - 이미 있는 문서(복사 중 outbox 로 먼저 들어온 최신 값)는 덮어쓰지 않음
+            copy(job, job.indexed,
+                    (lastId, limit) -> postRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, limit)),
+                    postDocumentRepository::bulkCreate);
+
+            // 2. 복사 중 수정된 게시글 (다른 노드에서 처리된 변경 포함)
+            job.state = State.CATCHING_UP;
+            LocalDateTime since = job.startedAt.minus(CATCH_UP_MARGIN);
+            copy(job, job.caughtUp,
+                    (lastId, limit) -> postRepository.findByUpdatedAtGreaterThanEqualAndIdGreaterThanOrderByIdAsc(
+                            since, lastId, PageRequest.of(0, limit)),
+                    postDocumentRepository::bulkSave);
+
+            // 3. refresh 복원 (delete by query 가 복사한 문서를 볼 수 있도록) + 복사 중 삭제된 게시글 제거
+            job.state = State.SWITCHING;
+            postDocumentRepository.completeBulkLoad(job.indexName);
+            removeDeleted(job, since);
+
+            // 4. alias 교체 + 이전 인덱스 삭제
+            renewLock(job);
+            postDocumentRepository.switchAlias(ALIAS, job.indexName, oldIndices);
+            switched = true;
+            for (String oldIndex : oldIndices) {
+                if (!oldIndex.equals(ALIAS)) {
+                    deleteIndexQuietly(oldIndex);
+                }
+            }
+
+            job.state = State.COMPLETED;
+            log.info("[Reindex] 완료: {} (복사 {}건, 따라잡기 {}건, 삭제 {}건, 이전 인덱스 {})",
+                    job.indexName, job.indexed.get(), job.caughtUp.get(), job.removed.get(), oldIndices);
+        } catch (Exception e) {
+            job.error = e.getMessage();
+            job.state = State.FAILED;
+            log.error("[Reindex] 실패: {}", job.indexName, e);
+            if (!switched) {
+                deleteIndexQuietly(job.indexName);
+            }
+        } finally {
+            postIndexService.stopMirroring();
+            job.finishedAt = LocalDateTime.now();
+            unlock(job.lockToken);
+        }
+    }
+
+    /**
+     * 키셋 페이지로 읽어서 bulk 색인 (동시 bulk 요청이 concurrency 개면 다음 chunk 조회 대기)
+     */
+    private void copy(Job job, AtomicLong counter, ChunkQuery query, BulkWriter writer)
+            throws InterruptedException {
+        String indexName = job.indexName;
+        Semaphore permits = new Semaphore(concurrency);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        long lastId = 0L;
+
+        while (failure.get() == null) {
+            renewLock(job);
+            long after = lastId;
+            List<PostDocument> documents = readOnlyTx.execute(status ->
+                    postIndexService.toDocuments(query.fetch(after, chunkSize)));
+            if (documents == null || documents.isEmpty()) {
+                break;
+            }
+            lastId = documents.get(documents.size() - 1).getId();
+
+            permits.acquire();
+            bulkExecutor.execute(() -> {
+                try {
+                    writer.write(documents, indexName);
+                    counter.addAndGet(documents.size());
+                } catch (Exception e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    permits.release();
+                }
+            });
+
+            if (documents.size() < chunkSize) {
+                break;
+            }
+        }
+
+        // 남은 bulk 요청 완료 대기
+        permits.acquire(concurrency);
+        permits.release(concurrency);
+
+        if (failure.get() != null) {
+            throw new IllegalStateException("bulk 색인 실패: " + failure.get().getMessage(), failure.get());
+        }
+    }
+
+    /**
+     * since 이후 소프트 삭제된 게시글을 새 인덱스에서 제거 (삭제도 updated_at 을 갱신함)
+     * 복사 chunk 를 읽은 뒤 삭제된 게시글, 다른 노드의 outbox 가 이전 인덱스에만 반영한 삭제를 정리
+     */
+    private void removeDeleted(Job job, LocalDateTime since) {
+        long lastId = 0L;
+        while (true) {
+            renewLock(job);
+            List<Long> ids = postRepository.findDeletedIdsUpdatedSince(since, lastId, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            postDocumentRepository.deleteAllById(ids, job.indexName);
+            job.removed.addAndGet(ids.size());
+            lastId = ids.get(ids.size() - 1);
+            if (ids.size() < chunkSize) {
+                break;
+            }
+        }
+    }
+
+    private void deleteIndexQuietly(String indexName) {
+        try {
+            postDocumentRepository.deleteIndex(indexName);
+        } catch (Exception e) {
+            log.warn("[Reindex] 인덱스 {} 삭제 실패 (수동 정리 필요): {}", indexName, e.getMessage());
+        }
+    }
+
+    private static String newIndexName() {
+        return ALIAS + "_" + VERSION_FORMAT.format(LocalDateTime.now());
+    }
+
+    // Redis 장애 시에는 락 없이 진행 (같은 노드 중복 실행은 current 로 막힘), 다른 노드가 실행 중이면 null
+    private String tryLock() {
+        try {
+            return redisLock.tryLock(LOCK_KEY, LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("[Reindex] 락 획득 실패, 락 없이 진행: {}", e.getMessage());
+            return RedisLock.NO_LOCK;
+        }
+    }
+
+    // TTL 안에 연장 못 해서 다른 노드가 가져갔으면 중단 (Redis 장애 시에는 그대로 진행)
+    private void renewLock(Job job) {
+        boolean renewed;
+        try {
+            renewed = redisLock.renew(LOCK_KEY, job.lockToken, LOCK_TTL);
+        } catch (Exception e) {
+            log.warn("[Reindex] 락 연장 실패, 계속 진행: {}", e.getMessage());
+            return;
+        }
+        if (!renewed) {
+            throw new IllegalStateException("재색인 락을 잃었습니다. 다른 서버에서 재색인이 시작되었을 수 있습니다.");
+        }
+    }
+
+    // TTL 이 지나 다른 노드가 가져간 락은 지우지 않음
+    private void unlock(String token) {
+        try {
+            redisLock.unlock(LOCK_KEY, token);
+        } catch (Exception e) {
+            log.warn("[Reindex] 락 해제 실패 (TTL 후 만료): {}", e.getMessage());
+        }
+    }
+}
@@ -1,29 +1,39 @@
 package swyp.dodream.domain.search.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
+import swyp.dodream.common.exception.CustomException;
+import swyp.dodream.common.exception.ExceptionType;
 import swyp.dodream.domain.bookmark.repository.BookmarkRepository;
-import swyp.dodream.domain.post.domain.Post;
-import swyp.dodream.domain.post.dto.response.PostResponse;
-import swyp.dodream.domain.post.repository.PostRepository;
-import swyp.dodream.domain.profile.domain.Profile;
-import swyp.dodream.domain.profile.repository.ProfileRepository;
+import swyp.dodream.domain.post.dto.response.PostSummaryResponse;
+import swyp.dodream.domain.post.service.PostViewCounter;
 import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.dto.PostSearchCondition;
+import swyp.dodream.domain.search.dto.PostSearchResponse;
 import swyp.dodream.domain.search.repository.PostDocumentRepository;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class SearchService {
 
+    private static final int MAX_PAGE_SIZE = 50;
+
     private final PostDocumentRepository postDocumentRepository;
-    private final PostRepository postRepository;
-    private final ProfileRepository profileRepository;
     private final BookmarkRepository bookmarkRepository;
+    private final PostViewCounter postViewCounter;
+    private final ObjectMapper objectMapper;
 
     /**
      * 게시글 검색
@@ -31,78 +41,85 @@ public class SearchService {
      * - 단어 순서 무관
      * - 오타 허용 (AUTO fuzziness)
      * - 한글/영어 모두 지원
+     * - 상태/타입/기술 스택/직군/분야/마감일 필터는 Elasticsearch filter 절로 처리
+     * - search_after 페이지 (cursor 는 이전 응답의 nextCursor)
+     * - 결과 카드는 검색 문서로 바로 만들고, DB 는 로그인 사용자의 북마크 여부만 한 번에 조회
      */
-    public List<PostResponse> searchPosts(String keyword, Long userId) {
-        log.debug("검색 키워드: {}, 사용자 ID: {}", keyword, userId);
+    public PostSearchResponse searchPosts(PostSearchCondition condition, String cursor, int size, Long userId) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        log.debug("검색 조건: {}, 사용자 ID: {}", condition, userId);
 
-        // 1. Elasticsearch에서 검색
-        List<PostDocument> docs = postDocumentRepository.searchByKeyword(keyword);
+        // 다음 페이지 여부 확인용으로 1건 더 조회
+        SearchHits<PostDocument> hits = postDocumentRepository.search(condition, decodeCursor(cursor), pageSize + 1);
+        List<SearchHit<PostDocument>> page = hits.getSearchHits();
 
-        log.debug("Elasticsearch 검색 결과: {}건", docs.size());
+        boolean hasNext = page.size() > pageSize;
+        if (hasNext) {
+            page = page.subList(0, pageSize);
+        }
 
-        // 2. DB에서 전체 정보 조회 및 응답 변환
-        return docs.stream()
-                .map(doc -> postRepository.findById(doc.getId())
-                        .orElse(null))
-                .filter(post -> post != null) // null 필터링
-                .map(post -> toPostResponse(post, userId))
-                .collect(Collectors.toList());
-    }
+        List<PostDocument> docs = page.stream().map(SearchHit::getContent).toList();
+        Set<Long> bookmarkedIds = findBookmarkedIds(userId, docs);
 
-    /**
-     * 엄격한 검색 (모든 키워드가 포함되어야 함)
-     */
-    public List<PostResponse> searchPostsStrict(String keyword, Long userId) {
-        List<PostDocument> docs = postDocumentRepository.searchByKeywordStrict(keyword);
+        List<PostSummaryResponse> posts = docs.stream()
+                .map(doc -> toSummary(doc, bookmarkedIds.contains(doc.getId())))
+                .toList();
 
-        return docs.stream()
-                .map(doc -> postRepository.findById(doc.getId())
-                        .orElse(null))
-                .filter(post -> post != null)
-                .map(post -> toPostResponse(post, userId))
-                .collect(Collectors.toList());
+        return PostSearchResponse.builder()
+                .posts(posts)
+                .nextCursor(hasNext ? encodeCursor(page.get(page.size() - 1).getSortValues()) : null)
+                .hasNext(hasNext)
+                .build();
     }
 
-    /**
-     * 오타에 더 관대한 검색
-     */
-    public List<PostResponse> searchPostsWithHighFuzziness(String keyword, Long userId) {
-        List<PostDocument> docs = postDocumentRepository.searchWithHighFuzziness(keyword);
-
-        return docs.stream()
-                .map(doc -> postRepository.findById(doc.getId())
-                        .orElse(null))
-                .filter(post -> post != null)
-                .map(post -> toPostResponse(post, userId))
-                .collect(Collectors.toList());
+    private Set<Long> findBookmarkedIds(Long userId, List<PostDocument> docs) {
+        if (userId == null || docs.isEmpty()) {
+            return Set.of();
+        }
+        List<Long> postIds = docs.stream().map(PostDocument::getId).toList();
+        return new HashSet<>(bookmarkRepository.findPostIdsByUserIdAndPostIdIn(userId, postIds));
     }
 
-    private PostResponse toPostResponse(Post post, Long userId) {
-        boolean isOwner = userId != null && post.getOwner().getId().equals(userId);
-
-        Profile profile = profileRepository.findByUserId(post.getOwner().getId())
-                .orElse(null);
-
-        String ownerNickname = profile != null ? profile.getNickname() : null;
-
-        Integer profileImageCode = profile != null ? profile.getProfileImageCode() : null;
-        String ownerProfileImageUrl = profileImageCode != null
-                ? profileImageCode.toString()
-                : null;
+    private PostSummaryResponse toSummary(PostDocument doc, boolean isBookmarked) {
+        return PostSummaryResponse.builder()
+                .id(doc.getId())
+                .title(doc.getTitle())
+                .projectType(doc.getProjectType())
+                .roles(doc.getRoles())
+                .techs(doc.getStacks())
+                .interests(doc.getFields())
+                .author(doc.getOwnerNickname())
+                .authorProfileImageCode(doc.getOwnerProfileImageCode())
+                // 색인된 조회수 + 아직 반영되지 않은 누적분
+                .viewCount(doc.getViewCount() + postViewCounter.pendingCount(doc.getId()))
+                .deadline(doc.getDeadlineAt())
+                .status(doc.getStatus())
+                .activityMode(doc.getActivityMode())
+                .createdAt(doc.getCreatedAt())
+                .isBookmarked(isBookmarked)
+                .build();
+    }
 
-        Boolean isBookmarked = false;
-        if (userId != null) {
-            isBookmarked = bookmarkRepository.existsByUserIdAndPostId(userId, post.getId());
+    // cursor = base64url(JSON 정렬값 배열)
+    private String encodeCursor(List<Object> sortValues) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(sortValues);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("검색 cursor 생성 실패", e);
         }
+    }
 
-        return PostResponse.from(
-                post,
-                isOwner,
-                ownerNickname,
-                ownerProfileImageUrl,
-                null,
-                null,
-                isBookmarked
-        );
+    private List<Object> decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return objectMapper.readValue(json, new TypeReference<List<Object>>() {
+            });
+        } catch (Exception e) {
+            throw new CustomException(ExceptionType.BAD_REQUEST_INVALID, "유효하지 않은 cursor 입니다.");
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,7 @@
 package swyp.dodream.jwt.filter;
 
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -12,6 +14,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import swyp.dodream.jwt.dto.UserPrincipal;
+import swyp.dodream.jwt.service.JwtAuthenticator;
 import swyp.dodream.jwt.util.JwtUtil;
 import swyp.dodream.login.dto.TokenResponse;
 import swyp.dodream.login.service.AuthService;
@@ -23,10 +26,12 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final JwtAuthenticator jwtAuthenticator;
     private final AuthService authService;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, AuthService authService) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, JwtAuthenticator jwtAuthenticator, AuthService authService) {
         this.jwtUtil = jwtUtil;
+        this.jwtAuthenticator = jwtAuthenticator;
         this.authService = authService;
     }
 
@@ -45,12 +50,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = resolveToken(request);
 
         if (token != null) {
-            // Access Token이 유효한 경우
-            if (jwtUtil.validateToken(token)) {
-                setAuthentication(token);
-            } 
+            try {
+                // Access Token이 유효한 경우 (파싱/검증 1번, 캐시 적중 시 0번)
+                setAuthentication(jwtAuthenticator.authenticate(token));
+            }
             // Access Token이 만료된 경우 자동 재발급 시도
-            else if (jwtUtil.isTokenExpired(token)) {
+            catch (ExpiredJwtException e) {
                 log.info("Access Token 만료 감지, 자동 재발급 시도");
                 
                 String refreshToken = getRefreshTokenFromCookie(request);
@@ -67,42 +72,35 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                         log.info("Access Token 자동 재발급 완료");
                         
                         // 새 토큰으로 인증 설정
-                        setAuthentication(newAccessToken);
-                    } catch (Exception e) {
-                        log.warn("자동 재발급 실패: {}", e.getMessage());
+                        setAuthentication(jwtAuthenticator.authenticate(newAccessToken));
+                    } catch (Exception ex) {
+                        log.warn("자동 재발급 실패: {}", ex.getMessage());
                         // 재발급 실패 시 그냥 진행 (인증 실패로 처리됨)
                     }
                 } else {
                     log.warn("Refresh Token이 없거나 유효하지 않음");
                 }
             }
+            // 유효하지 않은 토큰은 인증 없이 진행 (인증 필요한 API 는 거부됨)
+            catch (JwtException | IllegalArgumentException e) {
+                log.debug("유효하지 않은 Access Token: {}", e.getMessage());
+            }
         }
 
         filterChain.doFilter(request, response);
     }
 
     // 인증 설정 헬퍼 메서드
-    private void setAuthentication(String token) {
-        try {
-            Long userId = jwtUtil.getUserIdFromToken(token);
-            String email = jwtUtil.getEmailFromToken(token);
-            String name = jwtUtil.getNameFromToken(token);
-
-            // UserPrincipal 객체 생성 (userId, email, name 포함)
-            UserPrincipal userPrincipal = new UserPrincipal(userId, email, name);
-
-            // Spring Security 컨텍스트에 인증 정보 저장
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            userPrincipal,
-                            null,
-                            List.of(new SimpleGrantedAuthority("ROLE_USER"))
-                    );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } catch (Exception e) {
-            log.error("인증 설정 실패: {}", e.getMessage());
-        }
+    private void setAuthentication(UserPrincipal userPrincipal) {
+        // Spring Security 컨텍스트에 인증 정보 저장
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(
+                        userPrincipal,
+                        null,
+                        List.of(new SimpleGrantedAuthority("ROLE_USER"))
+                );
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
     // 쿠키에서 Refresh Token 추출
@@ -0,0 +1,115 @@
+package swyp.dodream.jwt.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import swyp.dodream.jwt.dto.UserPrincipal;
+import swyp.dodream.jwt.util.JwtUtil;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token → UserPrincipal 인증 (HTTP 필터, STOMP 인터셉터 공용)
+ *
+ * - 토큰당 파싱/서명 검증 1번으로 userId, email, name 을 모두 꺼냄
+ * - 검증된 결과는 sha256(토큰) 키로 캐시, 항목은 토큰 만료 시각(exp)에 같이 만료
+ *   (원문 토큰은 메모리에 남기지 않음)
+ */
+@Component
+public class JwtAuthenticator {
+
+    /**
+     * 검증된 토큰 (사용자 + 만료 시각)
+     */
+    public record VerifiedToken(UserPrincipal principal, long expiresAtMillis) {
+    }
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> cache;
+
+    public JwtAuthenticator(JwtUtil jwtUtil,
+                            @Value("${jwt.principal-cache.max-size:10000}") long maxSize) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken entry, long currentTime) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken entry, long currentTime, long currentDuration) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 토큰 인증
+     * @throws ExpiredJwtException 만료된 토큰 (재발급 대상)
+     * @throws JwtException 유효하지 않은 토큰
+     * @throws IllegalArgumentException 빈 토큰 / subject 가 숫자가 아닌 토큰
+     */
+    public UserPrincipal authenticate(String token) {
+        return verify(token).principal();
+    }
+
+    /**
+     * 토큰 인증 + 만료 시각 (STOMP 세션처럼 토큰 만료까지 인증을 유지하는 경우)
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException 유효하지 않은 토큰
+     * @throws IllegalArgumentException 빈 토큰 / subject 가 숫자가 아닌 토큰
+     */
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims = jwtUtil.parseClaims(token);
+        UserPrincipal principal = new UserPrincipal(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("name", String.class)
+        );
+
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return new VerifiedToken(principal, Long.MAX_VALUE);
+        }
+        VerifiedToken verified = new VerifiedToken(principal, expiration.getTime());
+        cache.put(key, verified);
+        return verified;
+    }
+
+    private static long remainingNanos(VerifiedToken entry) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(entry.expiresAtMillis() - System.currentTimeMillis(), 0L));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Date;
 public class JwtUtil {
 
     private final SecretKey secretKey;
+    private final JwtParser parser; // 불변 + thread-safe, 요청마다 새로 만들지 않음
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -21,6 +22,7 @@ public class JwtUtil {
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
@@ -111,13 +113,18 @@ public class JwtUtil {
         return (int) (refreshTokenExpiration / 1000);
     }
 
+    /**
+     * 서명 검증 + Claims 추출 (한 번만 파싱해서 필요한 값을 모두 꺼낼 때 사용)
+     * @throws ExpiredJwtException 만료된 토큰
+     * @throws JwtException 서명 불일치 등 유효하지 않은 토큰
+     */
+    public Claims parseClaims(String token) {
+        return getClaims(token);
+    }
+
     // Claims 추출
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
 
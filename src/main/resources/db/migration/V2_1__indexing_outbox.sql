@@ -0,0 +1,30 @@
+-- -- =========================================================
+-- -- 색인/임베딩 outbox
+-- -- 1) 게시글/프로필 변경 트랜잭션에서 함께 기록, 처리 성공 시 삭제
+-- -- 2) 워커 조회/선점용 (status, next_attempt_at), (status, claimed_at), claim_token 인덱스
+-- -- MySQL 8.x
+-- -- =========================================================
+CREATE TABLE indexing_outbox
+(
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    target          VARCHAR(20)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    action          VARCHAR(20)  NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claim_token     VARCHAR(36)  NULL,
+    claimed_at      DATETIME(6)  NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    updated_at      DATETIME(6)  NULL
+);
+
+CREATE INDEX idx_indexing_outbox_status_next
+    ON indexing_outbox (status, next_attempt_at);
+
+CREATE INDEX idx_indexing_outbox_status_claimed
+    ON indexing_outbox (status, claimed_at);
+
+CREATE INDEX idx_indexing_outbox_claim_token
+    ON indexing_outbox (claim_token);
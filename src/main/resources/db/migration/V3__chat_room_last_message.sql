@@ -0,0 +1,32 @@
+-- -- =========================================================
+-- -- 채팅 목록 / 채팅 내역 조회 개선
+-- -- MySQL 8.x
+-- -- =========================================================
+--
+-- -- =======================
+-- -- chat_message: 채팅 내역 keyset 페이지네이션 (room_id, id)
+-- -- =======================
+CREATE INDEX idx_chat_message_room_id ON chat_message (room_id, id);
+
+-- -- =======================
+-- -- chat_room: 마지막 메시지 비정규화 (채팅 목록에서 chat_message 재조회 제거)
+-- -- =======================
+ALTER TABLE chat_room
+    ADD COLUMN last_message_id   VARCHAR(255) NULL,
+    ADD COLUMN last_message_body VARCHAR(500) NULL,
+    ADD COLUMN last_message_at   DATETIME(6)  NULL;
+
+-- 기존 채팅방 마지막 메시지 채우기 (id 는 snowflake 문자열이므로 숫자로 비교)
+UPDATE chat_room r
+    JOIN (
+        SELECT cm.room_id, cm.id, cm.body, cm.created_at
+        FROM chat_message cm
+                 JOIN (
+            SELECT room_id, MAX(CAST(id AS UNSIGNED)) AS max_id
+            FROM chat_message
+            GROUP BY room_id
+        ) latest ON latest.room_id = cm.room_id AND CAST(cm.id AS UNSIGNED) = latest.max_id
+    ) last_message ON last_message.room_id = r.id
+SET r.last_message_id   = last_message.id,
+    r.last_message_body = last_message.body,
+    r.last_message_at   = last_message.created_at;
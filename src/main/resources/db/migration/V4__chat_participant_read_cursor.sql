@@ -0,0 +1,47 @@
+-- -- =========================================================
+-- -- 채팅 읽음 처리: 메시지별 read_status → 참여자별 읽음 기준(last_read_message_id)
+-- -- MySQL 8.x
+-- -- =========================================================
+--
+-- -- =======================
+-- -- chat_participant: 읽음 기준 컬럼 추가
+-- -- =======================
+ALTER TABLE chat_participant
+    ADD COLUMN last_read_message_id VARCHAR(255) NULL;
+
+-- -- =======================
+-- -- read_status → 읽음 기준 backfill (id 는 snowflake 문자열이므로 숫자로 비교)
+-- -- =======================
+
+-- 1) 안 읽은 메시지가 있는 참여자: 가장 오래된 안 읽은 메시지 직전 메시지까지 읽음
+UPDATE chat_participant cp
+    JOIN (
+        SELECT rs.chat_room_id, rs.user_id, MIN(CAST(rs.chat_message_id AS UNSIGNED)) AS first_unread_id
+        FROM read_status rs
+        WHERE rs.is_read = FALSE
+        GROUP BY rs.chat_room_id, rs.user_id
+    ) unread ON unread.chat_room_id = cp.room_id AND unread.user_id = cp.user_id
+SET cp.last_read_message_id = (
+    SELECT CAST(MAX(CAST(cm.id AS UNSIGNED)) AS CHAR)
+    FROM chat_message cm
+    WHERE cm.room_id = cp.room_id
+      AND CAST(cm.id AS UNSIGNED) < unread.first_unread_id
+);
+
+-- 2) 안 읽은 메시지가 없는 참여자: 마지막 메시지까지 읽음 (V3 의 chat_room.last_message_id 사용)
+UPDATE chat_participant cp
+    JOIN chat_room r ON r.id = cp.room_id
+SET cp.last_read_message_id = r.last_message_id
+WHERE NOT EXISTS (
+    SELECT 1
+    FROM read_status rs
+    WHERE rs.chat_room_id = cp.room_id
+      AND rs.user_id = cp.user_id
+      AND rs.is_read = FALSE
+);
+
+-- -- =======================
+-- -- read_status 는 더 이상 사용하지 않음
+-- -- 배포 후 안 읽은 수가 맞는지 확인한 뒤 삭제
+-- -- =======================
+-- DROP TABLE read_status;
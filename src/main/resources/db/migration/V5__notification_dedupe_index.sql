@@ -0,0 +1,7 @@
+-- -- =========================================================
+-- -- 알림 중복 확인 인덱스
+-- -- 일괄 알림(북마크 마감/피드백 활성화)의 anti-join 과 existsBy... 중복 확인용
+-- -- MySQL 8.x
+-- -- =========================================================
+CREATE INDEX idx_notifications_receiver_type_post
+    ON notifications (receiver_id, type, target_post_id);
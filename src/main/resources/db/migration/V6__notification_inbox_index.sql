@@ -0,0 +1,7 @@
+-- -- =========================================================
+-- -- 알림함 페이지 인덱스
+-- -- 유저별 최신순 keyset 페이지 (receiver_id = ? AND id < ? ORDER BY id DESC)
+-- -- MySQL 8.x
+-- -- =========================================================
+CREATE INDEX idx_notifications_receiver_id
+    ON notifications (receiver_id, id DESC);
@@ -0,0 +1,22 @@
+-- -- =========================================================
+-- -- 검색/벡터 증분 동기화
+-- -- 1) 저장소별 체크포인트 (대상 × 저장소, (updated_at, id) 워터마크)
+-- -- 2) 변경 조회용 (updated_at, id) 인덱스
+-- -- MySQL 8.x
+-- -- =========================================================
+CREATE TABLE index_sync_checkpoint
+(
+    id           VARCHAR(50) NOT NULL PRIMARY KEY,
+    target       VARCHAR(20) NOT NULL,
+    sink         VARCHAR(20) NOT NULL,
+    watermark_at DATETIME(6) NOT NULL,
+    last_id      BIGINT      NOT NULL,
+    synced_at    DATETIME(6) NULL,
+    last_error   VARCHAR(500) NULL
+);
+
+CREATE INDEX idx_post_updated_at_id
+    ON post (updated_at, id);
+
+CREATE INDEX idx_profiles_updated_at_user_id
+    ON profiles (updated_at, user_id);
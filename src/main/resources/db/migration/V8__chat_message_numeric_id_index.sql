@@ -0,0 +1,8 @@
+-- -- =========================================================
+-- -- 채팅 내역 숫자 id 순서 인덱스
+-- -- id 는 snowflake 문자열이라 자릿수가 바뀌면(17 → 18자리) 문자열 순서 ≠ 생성 순서
+-- -- 조회는 CAST(id AS SIGNED) 로 정렬/비교하므로 같은 식으로 함수 인덱스 생성 (MySQL 8.0.13+)
+-- -- MySQL 8.x
+-- -- =========================================================
+CREATE INDEX idx_chat_message_room_numeric_id
+    ON chat_message (room_id, (CAST(id AS SIGNED)));
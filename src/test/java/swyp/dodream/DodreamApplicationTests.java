@@ -3,6 +3,7 @@ package swyp.dodream;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.context.ActiveProfiles;
@@ -24,6 +25,10 @@ class DodreamApplicationTests {
     @MockBean
     private PostDocumentRepository postDocumentRepository;
 
+    // 검색 Repository 커스텀 구현(PostDocumentQueryRepositoryImpl)이 쓰는 ElasticsearchOperations 도 Mock 으로 대체
+    @MockBean
+    private ElasticsearchOperations elasticsearchOperations;
+
     // CI/CD 환경에서 실제 Redis 연결을 시도하지 않도록 Mock 객체로 대체하기
     @MockBean
     private RedisTemplate<String, String> redisTemplate;
@@ -0,0 +1,100 @@
+package swyp.dodream.domain.chat.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+import swyp.dodream.domain.chat.domain.ChatMessage;
+import swyp.dodream.domain.chat.domain.ChatRoom;
+import swyp.dodream.domain.search.repository.PostDocumentRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+        "spring.data.redis.repositories.enabled=false",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration"
+    }
+)
+@ActiveProfiles("test")
+@Transactional
+class ChatMessageRepositoryTest {
+
+    // snowflake id 가 17자리 → 18자리로 넘어가는 경계 양쪽
+    private static final String OLD_1 = "99999999999999990";
+    private static final String OLD_2 = "99999999999999995";
+    private static final String NEW_1 = "100000000000000010";
+    private static final String NEW_2 = "100000000000000020";
+
+    @MockBean
+    private PostDocumentRepository postDocumentRepository;
+
+    @MockBean
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        SnowflakeIdService idService = mock(SnowflakeIdService.class);
+        when(idService.nextStringId()).thenReturn("200");
+        room = chatRoomRepository.save(new ChatRoom(1L, 10L, 20L, idService));
+
+        for (String id : List.of(OLD_1, NEW_1, OLD_2, NEW_2)) {
+            ChatMessage message = new ChatMessage();
+            message.setId(id);
+            message.setChatRoom(room);
+            message.setSenderUserId(10L);
+            message.setBody("message " + id);
+            chatMessageRepository.save(message);
+        }
+        chatMessageRepository.flush();
+    }
+
+    @Test
+    void 최신_메시지는_자릿수가_늘어난_id_부터_조회() {
+        List<String> ids = chatMessageRepository.findLatestByRoomId(room.getId(), PageRequest.of(0, 10))
+                .map(ChatMessage::getId)
+                .getContent();
+
+        assertThat(ids).containsExactly(NEW_2, NEW_1, OLD_2, OLD_1);
+    }
+
+    @Test
+    void 커서_이전_메시지는_자릿수_경계를_넘어_이어서_조회() {
+        List<String> firstPage = chatMessageRepository.findLatestByRoomId(room.getId(), PageRequest.of(0, 2))
+                .map(ChatMessage::getId)
+                .getContent();
+        List<String> nextPage = chatMessageRepository.findByRoomIdBeforeCursor(
+                        room.getId(), Long.parseLong(firstPage.get(1)), PageRequest.of(0, 2))
+                .map(ChatMessage::getId)
+                .getContent();
+
+        assertThat(firstPage).containsExactly(NEW_2, NEW_1);
+        assertThat(nextPage).containsExactly(OLD_2, OLD_1);
+    }
+}
@@ -0,0 +1,126 @@
+package swyp.dodream.domain.chat.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+import swyp.dodream.domain.chat.domain.ChatMessage;
+import swyp.dodream.domain.chat.domain.ChatParticipant;
+import swyp.dodream.domain.chat.domain.ChatParticipantId;
+import swyp.dodream.domain.chat.domain.ChatRoom;
+import swyp.dodream.domain.search.repository.PostDocumentRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+        "spring.data.redis.repositories.enabled=false",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration"
+    }
+)
+@ActiveProfiles("test")
+@Transactional
+class ChatParticipantRepositoryTest {
+
+    private static final Long LEADER_ID = 10L;
+    private static final Long MEMBER_ID = 20L;
+
+    // snowflake id 가 17자리 → 18자리로 넘어가는 경계 양쪽
+    private static final String OLD_1 = "99999999999999990";
+    private static final String OLD_2 = "99999999999999995";
+    private static final String NEW_1 = "100000000000000010";
+
+    @MockBean
+    private PostDocumentRepository postDocumentRepository;
+
+    @MockBean
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatParticipantRepository chatParticipantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ChatRoom room;
+
+    @BeforeEach
+    void setUp() {
+        SnowflakeIdService idService = mock(SnowflakeIdService.class);
+        when(idService.nextStringId()).thenReturn("400");
+        room = chatRoomRepository.save(new ChatRoom(1L, LEADER_ID, MEMBER_ID, idService));
+        chatParticipantRepository.saveAll(List.of(
+                new ChatParticipant(room, LEADER_ID), new ChatParticipant(room, MEMBER_ID)));
+
+        // 리더가 보낸 메시지 3개 (멤버 입장에서 안 읽은 메시지 후보)
+        for (String id : List.of(OLD_1, OLD_2, NEW_1)) {
+            ChatMessage message = new ChatMessage();
+            message.setId(id);
+            message.setChatRoom(room);
+            message.setSenderUserId(LEADER_ID);
+            message.setBody("message " + id);
+            chatMessageRepository.save(message);
+        }
+        chatMessageRepository.flush();
+    }
+
+    @Test
+    void 읽음_기준이_17자리여도_18자리_메시지로_이동() {
+        chatParticipantRepository.advanceReadCursor(room.getId(), MEMBER_ID, OLD_1);
+        int advanced = chatParticipantRepository.advanceReadCursor(room.getId(), MEMBER_ID, NEW_1);
+        int rewound = chatParticipantRepository.advanceReadCursor(room.getId(), MEMBER_ID, OLD_2);
+
+        entityManager.clear();
+        assertThat(advanced).isEqualTo(1);
+        assertThat(rewound).isZero();
+        assertThat(readCursor()).isEqualTo(NEW_1);
+    }
+
+    @Test
+    void 안_읽은_수는_읽음_기준보다_숫자로_큰_메시지만_집계() {
+        chatParticipantRepository.advanceReadCursor(room.getId(), MEMBER_ID, OLD_2);
+
+        assertThat(unreadCount()).isEqualTo(1L);
+
+        chatParticipantRepository.advanceReadCursor(room.getId(), MEMBER_ID, NEW_1);
+
+        assertThat(unreadCount()).isZero();
+    }
+
+    private String readCursor() {
+        return chatParticipantRepository.findById(new ChatParticipantId(room.getId(), MEMBER_ID))
+                .orElseThrow()
+                .getLastReadMessageId();
+    }
+
+    private long unreadCount() {
+        return chatParticipantRepository.countUnreadGroupByRoom(
+                        MEMBER_ID, List.of(room.getId()), ChatMessage.MessageType.TALK).stream()
+                .mapToLong(row -> (Long) row[1])
+                .sum();
+    }
+}
@@ -0,0 +1,75 @@
+package swyp.dodream.domain.chat.repository;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import swyp.dodream.common.snowflake.SnowflakeIdService;
+import swyp.dodream.domain.chat.domain.ChatRoom;
+import swyp.dodream.domain.search.repository.PostDocumentRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(
+    properties = {
+        "spring.data.redis.repositories.enabled=false",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,org.springframework.boot.autoconfigure.elasticsearch.ElasticsearchClientAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchDataAutoConfiguration,org.springframework.boot.autoconfigure.data.elasticsearch.ElasticsearchRepositoriesAutoConfiguration"
+    }
+)
+@ActiveProfiles("test")
+@Transactional
+class ChatRoomRepositoryTest {
+
+    @MockBean
+    private PostDocumentRepository postDocumentRepository;
+
+    @MockBean
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @MockBean
+    private RedisTemplate<String, String> redisTemplate;
+
+    @MockBean
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String roomId;
+
+    @BeforeEach
+    void setUp() {
+        SnowflakeIdService idService = mock(SnowflakeIdService.class);
+        when(idService.nextStringId()).thenReturn("300");
+        roomId = chatRoomRepository.saveAndFlush(new ChatRoom(1L, 10L, 20L, idService)).getId();
+    }
+
+    @Test
+    void 늦게_반영된_이전_메시지는_마지막_메시지를_덮어쓰지_않음() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int newer = chatRoomRepository.advanceLastMessage(roomId, "100000000000000020", "newer", now);
+        int older = chatRoomRepository.advanceLastMessage(roomId, "99999999999999990", "older", now.minusSeconds(1));
+
+        entityManager.clear();
+        ChatRoom room = chatRoomRepository.findById(roomId).orElseThrow();
+        assertThat(newer).isEqualTo(1);
+        assertThat(older).isZero();
+        assertThat(room.getLastMessageId()).isEqualTo("100000000000000020");
+        assertThat(room.getLastMessageBody()).isEqualTo("newer");
+    }
+}
@@ -0,0 +1,87 @@
+package swyp.dodream.domain.search.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import swyp.dodream.common.redis.RedisLock;
+import swyp.dodream.domain.post.domain.Post;
+import swyp.dodream.domain.post.repository.PostRepository;
+import swyp.dodream.domain.search.document.PostDocument;
+import swyp.dodream.domain.search.dto.ReindexProgress;
+import swyp.dodream.domain.search.repository.PostDocumentRepository;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostReindexServiceTest {
+
+    private static final String OLD_INDEX = "posts_20250101000000";
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostDocumentRepository postDocumentRepository = mock(PostDocumentRepository.class);
+    private final PostIndexService postIndexService = mock(PostIndexService.class);
+    private final RedisLock redisLock = mock(RedisLock.class);
+
+    private PostReindexService reindexService;
+
+    @BeforeEach
+    void setUp() {
+        when(redisLock.tryLock(anyString(), any())).thenReturn("token");
+        when(redisLock.renew(anyString(), anyString(), any())).thenReturn(true);
+        when(postDocumentRepository.resolveIndices(PostDocument.INDEX_ALIAS)).thenReturn(Set.of(OLD_INDEX));
+        when(postIndexService.toDocuments(anyList())).thenAnswer(invocation -> {
+            List<Post> posts = invocation.getArgument(0);
+            return posts.stream().map(post -> PostDocument.builder().id(post.getId()).build()).toList();
+        });
+
+        reindexService = new PostReindexService(postRepository, postDocumentRepository, postIndexService,
+                redisLock, mock(PlatformTransactionManager.class), 500, 2);
+    }
+
+    @Test
+    void 재색인_중_삭제된_게시글은_alias_교체_전에_새_인덱스에서_제거() throws InterruptedException {
+        // 복사 chunk 를 읽을 때는 두 게시글 모두 있었고, 그 뒤 2번 게시글이 (다른 노드에서) 삭제됨
+        List<Post> posts = List.of(post(1L), post(2L));
+        when(postRepository.count()).thenReturn(2L);
+        when(postRepository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(posts);
+        when(postRepository.findDeletedIdsUpdatedSince(any(), eq(0L), anyInt())).thenReturn(List.of(2L));
+
+        String indexName = reindexService.start().indexName();
+        ReindexProgress progress = awaitFinished();
+
+        assertThat(progress.state()).isEqualTo(ReindexProgress.State.COMPLETED);
+        InOrder inOrder = inOrder(postDocumentRepository);
+        inOrder.verify(postDocumentRepository).bulkCreate(anyList(), eq(indexName));
+        inOrder.verify(postDocumentRepository).completeBulkLoad(indexName);
+        inOrder.verify(postDocumentRepository).deleteAllById(List.of(2L), indexName);
+        inOrder.verify(postDocumentRepository).switchAlias(PostDocument.INDEX_ALIAS, indexName, Set.of(OLD_INDEX));
+    }
+
+    private static Post post(Long id) {
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(id);
+        return post;
+    }
+
+    private ReindexProgress awaitFinished() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            ReindexProgress progress = reindexService.getProgress();
+            if (!progress.running()) {
+                return progress;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("재색인이 끝나지 않았습니다.");
+    }
+}